@@ -56,17 +56,14 @@ public function main() returns error? {
     _ = check mcClient->/medicalitem.post([item2, item3, item4]);
 
     io:println("\n========== type1 ==========");
-    _ = check from entity:MedicalItem itemx in mcClient->/medicalitem.get()
-        where itemx.itemType == "type1"
+    _ = check from entity:MedicalItem itemx in mcClient->/medicalitem.get({itemType: "type1"})
         do {
             io:println(itemx);
         };
 
     io:println("\n========== type2 ==========");
-    _ = check from entity:MedicalItem itemx in mcClient->/medicalitem.get()
-        where itemx.itemType == "type2"
-        order by itemx.itemId
-        limit 2
+    _ = check from entity:MedicalItem itemx in mcClient->/medicalitem.get({itemType: "type2"}, ["itemId"],
+            maxRows = 2)
         do {
             io:println(itemx);
         };
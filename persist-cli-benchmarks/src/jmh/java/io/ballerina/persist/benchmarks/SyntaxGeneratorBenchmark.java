@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.benchmarks;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.nodegenerator.BalSyntaxGenerator;
+import io.ballerina.tools.text.TextDocuments;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the persist model reader and the code generators over synthetic models. Run with the GC profiler to
+ * get the allocation rate along with the throughput.
+ *
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SyntaxGeneratorBenchmark {
+
+    private static final String MODULE_NAME = "benchmark";
+    private static final long SEED = 42;
+    private static final int FIELD_COUNT = 3;
+
+    @Param({"10", "100", "1000", "5000"})
+    private int entityCount;
+
+    @Param({"1", "8"})
+    private int fanOut;
+
+    private SyntaxTree modelSyntaxTree;
+    private Module entityModule;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, BalException {
+        String model = ModelGenerator.newBuilder(SEED)
+                .setEntityCount(entityCount)
+                .setFieldCount(FIELD_COUNT)
+                .setMaxFanOut(fanOut)
+                .build()
+                .generate();
+        modelSyntaxTree = SyntaxTree.from(TextDocuments.from(model));
+        entityModule = readModule(modelSyntaxTree);
+        BalSyntaxGenerator.inferRelationDetails(entityModule);
+    }
+
+    /**
+     * Module without the relation details. The relation details are inferred in place, so a new module is read
+     * for each invocation.
+     */
+    @State(Scope.Thread)
+    public static class UninferredModule {
+
+        private Module entityModule;
+
+        @Setup(Level.Invocation)
+        public void setup(SyntaxGeneratorBenchmark benchmark) throws IOException, BalException {
+            entityModule = readModule(benchmark.modelSyntaxTree);
+        }
+    }
+
+    @Benchmark
+    public Module populateEntities() throws IOException, BalException {
+        return readModule(modelSyntaxTree);
+    }
+
+    @Benchmark
+    public Module inferRelationDetails(UninferredModule uninferredModule) {
+        BalSyntaxGenerator.inferRelationDetails(uninferredModule.entityModule);
+        return uninferredModule.entityModule;
+    }
+
+    @Benchmark
+    public SyntaxTree generateClientSyntaxTree() throws BalException {
+        return BalSyntaxGenerator.generateClientSyntaxTree(entityModule);
+    }
+
+    @Benchmark
+    public SyntaxTree generateTypeSyntaxTree() {
+        return BalSyntaxGenerator.generateTypeSyntaxTree(entityModule);
+    }
+
+    @Benchmark
+    public String generateFormattedClient() throws BalException, FormatterException {
+        return Formatter.format(BalSyntaxGenerator.generateClientSyntaxTree(entityModule).toSourceCode());
+    }
+
+    private static Module readModule(SyntaxTree syntaxTree) throws IOException, BalException {
+        Module.Builder moduleBuilder = Module.newBuilder(MODULE_NAME);
+        BalSyntaxGenerator.populateEntities(moduleBuilder, syntaxTree);
+        return moduleBuilder.build();
+    }
+}
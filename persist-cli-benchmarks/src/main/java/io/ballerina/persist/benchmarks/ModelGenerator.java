@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Generates persist model definition files of a configurable size for the benchmarks and the scale tests. The entities
+ * form a tree of one-to-one and one-to-many relations. The generation is deterministic, so the same seed and options
+ * always generate the same model.
+ *
+ * @since 0.1.0
+ */
+public class ModelGenerator {
+
+    /**
+     * Shape of the entity keys.
+     */
+    public enum KeyShape {
+        INT,
+        STRING,
+        COMPOSITE,
+        MIXED
+    }
+
+    private static final String[] FIELD_TYPES = {"int", "string", "boolean", "decimal", "float", "time:Date"};
+    private static final double OPTIONAL_FIELD_RATIO = 0.1;
+
+    private final long seed;
+    private final int entityCount;
+    private final int fieldCount;
+    private final KeyShape keyShape;
+    private final double oneToOneRatio;
+    private final int maxFanOut;
+
+    private ModelGenerator(Builder builder) {
+        this.seed = builder.seed;
+        this.entityCount = builder.entityCount;
+        this.fieldCount = builder.fieldCount;
+        this.keyShape = builder.keyShape;
+        this.oneToOneRatio = builder.oneToOneRatio;
+        this.maxFanOut = builder.maxFanOut;
+    }
+
+    public static Builder newBuilder(long seed) {
+        return new Builder(seed);
+    }
+
+    public String generate() {
+        Random random = new Random(seed);
+        List<StringBuilder> entities = new ArrayList<>(entityCount);
+        List<Integer> parents = new ArrayList<>();
+        int[] childCounts = new int[entityCount];
+        for (int entity = 0; entity < entityCount; entity++) {
+            StringBuilder entityBuilder = new StringBuilder();
+            KeyShape entityKeyShape = keyShape == KeyShape.MIXED ?
+                    KeyShape.values()[random.nextInt(KeyShape.MIXED.ordinal())] : keyShape;
+            if (entityKeyShape != KeyShape.STRING) {
+                appendField(entityBuilder, "readonly int id");
+            }
+            if (entityKeyShape != KeyShape.INT) {
+                appendField(entityBuilder, "readonly string code");
+            }
+            for (int field = 0; field < fieldCount; field++) {
+                String fieldType = FIELD_TYPES[random.nextInt(FIELD_TYPES.length)];
+                if (random.nextDouble() < OPTIONAL_FIELD_RATIO) {
+                    fieldType = fieldType + "?";
+                }
+                appendField(entityBuilder, fieldType + " field" + field);
+            }
+            if (entity > 0) {
+                int parentIndex = random.nextInt(parents.size());
+                int parent = parents.get(parentIndex);
+                if (++childCounts[parent] == maxFanOut) {
+                    parents.set(parentIndex, parents.get(parents.size() - 1));
+                    parents.remove(parents.size() - 1);
+                }
+                appendField(entityBuilder, getEntityName(parent) + " " + getFieldName(parent));
+                if (random.nextDouble() < oneToOneRatio) {
+                    appendField(entities.get(parent), getEntityName(entity) + "? " + getFieldName(entity));
+                } else {
+                    appendField(entities.get(parent), getEntityName(entity) + "[] " + getFieldName(entity) + "List");
+                }
+            }
+            entities.add(entityBuilder);
+            parents.add(entity);
+        }
+
+        StringBuilder model = new StringBuilder();
+        model.append("import ballerina/time;").append(System.lineSeparator());
+        model.append("import ballerina/persist as _;").append(System.lineSeparator());
+        for (int entity = 0; entity < entityCount; entity++) {
+            model.append(System.lineSeparator());
+            model.append("type ").append(getEntityName(entity)).append(" record {|").append(System.lineSeparator());
+            model.append(entities.get(entity));
+            model.append("|};").append(System.lineSeparator());
+        }
+        return model.toString();
+    }
+
+    public void write(Path modelFile) throws IOException {
+        Files.createDirectories(Objects.requireNonNull(modelFile.toAbsolutePath().getParent()));
+        Files.writeString(modelFile, generate(), StandardCharsets.UTF_8);
+    }
+
+    private static void appendField(StringBuilder entityBuilder, String field) {
+        entityBuilder.append("    ").append(field).append(";").append(System.lineSeparator());
+    }
+
+    private static String getEntityName(int entity) {
+        return "Entity" + entity;
+    }
+
+    private static String getFieldName(int entity) {
+        return "entity" + entity;
+    }
+
+    /**
+     * Builder of the model generator.
+     */
+    public static class Builder {
+        private final long seed;
+        private int entityCount = 10;
+        private int fieldCount = 5;
+        private KeyShape keyShape = KeyShape.INT;
+        private double oneToOneRatio = 0.3;
+        private int maxFanOut = 4;
+
+        private Builder(long seed) {
+            this.seed = seed;
+        }
+
+        public Builder setEntityCount(int entityCount) {
+            this.entityCount = entityCount;
+            return this;
+        }
+
+        public Builder setFieldCount(int fieldCount) {
+            this.fieldCount = fieldCount;
+            return this;
+        }
+
+        public Builder setKeyShape(KeyShape keyShape) {
+            this.keyShape = keyShape;
+            return this;
+        }
+
+        public Builder setOneToOneRatio(double oneToOneRatio) {
+            this.oneToOneRatio = oneToOneRatio;
+            return this;
+        }
+
+        public Builder setMaxFanOut(int maxFanOut) {
+            this.maxFanOut = maxFanOut;
+            return this;
+        }
+
+        public ModelGenerator build() {
+            if (entityCount < 1 || fieldCount < 0 || maxFanOut < 1) {
+                throw new IllegalArgumentException("The entity count and the maximum fan-out should be positive " +
+                        "and the field count should not be negative.");
+            }
+            return new ModelGenerator(this);
+        }
+    }
+}
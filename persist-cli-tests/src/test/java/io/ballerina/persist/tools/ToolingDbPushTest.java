@@ -22,15 +22,26 @@ import io.ballerina.persist.BalException;
 import io.ballerina.persist.tools.utils.PersistTable;
 import io.ballerina.persist.tools.utils.PersistTableColumn;
 import jdk.jfr.Description;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
 
 import static io.ballerina.persist.tools.utils.DatabaseTestUtils.assertCreateDatabaseTables;
 import static io.ballerina.persist.tools.utils.DatabaseTestUtils.assertCreatedDatabaseNegative;
 import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.Command.DB_PUSH;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.Command.GENERATE;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.GENERATED_SOURCES_DIRECTORY;
 import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.assertGeneratedSources;
 import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.assertGeneratedSourcesNegative;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.generateSourceCode;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.runBallerinaProject;
 
 /**
  * persist tool db push command tests.
@@ -229,4 +240,46 @@ public class ToolingDbPushTest {
     public void testDbPushWithCompositeReferenceKeys() {
         assertGeneratedSources("tool_test_db_push_22", DB_PUSH);
     }
+
+    @Test(enabled = true)
+    @Description("Run the generated client against the database tables created by the db push command")
+    public void testDbPushWithGeneratedClient() throws IOException, InterruptedException {
+        String osName = System.getProperty("os.name");
+        if (osName.toLowerCase(Locale.getDefault()).contains("windows")) {
+            return;
+        }
+        Path sourcePath = Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_db_push_23");
+        generateSourceCode(sourcePath, GENERATE);
+        generateSourceCode(sourcePath, DB_PUSH);
+        List<String> output = runBallerinaProject(sourcePath).lines().collect(Collectors.toList());
+
+        // The records are inserted in batches of the size given to the client, and a batch size below one is rejected
+        assertOutputLine(output, "invalid batch size: The batch size should be a positive integer, found 0.");
+        assertOutputLine(output, "batch sizes: [2,2,1]");
+        assertOutputLine(output, "keys with batch handler: []");
+        assertOutputLine(output, "keys: [6,7]");
+        // The upsert updates the existing record and inserts the new one
+        assertOutputLine(output, "upserted quantity: 40");
+        assertOutputLine(output, "count: 8");
+        // A missing key is reported as an invalid key error instead of the sql:NoRowsError
+        assertOutputLine(output, "missing key error: true");
+        assertOutputLine(output, "missing key message: A record does not exist for 'Item' for key 100.");
+        assertOutputLine(output, "missing key delete error: true");
+        // The filter, the order and the row limit are applied by the database
+        assertOutputLine(output, "top fruits: apple,fig");
+        assertOutputLine(output, "vegetables: carrot,eggplant");
+        assertOutputLine(output, "negative row limit: 8");
+        // The pages are read after the key of the cursor until a page is not full, and a page size below one fails
+        assertOutputLine(output, "pages: [1,2,3] [4,5,6] [7,8]");
+        assertOutputLine(output, "invalid page size: The page size should be a positive integer, found 0.");
+        assertOutputLine(output, "fruit count: 6");
+        assertOutputLine(output, "exists 1: true");
+        assertOutputLine(output, "exists 100: false");
+        assertOutputLine(output, "projected fields: 8 [\"name\"]");
+        assertOutputLine(output, "empty projection: At least one field should be selected.");
+    }
+
+    private static void assertOutputLine(List<String> output, String expectedLine) {
+        Assert.assertTrue(output.contains(expectedLine), "Missing line `" + expectedLine + "` in " + output);
+    }
 }
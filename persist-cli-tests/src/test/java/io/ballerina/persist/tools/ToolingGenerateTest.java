@@ -18,18 +18,54 @@
 
 package io.ballerina.persist.tools;
 
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.cmd.Generate;
+import io.ballerina.persist.cmd.GenerateTask;
+import io.ballerina.persist.nodegenerator.BalSyntaxGenerator;
+import io.ballerina.persist.utils.BalProjectUtils;
+import io.ballerina.persist.utils.ParallelTaskRunner;
+import io.ballerina.persist.utils.PhaseProfiler;
+import io.ballerina.projects.directory.BuildProject;
 import jdk.jfr.Description;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.Command.GENERATE;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.GENERATED_SOURCES_DIRECTORY;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.RESOURCES_EXPECTED_OUTPUT;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.assertCompilation;
 import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.assertGeneratedSources;
 import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.assertGeneratedSourcesNegative;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.generateSourceCode;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.generateSourceCodeWithOutput;
 
 /**
  * persist tool generate command tests.
  */
 public class ToolingGenerateTest {
 
+    private static final long WATCH_TIMEOUT = 60000;
+
     @Test(enabled = true)
     @Description("There is only a single entity in the Ballerina project")
     public void testGenerateSingleEntity() {
@@ -246,4 +282,374 @@ public class ToolingGenerateTest {
     public void testGenerateRelationsWithSingleQuote() {
         assertGeneratedSources("tool_test_generate_36", GENERATE);
     }
+
+    @Test(enabled = true)
+    @Description("Test the generate command skips the generation when the model definition is unchanged")
+    public void testGenerateWithUnchangedModel() throws IOException {
+        assertGeneratedSources("tool_test_generate_37", GENERATE);
+        Path projectPath = Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_generate_37");
+        Path clientPath = projectPath.resolve(Paths.get("generated", "foo", "generated_client.bal"));
+        String modifiedClient = Files.readString(clientPath) + "// modified client" + System.lineSeparator();
+        Files.writeString(clientPath, modifiedClient);
+        generateSourceCode(projectPath, GENERATE);
+        Assert.assertEquals(Files.readString(clientPath), modifiedClient);
+
+        Path modelPath = projectPath.resolve(Paths.get("persist", "foo.bal"));
+        Files.writeString(modelPath, Files.readString(modelPath) + System.lineSeparator());
+        assertGeneratedSources("tool_test_generate_37", GENERATE);
+    }
+
+    @Test(enabled = true)
+    @Description("Test the generate command with multiple model definition files generated in parallel")
+    public void testGenerateWithParallelJobs() {
+        assertGeneratedSources("tool_test_generate_38", GENERATE, "--jobs", "4");
+    }
+
+    @Test(enabled = true)
+    @Description("Test that the tasks run concurrently with more than one job, and that their messages and results " +
+            "are handled in the order of the inputs")
+    public void testParallelTaskRunnerWithJobs() {
+        List<Integer> inputs = List.of(0, 1, 2, 3, 4, 5, 6, 7);
+        int jobs = 4;
+        CountDownLatch running = new CountDownLatch(jobs);
+        List<Integer> handled = new ArrayList<>();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (PrintStream outStream = new PrintStream(output, true, StandardCharsets.UTF_8)) {
+            ParallelTaskRunner.run(inputs, jobs, outStream, (input, taskStream) -> {
+                Assert.assertNotSame(taskStream, outStream);
+                running.countDown();
+                try {
+                    // The first tasks pass only if all the workers run at the same time.
+                    Assert.assertTrue(running.await(WATCH_TIMEOUT, TimeUnit.MILLISECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+                taskStream.println("task " + input);
+                return input * 2;
+            }, (input, result) -> {
+                Assert.assertEquals(result.intValue(), input * 2);
+                handled.add(input);
+            });
+        }
+        Assert.assertEquals(handled, inputs);
+        StringBuilder expectedOutput = new StringBuilder();
+        inputs.forEach(input -> expectedOutput.append("task ").append(input).append(System.lineSeparator()));
+        Assert.assertEquals(output.toString(StandardCharsets.UTF_8), expectedOutput.toString());
+    }
+
+    @Test(enabled = true)
+    @Description("Test that the tasks run on the calling thread and print to the given stream with a single job")
+    public void testParallelTaskRunnerWithSingleJob() {
+        List<Integer> inputs = List.of(0, 1, 2);
+        Thread caller = Thread.currentThread();
+        List<Integer> handled = new ArrayList<>();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (PrintStream outStream = new PrintStream(output, true, StandardCharsets.UTF_8)) {
+            ParallelTaskRunner.run(inputs, 1, outStream, (input, taskStream) -> {
+                Assert.assertSame(taskStream, outStream);
+                Assert.assertSame(Thread.currentThread(), caller);
+                // The result of the previous input is handled before the next task starts.
+                Assert.assertEquals(handled.size(), input.intValue());
+                taskStream.println("task " + input);
+                return input;
+            }, (input, result) -> handled.add(result));
+        }
+        Assert.assertEquals(handled, inputs);
+    }
+
+    @Test(enabled = true)
+    @Description("Test the generate command doesn't rewrite the generated sources when the content is unchanged")
+    public void testGenerateWithUnchangedSources() throws IOException {
+        assertGeneratedSources("tool_test_generate_40", GENERATE);
+        Path projectPath = Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_generate_40");
+        Path clientPath = projectPath.resolve(Paths.get("generated", "foo", "generated_client.bal"));
+        FileTime lastModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(clientPath, lastModifiedTime);
+
+        Files.delete(projectPath.resolve(Paths.get("target", "persist", "generate.manifest")));
+        assertGeneratedSources("tool_test_generate_40", GENERATE);
+        Assert.assertEquals(Files.getLastModifiedTime(clientPath), lastModifiedTime);
+    }
+
+    @Test(enabled = true)
+    @Description("Test the generate command with the phase timings printed")
+    public void testGenerateWithProfile() {
+        String output = generateSourceCodeWithOutput(Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_generate_42"),
+                "--profile");
+        Assert.assertTrue(output.contains("Phase timings of the `persist generate` command:"), output);
+        Assert.assertTrue(Pattern.compile("(?m)^Model\\s+Phase\\s+Time \\(ms\\)$").matcher(output).find(), output);
+        assertPhaseRow(output, PhaseProfiler.PROJECT_MODEL, PhaseProfiler.LOAD_PROJECT);
+        for (String phase : new String[]{PhaseProfiler.LOAD_SNAPSHOT, PhaseProfiler.VALIDATE_MODEL,
+                PhaseProfiler.POPULATE_ENTITIES, PhaseProfiler.INFER_RELATIONS, PhaseProfiler.BUILD_SYNTAX_TREE,
+                PhaseProfiler.FORMAT, PhaseProfiler.WRITE_FILES, "total"}) {
+            assertPhaseRow(output, "foo", phase);
+        }
+        assertGeneratedSources("tool_test_generate_42", GENERATE, "--profile");
+    }
+
+    @Test(enabled = true)
+    @Description("Test the generate command with the per-entity layout and switching back to the single layout")
+    public void testGenerateWithPerEntityLayout() {
+        Path generatedPath = Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_generate_41", "generated", "foo");
+        String[] entityFiles = {"generated_entity_building.bal", "generated_entity_workspace.bal",
+                "generated_entity_department.bal", "generated_entity_employee.bal"};
+        generateSourceCode(Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_generate_41"), GENERATE,
+                "--layout", "per-entity");
+        for (String entityFile : entityFiles) {
+            Assert.assertTrue(Files.isRegularFile(generatedPath.resolve(entityFile)));
+        }
+        Assert.assertTrue(Files.isRegularFile(generatedPath.resolve("generated_client.bal")));
+        Assert.assertFalse(Files.exists(generatedPath.resolve("generated_types.bal")));
+        assertCompilation("tool_test_generate_41");
+
+        generateSourceCode(Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_generate_41"), GENERATE);
+        for (String entityFile : entityFiles) {
+            Assert.assertFalse(Files.exists(generatedPath.resolve(entityFile)));
+        }
+        Assert.assertTrue(Files.isRegularFile(generatedPath.resolve("generated_types.bal")));
+        assertCompilation("tool_test_generate_41");
+    }
+
+    @Test(enabled = true)
+    @Description("Test the generate command with the entities loaded from the model snapshot")
+    public void testGenerateWithModelSnapshot() throws IOException {
+        assertGeneratedSources("tool_test_generate_43", GENERATE);
+        Path projectPath = Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_generate_43");
+        Assert.assertTrue(Files.isRegularFile(projectPath.resolve(Paths.get("target", "persist", "foo.model"))));
+
+        Files.delete(projectPath.resolve(Paths.get("target", "persist", "generate.manifest")));
+        Files.delete(projectPath.resolve(Paths.get("generated", "foo", "generated_client.bal")));
+        assertGeneratedSources("tool_test_generate_43", GENERATE);
+    }
+
+    @Test(enabled = true)
+    @Description("There is an entity without an identity readonly field in the schema")
+    public void testGenerateWithoutIdentityField() {
+        assertGeneratedSourcesNegative("tool_test_generate_44", GENERATE, new String[]{
+                Paths.get("generated", "entities", "generated_client.bal").toString(),
+                Paths.get("generated", "entities", "generated_types.bal").toString()});
+    }
+
+    @Test(enabled = true)
+    @Description("There are entities and fields with duplicate names in the schema")
+    public void testGenerateWithDuplicateNames() {
+        assertGeneratedSourcesNegative("tool_test_generate_47", GENERATE, new String[]{
+                Paths.get("generated", "entities", "generated_client.bal").toString(),
+                Paths.get("generated", "entities", "generated_types.bal").toString()});
+    }
+
+    @Test(enabled = true)
+    @Description("There is a field of a type from a module which is not imported in the schema")
+    public void testGenerateWithUndefinedModule() {
+        assertGeneratedSourcesNegative("tool_test_generate_48", GENERATE, new String[]{
+                Paths.get("generated", "entities", "generated_client.bal").toString(),
+                Paths.get("generated", "entities", "generated_types.bal").toString()});
+    }
+
+    @Test(enabled = true)
+    @Description("There is a field which refers to an entity not defined in the schema")
+    public void testGenerateWithUnknownEntity() {
+        assertGeneratedSourcesNegative("tool_test_generate_49", GENERATE, new String[]{
+                Paths.get("generated", "entities", "generated_client.bal").toString(),
+                Paths.get("generated", "entities", "generated_types.bal").toString()});
+    }
+
+    @Test(enabled = true)
+    @Description("There is a field with an unsupported data type in the schema")
+    public void testGenerateWithUnsupportedType() {
+        assertGeneratedSourcesNegative("tool_test_generate_50", GENERATE, new String[]{
+                Paths.get("generated", "entities", "generated_client.bal").toString(),
+                Paths.get("generated", "entities", "generated_types.bal").toString()});
+    }
+
+    @Test(enabled = true)
+    @Description("There is an identity readonly field which is a relation in the schema")
+    public void testGenerateWithRelationAsIdentityField() {
+        assertGeneratedSourcesNegative("tool_test_generate_51", GENERATE, new String[]{
+                Paths.get("generated", "entities", "generated_client.bal").toString(),
+                Paths.get("generated", "entities", "generated_types.bal").toString()});
+    }
+
+    @Test(enabled = true)
+    @Description("There is no ballerina/persist import in the schema")
+    public void testGenerateWithMissingPersistImport() {
+        assertGeneratedSourcesNegative("tool_test_generate_52", GENERATE, new String[]{
+                Paths.get("generated", "entities", "generated_client.bal").toString(),
+                Paths.get("generated", "entities", "generated_types.bal").toString()});
+    }
+
+    @Test(enabled = true)
+    @Description("There is a field with a default value of a different type in the schema")
+    public void testGenerateWithIncompatibleDefaultValue() {
+        assertGeneratedSourcesNegative("tool_test_generate_53", GENERATE, new String[]{
+                Paths.get("generated", "entities", "generated_client.bal").toString(),
+                Paths.get("generated", "entities", "generated_types.bal").toString()});
+    }
+
+    @Test(enabled = true)
+    @Description("There is a function with compilation errors in the schema")
+    public void testGenerateWithInvalidFunction() {
+        assertGeneratedSourcesNegative("tool_test_generate_54", GENERATE, new String[]{
+                Paths.get("generated", "entities", "generated_client.bal").toString(),
+                Paths.get("generated", "entities", "generated_types.bal").toString()});
+    }
+
+    @Test(enabled = true)
+    @Description("There is an entity which is an open record in the schema")
+    public void testGenerateWithOpenRecordEntity() {
+        assertGeneratedSourcesNegative("tool_test_generate_55", GENERATE, new String[]{
+                Paths.get("generated", "entities", "generated_client.bal").toString(),
+                Paths.get("generated", "entities", "generated_types.bal").toString()});
+    }
+
+    @Test(enabled = true)
+    @Description("Test the generated types and filters of an entity with an array field")
+    public void testGenerateWithByteArrayField() {
+        assertGeneratedSources("tool_test_generate_56", GENERATE);
+    }
+
+    @Test(enabled = true)
+    @Description("Test the generation inside a process which has already loaded the Ballerina project")
+    public void testGenerateTaskWithLoadedProject() throws BalException, IOException {
+        Path projectPath = Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_generate_45").toAbsolutePath();
+        BuildProject buildProject = BuildProject.load(projectPath);
+        Assert.assertTrue(new GenerateTask(buildProject).execute(System.err));
+        Assert.assertFalse(new GenerateTask(buildProject).execute(System.err));
+        // The data models are generated again without the manifest, but the generated sources are not changed.
+        Files.delete(projectPath.resolve(Paths.get("target", "persist", "generate.manifest")));
+        Assert.assertFalse(new GenerateTask(buildProject).execute(System.err));
+        assertGeneratedSources("tool_test_generate_45", GENERATE);
+    }
+
+    @Test(enabled = true)
+    @Description("Test the generate command with the client fragments of the changed entities spliced into the " +
+            "client generated before")
+    public void testGenerateWithChangedEntities() throws IOException {
+        Path projectPath = Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_generate_46");
+        Path modelPath = projectPath.resolve(Paths.get("persist", "foo.bal"));
+        generateSourceCode(projectPath, GENERATE);
+        Assert.assertTrue(Files.isRegularFile(projectPath.resolve(Paths.get("target", "persist", "foo.client"))));
+
+        String model = Files.readString(modelPath);
+        Files.writeString(modelPath, model.replace("string deptName;", "string deptName;\n    string location;"));
+        assertSplicedClient(projectPath);
+
+        model = Files.readString(modelPath);
+        Files.writeString(modelPath, model.replace("readonly string buildingCode;", "readonly int buildingCode;")
+                .replace("string gender;", "int gender;"));
+        assertSplicedClient(projectPath);
+        assertCompilation("tool_test_generate_46");
+    }
+
+    @Test(enabled = true)
+    @Description("Test the watch mode of the generate command with the model definition file and the " +
+            "Ballerina.toml file changed between two regenerations")
+    public void testGenerateWithWatch() throws IOException, InterruptedException {
+        Path projectPath = Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_generate_57").toAbsolutePath();
+        Path modelPath = projectPath.resolve(Paths.get("persist", "entities.bal"));
+        Path tomlPath = projectPath.resolve("Ballerina.toml");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream outStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+        Generate persistCmd = new Generate(projectPath.toString(), outStream);
+        new CommandLine(persistCmd).parseArgs("--watch");
+        Thread watcher = new Thread(persistCmd::execute);
+        watcher.start();
+        try {
+            waitFor(() -> output.toString(StandardCharsets.UTF_8).contains("Watching the persist directory"),
+                    output);
+            Path clientPath = projectPath.resolve(Paths.get("generated", "entities", "generated_client.bal"));
+            Assert.assertTrue(Files.isRegularFile(clientPath));
+
+            String model = Files.readString(modelPath);
+            Files.writeString(modelPath, model.replace("time:TimeOfDay m1;", "time:TimeOfDay m1;\n    string n1;"));
+            waitFor(() -> Files.readString(clientPath).contains("n1: {columnName: \"n1\", 'type: string}"), output);
+
+            // The data model named after the new package name is generated into the default module.
+            Files.writeString(tomlPath, Files.readString(tomlPath).replace("persist_generate_57", "entities"));
+            model = Files.readString(modelPath);
+            Files.writeString(modelPath, model.replace("string n1;", "string n1;\n    string o1;"));
+            Path defaultModuleClientPath = projectPath.resolve(Paths.get("generated", "generated_client.bal"));
+            waitFor(() -> Files.isRegularFile(defaultModuleClientPath) && Files.readString(defaultModuleClientPath)
+                    .contains("o1: {columnName: \"o1\", 'type: string}"), output);
+            Assert.assertFalse(Files.readString(clientPath).contains("o1"));
+        } finally {
+            watcher.interrupt();
+            watcher.join(WATCH_TIMEOUT);
+        }
+        Assert.assertFalse(watcher.isAlive());
+        Assert.assertFalse(output.toString(StandardCharsets.UTF_8).contains("Error"), output.toString());
+    }
+
+    private static void assertSplicedClient(Path projectPath) throws IOException {
+        Path clientPath = projectPath.resolve(Paths.get("generated", "foo", "generated_client.bal"));
+        String output = generateSourceCodeWithOutput(projectPath, "--profile");
+        Assert.assertTrue(output.contains(" " + PhaseProfiler.SPLICE_CLIENT + " "), output);
+        String splicedClient = Files.readString(clientPath);
+        Files.delete(projectPath.resolve(Paths.get("target", "persist", "foo.client")));
+        Files.delete(projectPath.resolve(Paths.get("target", "persist", "generate.manifest")));
+        output = generateSourceCodeWithOutput(projectPath, "--profile");
+        Assert.assertFalse(output.contains(" " + PhaseProfiler.SPLICE_CLIENT + " "), output);
+        Assert.assertEquals(splicedClient, Files.readString(clientPath));
+    }
+
+    @DataProvider(name = "typesProjects")
+    public Object[][] typesProjects() {
+        return new Object[][] {
+                {"tool_test_generate_1"}, {"tool_test_generate_2"}, {"tool_test_generate_5"},
+                {"tool_test_generate_6"}, {"tool_test_generate_8"}, {"tool_test_generate_9"},
+                {"tool_test_generate_10"}, {"tool_test_generate_13"}, {"tool_test_generate_16"},
+                {"tool_test_generate_17"}, {"tool_test_generate_19"}, {"tool_test_generate_20"},
+                {"tool_test_generate_21"}, {"tool_test_generate_22"}, {"tool_test_generate_25"},
+                {"tool_test_generate_26"}, {"tool_test_generate_27"}, {"tool_test_generate_28"},
+                {"tool_test_generate_29"}, {"tool_test_generate_34"}, {"tool_test_generate_36"},
+                {"tool_test_generate_37"}, {"tool_test_generate_38"}, {"tool_test_generate_40"},
+                {"tool_test_generate_42"}, {"tool_test_generate_43"}, {"tool_test_generate_45"},
+                {"tool_test_generate_56"}, {"tool_test_sync_1"}
+        };
+    }
+
+    @Test(enabled = true, dataProvider = "typesProjects")
+    @Description("Test that the types are generated byte for byte the same as the expected formatted types")
+    public void testGenerateTypesInFormatterLayout(String project) throws IOException, BalException,
+            FormatterException {
+        Path projectDirectory = RESOURCES_EXPECTED_OUTPUT.resolve(project);
+        List<Path> typesFiles;
+        try (Stream<Path> files = Files.walk(projectDirectory.resolve("generated"))) {
+            typesFiles = files.filter(file -> file.endsWith("generated_types.bal")).collect(Collectors.toList());
+        }
+        Assert.assertFalse(typesFiles.isEmpty());
+        for (Path typesFile : typesFiles) {
+            Path moduleDirectory = typesFile.getParent();
+            Path modelFile = projectDirectory.resolve("persist").resolve(moduleDirectory.getFileName() + ".bal");
+            String types = BalSyntaxGenerator.generateTypeSyntaxTree(BalProjectUtils.getEntities(modelFile))
+                    .toSourceCode();
+            Assert.assertEquals(types, Formatter.format(types), "The types of " + modelFile + " are not formatted.");
+            Assert.assertEquals(types + System.lineSeparator(), Files.readString(typesFile),
+                    "The types of " + modelFile + " differ from " + typesFile + ".");
+        }
+    }
+
+    private static void assertPhaseRow(String output, String model, String phase) {
+        Pattern row = Pattern.compile("(?m)^" + Pattern.quote(model) + "\\s+" + Pattern.quote(phase) +
+                "\\s+\\d+[.,]\\d{2}$");
+        Assert.assertTrue(row.matcher(output).find(), "The timing of the " + phase + " phase of the " + model +
+                " model is not printed. " + output);
+    }
+
+    private static void waitFor(Condition condition, ByteArrayOutputStream output)
+            throws IOException, InterruptedException {
+        long deadline = System.currentTimeMillis() + WATCH_TIMEOUT;
+        while (!condition.isMet()) {
+            if (System.currentTimeMillis() > deadline) {
+                Assert.fail("The watch mode did not regenerate the sources in time. " +
+                        output.toString(StandardCharsets.UTF_8));
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private interface Condition {
+        boolean isMet() throws IOException;
+    }
 }
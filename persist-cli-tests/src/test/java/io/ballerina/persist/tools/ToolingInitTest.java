@@ -19,12 +19,23 @@
 package io.ballerina.persist.tools;
 
 import jdk.jfr.Description;
+import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+
 import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.Command.INIT;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.GENERATED_SOURCES_DIRECTORY;
 import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.assertAuxiliaryFunctions;
 import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.assertGeneratedSources;
 import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.assertGeneratedSourcesNegative;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.generateSourceCode;
 
 /**
  * persist tool init command tests.
@@ -97,4 +108,23 @@ public class ToolingInitTest {
     public void testInitWithInvalidDefinitionFileName() {
         assertGeneratedSources("tool_test_init_10", INIT);
     }
+
+    @Test(enabled = true)
+    @Description("Running init on a project whose Config.toml is a symbolic link to a file readable only by the owner")
+    public void testInitUpdateConfigThroughSymbolicLink() throws IOException {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            throw new SkipException("POSIX file permissions are not supported by the file system");
+        }
+        Path projectPath = Paths.get(GENERATED_SOURCES_DIRECTORY, "tool_test_init_11");
+        Path configPath = projectPath.resolve("Config.toml");
+        Path secretsPath = Files.createDirectories(projectPath.resolve("secrets")).resolve("Config.toml");
+        Files.move(configPath, secretsPath);
+        Files.setPosixFilePermissions(secretsPath, PosixFilePermissions.fromString("rw-------"));
+        Files.createSymbolicLink(configPath, secretsPath.toAbsolutePath());
+
+        generateSourceCode(projectPath, INIT);
+        Assert.assertTrue(Files.isSymbolicLink(configPath));
+        Assert.assertTrue(Files.readString(secretsPath).contains("[persist_init_2.test]"));
+        Assert.assertEquals(PosixFilePermissions.toString(Files.getPosixFilePermissions(secretsPath)), "rw-------");
+    }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.tools;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.benchmarks.ModelGenerator;
+import io.ballerina.persist.models.Entity;
+import io.ballerina.persist.models.EntityField;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.nodegenerator.BalSyntaxGenerator;
+import io.ballerina.tools.text.TextDocuments;
+import jdk.jfr.Description;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.Command.DB_PUSH;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.Command.GENERATE;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.GENERATED_SOURCES_DIRECTORY;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.generateSourceCode;
+
+/**
+ * persist tool scale tests. The generate and db push commands are run on synthetic models of increasing size and
+ * the time and the memory allocated per entity are reported, so that super-linear growth is visible. The relation
+ * inference is expected to scale linearly, hence the growth of its time between two model sizes is bounded.
+ */
+public class ToolingScaleTest {
+
+    private static final PrintStream outStream = System.out;
+    private static final long SEED = 20230301L;
+    private static final String TEMPLATE_PROJECT = "tool_test_scale_1";
+    private static final List<String> results = new ArrayList<>();
+    private static final int INFER_SMALL_MODEL_SIZE = 1000;
+    private static final int INFER_LARGE_MODEL_SIZE = 8000;
+    private static final int INFER_WARMUP_RUNS = 5;
+    private static final int INFER_MEASURED_RUNS = 5;
+    // Linear growth gives a ratio close to the size ratio of 8, while quadratic growth gives a ratio close to 64.
+    private static final double INFER_MAX_GROWTH_RATIO = 24;
+
+    @DataProvider(name = "generateModelSizes")
+    public Object[][] generateModelSizes() {
+        return new Object[][] {{10}, {100}, {1000}};
+    }
+
+    @DataProvider(name = "pushModelSizes")
+    public Object[][] pushModelSizes() {
+        return new Object[][] {{10}, {100}};
+    }
+
+    @Test(enabled = true, dataProvider = "generateModelSizes")
+    @Description("Generate the client for synthetic models of increasing size")
+    public void testGenerateScale(int entityCount) throws IOException {
+        Path projectPath = createProject("generate", entityCount);
+        measure("generate", entityCount, () -> generateSourceCode(projectPath, GENERATE));
+        Assert.assertTrue(Files.isRegularFile(projectPath.resolve(Paths.get("generated", "entities",
+                "generated_client.bal"))));
+        Assert.assertTrue(Files.isRegularFile(projectPath.resolve(Paths.get("generated", "entities",
+                "generated_types.bal"))));
+    }
+
+    @Test(enabled = true, dataProvider = "pushModelSizes")
+    @Description("Push synthetic models of increasing size to the database")
+    public void testDbPushScale(int entityCount) throws IOException {
+        Path projectPath = createProject("db_push", entityCount);
+        measure("db push", entityCount, () -> generateSourceCode(projectPath, DB_PUSH));
+        Assert.assertTrue(Files.isRegularFile(projectPath.resolve(Paths.get("persist",
+                "entities_db_scripts.sql"))));
+    }
+
+    @Test(enabled = true)
+    @Description("Infer the relations of synthetic models of two sizes, and check that the time grows linearly")
+    public void testInferRelationDetailsScale() throws IOException, BalException {
+        String smallModel = generateInferModel(INFER_SMALL_MODEL_SIZE);
+        String largeModel = generateInferModel(INFER_LARGE_MODEL_SIZE);
+        // Warm up the JIT compiler, so that the measured runs of both sizes run the same compiled code.
+        timeInferRelationDetails(smallModel, INFER_WARMUP_RUNS);
+        timeInferRelationDetails(largeModel, INFER_WARMUP_RUNS);
+
+        long smallNanos = timeInferRelationDetails(smallModel, INFER_MEASURED_RUNS);
+        long largeNanos = timeInferRelationDetails(largeModel, INFER_MEASURED_RUNS);
+        double growthRatio = (double) largeNanos / Math.max(smallNanos, 1);
+        results.add(String.format("%-8s %5d entities: %9.2f ms", "infer", INFER_SMALL_MODEL_SIZE,
+                smallNanos / 1_000_000.0));
+        results.add(String.format("%-8s %5d entities: %9.2f ms (%.1fx)", "infer", INFER_LARGE_MODEL_SIZE,
+                largeNanos / 1_000_000.0, growthRatio));
+        Assert.assertTrue(growthRatio < INFER_MAX_GROWTH_RATIO, String.format("Inferring the relations of %d " +
+                "entities took %.1f times as long as inferring the relations of %d entities.",
+                INFER_LARGE_MODEL_SIZE, growthRatio, INFER_SMALL_MODEL_SIZE));
+
+        Module entityModule = readModule(largeModel);
+        BalSyntaxGenerator.inferRelationDetails(entityModule);
+        for (Entity entity : entityModule.getEntityMap().values()) {
+            for (EntityField field : entity.getFields()) {
+                if (entityModule.getEntityMap().containsKey(field.getFieldType())) {
+                    Assert.assertNotNull(field.getRelation());
+                }
+            }
+        }
+    }
+
+    @AfterClass
+    public void printResults() {
+        outStream.println("Scale test results:");
+        results.forEach(outStream::println);
+    }
+
+    private static String generateInferModel(int entityCount) {
+        return ModelGenerator.newBuilder(SEED)
+                .setEntityCount(entityCount)
+                .setFieldCount(8)
+                .setKeyShape(ModelGenerator.KeyShape.MIXED)
+                .setOneToOneRatio(0.3)
+                .setMaxFanOut(16)
+                .build()
+                .generate();
+    }
+
+    private static Module readModule(String model) throws IOException, BalException {
+        Module.Builder moduleBuilder = Module.newBuilder("entities");
+        BalSyntaxGenerator.populateEntities(moduleBuilder, SyntaxTree.from(TextDocuments.from(model)));
+        return moduleBuilder.build();
+    }
+
+    /**
+     * Returns the median time taken to infer the relations of the model. The relations are inferred in place, hence
+     * each run reads the model again, outside the measured time.
+     */
+    private static long timeInferRelationDetails(String model, int runs) throws IOException, BalException {
+        long[] nanos = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            Module entityModule = readModule(model);
+            long startTime = System.nanoTime();
+            BalSyntaxGenerator.inferRelationDetails(entityModule);
+            nanos[run] = System.nanoTime() - startTime;
+        }
+        Arrays.sort(nanos);
+        return nanos[runs / 2];
+    }
+
+    private static Path createProject(String command, int entityCount) throws IOException {
+        Path templatePath = Paths.get(GENERATED_SOURCES_DIRECTORY, TEMPLATE_PROJECT);
+        Path projectPath = Paths.get(GENERATED_SOURCES_DIRECTORY, TEMPLATE_PROJECT + "_" + command + "_" +
+                entityCount);
+        try (Stream<Path> files = Files.walk(templatePath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Path target = projectPath.resolve(templatePath.relativize(file));
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(target);
+                } else if (!Files.exists(target)) {
+                    Files.copy(file, target);
+                }
+            }
+        }
+        Path tomlPath = projectPath.resolve("Ballerina.toml");
+        Files.writeString(tomlPath, Files.readString(tomlPath).replace("\"persist_scale\"",
+                "\"persist_scale_" + entityCount + "\""));
+        ModelGenerator.newBuilder(SEED)
+                .setEntityCount(entityCount)
+                .setFieldCount(8)
+                .setKeyShape(ModelGenerator.KeyShape.MIXED)
+                .setOneToOneRatio(0.3)
+                .setMaxFanOut(4)
+                .build()
+                .write(projectPath.resolve(Paths.get("persist", "entities.bal")));
+        return projectPath;
+    }
+
+    private static void measure(String command, int entityCount, Runnable runnable) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        runnable.run();
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        long allocatedMegabytes = (threadBean.getThreadAllocatedBytes(threadId) - allocatedBytes) / (1024 * 1024);
+        results.add(String.format("%-8s %5d entities: %7d ms (%.2f ms/entity), %6d MB allocated " +
+                "(%.2f MB/entity)", command, entityCount, elapsedMillis, (double) elapsedMillis / entityCount,
+                allocatedMegabytes, (double) allocatedMegabytes / entityCount));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.tools;
+
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.tools.utils.PersistTable;
+import io.ballerina.persist.tools.utils.PersistTableColumn;
+import jdk.jfr.Description;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+
+import static io.ballerina.persist.tools.utils.DatabaseTestUtils.assertCreateDatabaseTables;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.Command.SYNC;
+import static io.ballerina.persist.tools.utils.GeneratedSourcesTestUtils.assertGeneratedSources;
+
+/**
+ * persist tool sync command tests.
+ */
+public class ToolingSyncTest {
+
+    private static final String sqlInt = "INT";
+    private static final String sqlVarchar = "VARCHAR";
+    private static final String no = "NO";
+    private static final String sqlDateTime = "DATETIME";
+
+    @Test(enabled = true)
+    @Description("The client objects are generated and the database tables are created in a single pass")
+    public void testSync() throws BalException {
+        ArrayList<PersistTable> tables = new ArrayList<>();
+        tables.add(
+                new PersistTable("MedicalNeed", "needId")
+                        .addColumn(new PersistTableColumn("needId", sqlInt, no, no))
+                        .addColumn(new PersistTableColumn("itemId", sqlInt, no, no))
+                        .addColumn(new PersistTableColumn("beneficiaryId", sqlInt, no, no))
+                        .addColumn(new PersistTableColumn("period", sqlDateTime, no, no))
+                        .addColumn(new PersistTableColumn("urgency", sqlVarchar, no, no))
+                        .addColumn(new PersistTableColumn("quantity", sqlInt, no, no))
+        );
+        tables.add(
+                new PersistTable("MedicalItem", "itemId")
+                        .addColumn(new PersistTableColumn("itemId", sqlInt, no, no))
+                        .addColumn(new PersistTableColumn("name", sqlVarchar, no, no))
+                        .addColumn(new PersistTableColumn("type", sqlVarchar, no, no))
+                        .addColumn(new PersistTableColumn("unit", sqlVarchar, no, no))
+        );
+        assertGeneratedSources("tool_test_sync_1", SYNC);
+        assertCreateDatabaseTables("tool_test_sync_1", "entities", tables);
+    }
+}
@@ -22,14 +22,18 @@ import io.ballerina.persist.cmd.Generate;
 import io.ballerina.persist.cmd.Init;
 import io.ballerina.persist.cmd.PersistCmd;
 import io.ballerina.persist.cmd.Push;
+import io.ballerina.persist.cmd.Sync;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.directory.BuildProject;
 import org.testng.Assert;
+import picocli.CommandLine;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -51,17 +55,19 @@ public class GeneratedSourcesTestUtils {
     public enum Command {
         INIT,
         GENERATE,
-        DB_PUSH
+        DB_PUSH,
+        SYNC
     }
 
     private static final PrintStream errStream = System.err;
+    private static final String TARGET_DIRECTORY = "target";
     public static final String GENERATED_SOURCES_DIRECTORY = Paths.get("build", "generated-sources").toString();
     public static final Path RESOURCES_EXPECTED_OUTPUT = Paths.get("src", "test", "resources", "test-src", "output")
             .toAbsolutePath();
 
-    public static void assertGeneratedSources(String subDir, Command cmd) {
+    public static void assertGeneratedSources(String subDir, Command cmd, String... args) {
 
-        generateSourceCode(Paths.get(GENERATED_SOURCES_DIRECTORY, subDir), cmd);
+        generateSourceCode(Paths.get(GENERATED_SOURCES_DIRECTORY, subDir), cmd, args);
         Assert.assertTrue(directoryContentEquals(Paths.get(RESOURCES_EXPECTED_OUTPUT.toString()).resolve(subDir),
                 Paths.get(GENERATED_SOURCES_DIRECTORY).resolve(subDir)));
         for (Path actualOutputFile: listFiles(Paths.get(GENERATED_SOURCES_DIRECTORY).resolve(subDir))) {
@@ -88,6 +94,12 @@ public class GeneratedSourcesTestUtils {
         }
     }
 
+    public static void assertCompilation(String subDir) {
+        BuildProject buildProject = BuildProject.load(Paths.get(GENERATED_SOURCES_DIRECTORY, subDir).toAbsolutePath());
+        PackageCompilation compilation = buildProject.currentPackage().getCompilation();
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors());
+    }
+
     public static void assertGeneratedSourcesNegative(String subDir, Command cmd, String[] relativeFilepaths) {
         Path sourceDirPath = Paths.get(GENERATED_SOURCES_DIRECTORY, subDir);
         generateSourceCode(sourceDirPath, cmd);
@@ -135,7 +147,7 @@ public class GeneratedSourcesTestUtils {
         }
     }
 
-    public static HashMap generateSourceCode(Path sourcePath, Command cmd) {
+    public static HashMap generateSourceCode(Path sourcePath, Command cmd, String... args) {
         Class<?> persistClass;
 
         try {
@@ -143,16 +155,25 @@ public class GeneratedSourcesTestUtils {
                 persistClass = Class.forName("io.ballerina.persist.cmd.Init");
                 Init persistCmd = (Init) persistClass.getDeclaredConstructor(String.class)
                         .newInstance(sourcePath.toAbsolutePath().toString());
+                new CommandLine(persistCmd).parseArgs(args);
                 persistCmd.execute();
             } else if (cmd == Command.GENERATE) {
                 persistClass = Class.forName("io.ballerina.persist.cmd.Generate");
                 Generate persistCmd = (Generate) persistClass.getDeclaredConstructor(String.class)
                         .newInstance(sourcePath.toAbsolutePath().toString());
+                new CommandLine(persistCmd).parseArgs(args);
+                persistCmd.execute();
+            } else if (cmd == Command.SYNC) {
+                persistClass = Class.forName("io.ballerina.persist.cmd.Sync");
+                Sync persistCmd = (Sync) persistClass.getDeclaredConstructor(String.class)
+                        .newInstance(sourcePath.toAbsolutePath().toString());
+                new CommandLine(persistCmd).parseArgs(args);
                 persistCmd.execute();
             } else {
                 persistClass = Class.forName("io.ballerina.persist.cmd.Push");
                 Push persistCmd = (Push) persistClass.getDeclaredConstructor(String.class)
                         .newInstance(sourcePath.toAbsolutePath().toString());
+                new CommandLine(persistCmd).parseArgs(args);
                 persistCmd.execute();
             }
 
@@ -163,9 +184,41 @@ public class GeneratedSourcesTestUtils {
         return new HashMap<>();
     }
 
+    /**
+     * Runs the generate command and returns the messages it printed.
+     */
+    public static String generateSourceCodeWithOutput(Path sourcePath, String... args) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (PrintStream outStream = new PrintStream(output, true, StandardCharsets.UTF_8)) {
+            Generate persistCmd = new Generate(sourcePath.toAbsolutePath().toString(), outStream);
+            new CommandLine(persistCmd).parseArgs(args);
+            persistCmd.execute();
+        }
+        String commandOutput = output.toString(StandardCharsets.UTF_8);
+        errStream.print(commandOutput);
+        return commandOutput;
+    }
+
+    /**
+     * Runs the Ballerina project with the bal command of the test distribution and returns what it printed.
+     */
+    public static String runBallerinaProject(Path sourcePath) throws IOException, InterruptedException {
+        Path balCommand = Paths.get(System.getProperty("ballerina.home"), "bin", "bal");
+        Process process = new ProcessBuilder(balCommand.toAbsolutePath().toString(), "run", "--offline")
+                .directory(sourcePath.toAbsolutePath().toFile())
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        errStream.print(output);
+        Assert.assertEquals(process.waitFor(), 0, "Running the project failed.");
+        return output;
+    }
+
     private static List<Path> listFiles(Path path) {
         try (Stream<Path> walk = Files.walk(path)) {
-            return walk != null ? walk.filter(Files::isRegularFile).collect(Collectors.toList()) : new ArrayList<>();
+            return walk != null ? walk.filter(Files::isRegularFile)
+                    .filter(file -> !path.relativize(file).startsWith(TARGET_DIRECTORY))
+                    .collect(Collectors.toList()) : new ArrayList<>();
         } catch (IOException e) {
             errStream.println(e.getMessage());
         }
@@ -0,0 +1,108 @@
+// Copyright (c) 2023 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/io;
+import ballerina/persist;
+import foo/tool_test_db_push_23.entities;
+
+isolated int[] batchSizes = [];
+
+public function main() returns error? {
+    entities:EntitiesClient|persist:Error invalidClient = new (0);
+    io:println("invalid batch size: ", invalidClient is persist:Error ? invalidClient.message() : "");
+
+    entities:EntitiesClient itemClient = check new (2);
+    entities:ItemInsert[] items = [
+        {itemId: 1, name: "apple", category: "fruit", quantity: 10},
+        {itemId: 2, name: "banana", category: "fruit", quantity: 25},
+        {itemId: 3, name: "carrot", category: "vegetable", quantity: 5},
+        {itemId: 4, name: "date", category: "fruit", quantity: 15},
+        {itemId: 5, name: "eggplant", category: "vegetable", quantity: 8}
+    ];
+    int[] keys = check itemClient->/item.post(items, isolated function(int[] batchKeys) returns error? {
+        lock {
+            batchSizes.push(batchKeys.length());
+        }
+    });
+    int[] sizes;
+    lock {
+        sizes = batchSizes.clone();
+    }
+    io:println("batch sizes: ", sizes);
+    io:println("keys with batch handler: ", keys);
+
+    entities:ItemInsert[] moreItems = [
+        {itemId: 6, name: "fig", category: "fruit", quantity: 30},
+        {itemId: 7, name: "grape", category: "fruit", quantity: 12}
+    ];
+    keys = check itemClient->/item.post(moreItems.toStream());
+    io:println("keys: ", keys);
+
+    check itemClient->/item.put([
+        {itemId: 1, name: "apple", category: "fruit", quantity: 40},
+        {itemId: 8, name: "honeydew", category: "fruit", quantity: 3}
+    ]);
+    entities:Item apple = check itemClient->/item/[1].get();
+    io:println("upserted quantity: ", apple.quantity);
+    io:println("count: ", check itemClient->/item.count());
+
+    entities:Item|persist:Error missing = itemClient->/item/[100].get();
+    io:println("missing key error: ", missing is persist:InvalidKeyError);
+    io:println("missing key message: ", missing is persist:Error ? missing.message() : "");
+    entities:Item|persist:Error deleted = itemClient->/item/[100].delete();
+    io:println("missing key delete error: ", deleted is persist:InvalidKeyError);
+
+    string[] topFruits = check from entities:Item item in itemClient->/item.get({category: "fruit"}, ["quantity"],
+            true, 2)
+        select item.name;
+    io:println("top fruits: ", string:'join(",", ...topFruits));
+    string[] vegetables = check from entities:Item item in itemClient->/item.get({category: "vegetable"}, ["name"])
+        select item.name;
+    io:println("vegetables: ", string:'join(",", ...vegetables));
+    // A negative row limit is treated as no limit
+    string[] unlimited = check from entities:Item item in itemClient->/item.get(maxRows = -1) select item.name;
+    io:println("negative row limit: ", unlimited.length());
+
+    string[] pages = [];
+    string? cursor = ();
+    while true {
+        record {|entities:Item[] records; string? next;|} page = check itemClient->/item.page(3, cursor);
+        pages.push((from entities:Item item in page.records select item.itemId).toString());
+        cursor = page.next;
+        if cursor is () {
+            break;
+        }
+    }
+    io:println("pages: ", string:'join(" ", ...pages));
+    record {|entities:Item[] records; string? next;|}|persist:Error emptyPage = itemClient->/item.page(0);
+    io:println("invalid page size: ", emptyPage is persist:Error ? emptyPage.message() : "");
+
+    io:println("fruit count: ", check itemClient->/item.count({category: "fruit"}));
+    io:println("exists 1: ", check itemClient->/item/[1].exists());
+    io:println("exists 100: ", check itemClient->/item/[100].exists());
+
+    stream<record {}, error?>|persist:Error projected = itemClient->/item.project(["name"]);
+    if projected is persist:Error {
+        return projected;
+    }
+    record {}[] names = check from record {} item in projected select item;
+    io:println("projected fields: ", names.length(), " ", names[0].keys());
+    stream<record {}, error?>|persist:Error emptyProjection = itemClient->/item.project([]);
+    io:println("empty projection: ", emptyProjection is persist:Error ? emptyProjection.message() : "");
+
+    check itemClient.close();
+}
@@ -0,0 +1,2 @@
+import ballerina/persist as _;
+
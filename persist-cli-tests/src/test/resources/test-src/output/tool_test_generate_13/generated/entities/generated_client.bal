@@ -18,6 +18,8 @@ public client class EntitiesClient {
 
     private final map<persist:SQLClient> persistClients;
 
+    private final int batchSize;
+
     private final record {|persist:Metadata...;|} metadata = {
         "profile": {
             entityName: "Profile",
@@ -51,12 +53,16 @@ public client class EntitiesClient {
         }
     };
 
-    public function init() returns persist:Error? {
+    public function init(int batchSize = 1000) returns persist:Error? {
+        if batchSize < 1 {
+            return <persist:Error>error(string `The batch size should be a positive integer, found ${batchSize}.`);
+        }
         mysql:Client|error dbClient = new (host = host, user = user, password = password, database = database, port = port);
         if dbClient is error {
             return <persist:Error>error(dbClient.message());
         }
         self.dbClient = dbClient;
+        self.batchSize = batchSize;
         self.persistClients = {
             profile: check new (self.dbClient, self.metadata.get(PROFILE)),
             user: check new (self.dbClient, self.metadata.get(USER)),
@@ -64,27 +70,142 @@ public client class EntitiesClient {
         };
     }
 
-    isolated resource function get profile() returns stream<Profile, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(PROFILE).runReadQuery(Profile);
-        if result is persist:Error {
-            return new stream<Profile, persist:Error?>(new ProfileStream((), result));
-        } else {
-            return new stream<Profile, persist:Error?>(new ProfileStream(result));
+    isolated resource function get profile(record {|int id?; string name?; int userId?; int multipleassociationsId?;|} filter = {}, ("id"|"name"|"userId"|"multipleassociationsId")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<Profile, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT id, name, userId, multipleassociationsId FROM Profile WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
+        }
+        if filter.hasKey("userId") {
+            query = sql:queryConcat(query, ` AND userId <=> ${filter?.userId}`);
+        }
+        if filter.hasKey("multipleassociationsId") {
+            query = sql:queryConcat(query, ` AND multipleassociationsId <=> ${filter?.multipleassociationsId}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`, "userId": `userId`, "multipleassociationsId": `multipleassociationsId`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
         }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
+    }
+
+    isolated resource function project profile(("id"|"name"|"userId"|"multipleassociationsId")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`, "userId": `userId`, "multipleassociationsId": `multipleassociationsId`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM Profile`));
+    }
+
+    isolated resource function page profile(int pageSize, string? cursor = ()) returns record {|Profile[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT id, name, userId, multipleassociationsId FROM Profile`;
+        if cursor is string {
+            int|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE id > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY id LIMIT ${pageSize}`);
+        stream<Profile, sql:Error?> rows = self.dbClient->query(query);
+        Profile[]|sql:Error records = from Profile item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        Profile last = records[records.length() - 1];
+        return {records, next: last.id.toJsonString()};
+    }
+
+    isolated resource function count profile(record {|int id?; string name?; int userId?; int multipleassociationsId?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM Profile WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
+        }
+        if filter.hasKey("userId") {
+            query = sql:queryConcat(query, ` AND userId <=> ${filter?.userId}`);
+        }
+        if filter.hasKey("multipleassociationsId") {
+            query = sql:queryConcat(query, ` AND multipleassociationsId <=> ${filter?.multipleassociationsId}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result;
     }
 
     isolated resource function get profile/[int id]() returns Profile|persist:Error {
-        Profile|error result = (check self.persistClients.get(PROFILE).runReadByKeyQuery(Profile, id)).cloneWithType(Profile);
+        Profile|sql:Error result = self.dbClient->queryRow(`SELECT id, name, userId, multipleassociationsId FROM Profile WHERE id = ${id}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'Profile' for key ${id.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
 
-    isolated resource function post profile(ProfileInsert[] data) returns int[]|persist:Error {
-        _ = check self.persistClients.get(PROFILE).runBatchInsertQuery(data);
-        return from ProfileInsert inserted in data
-            select inserted.id;
+    isolated resource function exists profile/[int id]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM Profile WHERE id = ${id} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
+    }
+
+    isolated resource function post profile(ProfileInsert[]|stream<ProfileInsert, error?> data, (isolated function (int[] keys) returns error?)? onBatch = ()) returns int[]|persist:Error {
+        stream<ProfileInsert, error?> rows = data is ProfileInsert[] ? data.toStream() : data;
+        int[] keys = [];
+        ProfileInsert[] batch = [];
+        record {|ProfileInsert value;|}|error? row = rows.next();
+        while row is record {|ProfileInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(PROFILE).runBatchInsertQuery(batch);
+                int[] batchKeys = from ProfileInsert inserted in batch select inserted.id;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(PROFILE).runBatchInsertQuery(batch);
+            int[] batchKeys = from ProfileInsert inserted in batch select inserted.id;
+            if onBatch is () {
+                keys.push(...batchKeys);
+            } else {
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
+                }
+            }
+        }
+        return keys;
     }
 
     isolated resource function put profile/[int id](ProfileUpdate value) returns Profile|persist:Error {
@@ -92,33 +213,168 @@ public client class EntitiesClient {
         return self->/profile/[id].get();
     }
 
+    isolated resource function put profile(ProfileInsert[]|stream<ProfileInsert, error?> data) returns persist:Error? {
+        stream<ProfileInsert, error?> rows = data is ProfileInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|ProfileInsert value;|}|error? row = rows.next();
+        while row is record {|ProfileInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.id}, ${row.value.name}, ${row.value.userId}, ${row.value.multipleassociationsId})` : `, (${row.value.id}, ${row.value.name}, ${row.value.userId}, ${row.value.multipleassociationsId})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Profile (id, name, userId, multipleassociationsId) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name, userId = new.userId, multipleassociationsId = new.multipleassociationsId`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
+                }
+                values = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Profile (id, name, userId, multipleassociationsId) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name, userId = new.userId, multipleassociationsId = new.multipleassociationsId`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
     isolated resource function delete profile/[int id]() returns Profile|persist:Error {
         Profile result = check self->/profile/[id].get();
         _ = check self.persistClients.get(PROFILE).runDeleteQuery(id);
         return result;
     }
 
-    isolated resource function get user() returns stream<User, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(USER).runReadQuery(User);
-        if result is persist:Error {
-            return new stream<User, persist:Error?>(new UserStream((), result));
-        } else {
-            return new stream<User, persist:Error?>(new UserStream(result));
+    isolated resource function get user(record {|int id?; string name?; int multipleassociationsId?;|} filter = {}, ("id"|"name"|"multipleassociationsId")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<User, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT id, name, multipleassociationsId FROM User WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
+        }
+        if filter.hasKey("multipleassociationsId") {
+            query = sql:queryConcat(query, ` AND multipleassociationsId <=> ${filter?.multipleassociationsId}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`, "multipleassociationsId": `multipleassociationsId`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
         }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
+    }
+
+    isolated resource function project user(("id"|"name"|"multipleassociationsId")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`, "multipleassociationsId": `multipleassociationsId`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM User`));
+    }
+
+    isolated resource function page user(int pageSize, string? cursor = ()) returns record {|User[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT id, name, multipleassociationsId FROM User`;
+        if cursor is string {
+            int|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE id > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY id LIMIT ${pageSize}`);
+        stream<User, sql:Error?> rows = self.dbClient->query(query);
+        User[]|sql:Error records = from User item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        User last = records[records.length() - 1];
+        return {records, next: last.id.toJsonString()};
+    }
+
+    isolated resource function count user(record {|int id?; string name?; int multipleassociationsId?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM User WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
+        }
+        if filter.hasKey("multipleassociationsId") {
+            query = sql:queryConcat(query, ` AND multipleassociationsId <=> ${filter?.multipleassociationsId}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result;
     }
 
     isolated resource function get user/[int id]() returns User|persist:Error {
-        User|error result = (check self.persistClients.get(USER).runReadByKeyQuery(User, id)).cloneWithType(User);
+        User|sql:Error result = self.dbClient->queryRow(`SELECT id, name, multipleassociationsId FROM User WHERE id = ${id}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'User' for key ${id.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
 
-    isolated resource function post user(UserInsert[] data) returns int[]|persist:Error {
-        _ = check self.persistClients.get(USER).runBatchInsertQuery(data);
-        return from UserInsert inserted in data
-            select inserted.id;
+    isolated resource function exists user/[int id]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM User WHERE id = ${id} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
+    }
+
+    isolated resource function post user(UserInsert[]|stream<UserInsert, error?> data, (isolated function (int[] keys) returns error?)? onBatch = ()) returns int[]|persist:Error {
+        stream<UserInsert, error?> rows = data is UserInsert[] ? data.toStream() : data;
+        int[] keys = [];
+        UserInsert[] batch = [];
+        record {|UserInsert value;|}|error? row = rows.next();
+        while row is record {|UserInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(USER).runBatchInsertQuery(batch);
+                int[] batchKeys = from UserInsert inserted in batch select inserted.id;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(USER).runBatchInsertQuery(batch);
+            int[] batchKeys = from UserInsert inserted in batch select inserted.id;
+            if onBatch is () {
+                keys.push(...batchKeys);
+            } else {
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
+                }
+            }
+        }
+        return keys;
     }
 
     isolated resource function put user/[int id](UserUpdate value) returns User|persist:Error {
@@ -126,166 +382,207 @@ public client class EntitiesClient {
         return self->/user/[id].get();
     }
 
+    isolated resource function put user(UserInsert[]|stream<UserInsert, error?> data) returns persist:Error? {
+        stream<UserInsert, error?> rows = data is UserInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|UserInsert value;|}|error? row = rows.next();
+        while row is record {|UserInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.id}, ${row.value.name}, ${row.value.multipleassociationsId})` : `, (${row.value.id}, ${row.value.name}, ${row.value.multipleassociationsId})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO User (id, name, multipleassociationsId) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name, multipleassociationsId = new.multipleassociationsId`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
+                }
+                values = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO User (id, name, multipleassociationsId) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name, multipleassociationsId = new.multipleassociationsId`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
     isolated resource function delete user/[int id]() returns User|persist:Error {
         User result = check self->/user/[id].get();
         _ = check self.persistClients.get(USER).runDeleteQuery(id);
         return result;
     }
 
-    isolated resource function get multipleassociations() returns stream<MultipleAssociations, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(MULTIPLE_ASSOCIATIONS).runReadQuery(MultipleAssociations);
-        if result is persist:Error {
-            return new stream<MultipleAssociations, persist:Error?>(new MultipleAssociationsStream((), result));
-        } else {
-            return new stream<MultipleAssociations, persist:Error?>(new MultipleAssociationsStream(result));
+    isolated resource function get multipleassociations(record {|int id?; string name?;|} filter = {}, ("id"|"name")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<MultipleAssociations, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT id, name FROM MultipleAssociations WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
         }
-    }
-
-    isolated resource function get multipleassociations/[int id]() returns MultipleAssociations|persist:Error {
-        MultipleAssociations|error result = (check self.persistClients.get(MULTIPLE_ASSOCIATIONS).runReadByKeyQuery(MultipleAssociations, id)).cloneWithType(MultipleAssociations);
-        if result is error {
-            return <persist:Error>error(result.message());
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
         }
-        return result;
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
     }
 
-    isolated resource function post multipleassociations(MultipleAssociationsInsert[] data) returns int[]|persist:Error {
-        _ = check self.persistClients.get(MULTIPLE_ASSOCIATIONS).runBatchInsertQuery(data);
-        return from MultipleAssociationsInsert inserted in data
-            select inserted.id;
+    isolated resource function project multipleassociations(("id"|"name")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM MultipleAssociations`));
     }
 
-    isolated resource function put multipleassociations/[int id](MultipleAssociationsUpdate value) returns MultipleAssociations|persist:Error {
-        _ = check self.persistClients.get(MULTIPLE_ASSOCIATIONS).runUpdateQuery(id, value);
-        return self->/multipleassociations/[id].get();
+    isolated resource function page multipleassociations(int pageSize, string? cursor = ()) returns record {|MultipleAssociations[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT id, name FROM MultipleAssociations`;
+        if cursor is string {
+            int|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE id > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY id LIMIT ${pageSize}`);
+        stream<MultipleAssociations, sql:Error?> rows = self.dbClient->query(query);
+        MultipleAssociations[]|sql:Error records = from MultipleAssociations item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        MultipleAssociations last = records[records.length() - 1];
+        return {records, next: last.id.toJsonString()};
     }
 
-    isolated resource function delete multipleassociations/[int id]() returns MultipleAssociations|persist:Error {
-        MultipleAssociations result = check self->/multipleassociations/[id].get();
-        _ = check self.persistClients.get(MULTIPLE_ASSOCIATIONS).runDeleteQuery(id);
+    isolated resource function count multipleassociations(record {|int id?; string name?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM MultipleAssociations WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
         return result;
     }
 
-    public function close() returns persist:Error? {
-        error? result = self.dbClient.close();
+    isolated resource function get multipleassociations/[int id]() returns MultipleAssociations|persist:Error {
+        MultipleAssociations|sql:Error result = self.dbClient->queryRow(`SELECT id, name FROM MultipleAssociations WHERE id = ${id}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'MultipleAssociations' for key ${id.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
-}
-
-public class ProfileStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
 
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
+    isolated resource function exists multipleassociations/[int id]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM MultipleAssociations WHERE id = ${id} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
     }
 
-    public isolated function next() returns record {|Profile value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
-            } else {
-                Profile|error value = streamValue.value.cloneWithType(Profile);
-                if value is error {
-                    return <persist:Error>error(value.message());
+    isolated resource function post multipleassociations(MultipleAssociationsInsert[]|stream<MultipleAssociationsInsert, error?> data, (isolated function (int[] keys) returns error?)? onBatch = ()) returns int[]|persist:Error {
+        stream<MultipleAssociationsInsert, error?> rows = data is MultipleAssociationsInsert[] ? data.toStream() : data;
+        int[] keys = [];
+        MultipleAssociationsInsert[] batch = [];
+        record {|MultipleAssociationsInsert value;|}|error? row = rows.next();
+        while row is record {|MultipleAssociationsInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(MULTIPLE_ASSOCIATIONS).runBatchInsertQuery(batch);
+                int[] batchKeys = from MultipleAssociationsInsert inserted in batch select inserted.id;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
                 }
-                record {|Profile value;|} nextRecord = {value: value};
-                return nextRecord;
+                batch = [];
             }
-        } else {
-            return ();
+            row = rows.next();
         }
-    }
-
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
-    }
-}
-
-public class UserStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
-    }
-
-    public isolated function next() returns record {|User value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(MULTIPLE_ASSOCIATIONS).runBatchInsertQuery(batch);
+            int[] batchKeys = from MultipleAssociationsInsert inserted in batch select inserted.id;
+            if onBatch is () {
+                keys.push(...batchKeys);
             } else {
-                User|error value = streamValue.value.cloneWithType(User);
-                if value is error {
-                    return <persist:Error>error(value.message());
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
                 }
-                record {|User value;|} nextRecord = {value: value};
-                return nextRecord;
             }
-        } else {
-            return ();
         }
+        return keys;
     }
 
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
-    }
-}
-
-public class MultipleAssociationsStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
+    isolated resource function put multipleassociations/[int id](MultipleAssociationsUpdate value) returns MultipleAssociations|persist:Error {
+        _ = check self.persistClients.get(MULTIPLE_ASSOCIATIONS).runUpdateQuery(id, value);
+        return self->/multipleassociations/[id].get();
     }
 
-    public isolated function next() returns record {|MultipleAssociations value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
-            } else {
-                MultipleAssociations|error value = streamValue.value.cloneWithType(MultipleAssociations);
-                if value is error {
-                    return <persist:Error>error(value.message());
+    isolated resource function put multipleassociations(MultipleAssociationsInsert[]|stream<MultipleAssociationsInsert, error?> data) returns persist:Error? {
+        stream<MultipleAssociationsInsert, error?> rows = data is MultipleAssociationsInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|MultipleAssociationsInsert value;|}|error? row = rows.next();
+        while row is record {|MultipleAssociationsInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.id}, ${row.value.name})` : `, (${row.value.id}, ${row.value.name})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO MultipleAssociations (id, name) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
                 }
-                record {|MultipleAssociations value;|} nextRecord = {value: value};
-                return nextRecord;
+                values = [];
             }
-        } else {
-            return ();
+            row = rows.next();
         }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO MultipleAssociations (id, name) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
+    isolated resource function delete multipleassociations/[int id]() returns MultipleAssociations|persist:Error {
+        MultipleAssociations result = check self->/multipleassociations/[id].get();
+        _ = check self.persistClients.get(MULTIPLE_ASSOCIATIONS).runDeleteQuery(id);
+        return result;
     }
 
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
+    public function close() returns persist:Error? {
+        error? result = self.dbClient.close();
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result;
     }
 }
 
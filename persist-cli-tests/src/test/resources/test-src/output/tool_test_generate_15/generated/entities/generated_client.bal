@@ -16,6 +16,8 @@ public client class EntitiesClient {
 
     private final map<persist:SQLClient> persistClients;
 
+    private final int batchSize;
+
     private final record {|persist:Metadata...;|} metadata = {
         "user": {
             entityName: "User",
@@ -28,36 +30,143 @@ public client class EntitiesClient {
         }
     };
 
-    public function init() returns persist:Error? {
+    public function init(int batchSize = 1000) returns persist:Error? {
+        if batchSize < 1 {
+            return <persist:Error>error(string `The batch size should be a positive integer, found ${batchSize}.`);
+        }
         mysql:Client|error dbClient = new (host = host, user = user, password = password, database = database, port = port);
         if dbClient is error {
             return <persist:Error>error(dbClient.message());
         }
         self.dbClient = dbClient;
+        self.batchSize = batchSize;
         self.persistClients = {user: check new (self.dbClient, self.metadata.get(USER))};
     }
 
-    isolated resource function get user() returns stream<User, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(USER).runReadQuery(User);
-        if result is persist:Error {
-            return new stream<User, persist:Error?>(new UserStream((), result));
-        } else {
-            return new stream<User, persist:Error?>(new UserStream(result));
+    isolated resource function get user(record {|int id?; string name?;|} filter = {}, ("id"|"name")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<User, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT id, name FROM User WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
+    }
+
+    isolated resource function project user(("id"|"name")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM User`));
+    }
+
+    isolated resource function page user(int pageSize, string? cursor = ()) returns record {|User[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT id, name FROM User`;
+        if cursor is string {
+            int|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE id > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY id LIMIT ${pageSize}`);
+        stream<User, sql:Error?> rows = self.dbClient->query(query);
+        User[]|sql:Error records = from User item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
         }
+        User last = records[records.length() - 1];
+        return {records, next: last.id.toJsonString()};
+    }
+
+    isolated resource function count user(record {|int id?; string name?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM User WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result;
     }
 
     isolated resource function get user/[int id]() returns User|persist:Error {
-        User|error result = (check self.persistClients.get(USER).runReadByKeyQuery(User, id)).cloneWithType(User);
+        User|sql:Error result = self.dbClient->queryRow(`SELECT id, name FROM User WHERE id = ${id}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'User' for key ${id.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
 
-    isolated resource function post user(UserInsert[] data) returns int[]|persist:Error {
-        _ = check self.persistClients.get(USER).runBatchInsertQuery(data);
-        return from UserInsert inserted in data
-            select inserted.id;
+    isolated resource function exists user/[int id]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM User WHERE id = ${id} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
+    }
+
+    isolated resource function post user(UserInsert[]|stream<UserInsert, error?> data, (isolated function (int[] keys) returns error?)? onBatch = ()) returns int[]|persist:Error {
+        stream<UserInsert, error?> rows = data is UserInsert[] ? data.toStream() : data;
+        int[] keys = [];
+        UserInsert[] batch = [];
+        record {|UserInsert value;|}|error? row = rows.next();
+        while row is record {|UserInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(USER).runBatchInsertQuery(batch);
+                int[] batchKeys = from UserInsert inserted in batch select inserted.id;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(USER).runBatchInsertQuery(batch);
+            int[] batchKeys = from UserInsert inserted in batch select inserted.id;
+            if onBatch is () {
+                keys.push(...batchKeys);
+            } else {
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
+                }
+            }
+        }
+        return keys;
     }
 
     isolated resource function put user/[int id](UserUpdate value) returns User|persist:Error {
@@ -65,6 +174,32 @@ public client class EntitiesClient {
         return self->/user/[id].get();
     }
 
+    isolated resource function put user(UserInsert[]|stream<UserInsert, error?> data) returns persist:Error? {
+        stream<UserInsert, error?> rows = data is UserInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|UserInsert value;|}|error? row = rows.next();
+        while row is record {|UserInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.id}, ${row.value.name})` : `, (${row.value.id}, ${row.value.name})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO User (id, name) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
+                }
+                values = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO User (id, name) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
     isolated resource function delete user/[int id]() returns User|persist:Error {
         User result = check self->/user/[id].get();
         _ = check self.persistClients.get(USER).runDeleteQuery(id);
@@ -80,41 +215,3 @@ public client class EntitiesClient {
     }
 }
 
-public class UserStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
-    }
-
-    public isolated function next() returns record {|User value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
-            } else {
-                User|error value = streamValue.value.cloneWithType(User);
-                if value is error {
-                    return <persist:Error>error(value.message());
-                }
-                record {|User value;|} nextRecord = {value: value};
-                return nextRecord;
-            }
-        } else {
-            return ();
-        }
-    }
-
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
-    }
-}
-
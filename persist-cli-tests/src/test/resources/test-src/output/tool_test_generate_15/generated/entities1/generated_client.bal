@@ -17,6 +17,8 @@ public client class Entities1Client {
 
     private final map<persist:SQLClient> persistClients;
 
+    private final int batchSize;
+
     private final record {|persist:Metadata...;|} metadata = {
         "multipleassociations": {
             entityName: "MultipleAssociations",
@@ -39,39 +41,152 @@ public client class Entities1Client {
         }
     };
 
-    public function init() returns persist:Error? {
+    public function init(int batchSize = 1000) returns persist:Error? {
+        if batchSize < 1 {
+            return <persist:Error>error(string `The batch size should be a positive integer, found ${batchSize}.`);
+        }
         mysql:Client|error dbClient = new (host = host, user = user, password = password, database = database, port = port);
         if dbClient is error {
             return <persist:Error>error(dbClient.message());
         }
         self.dbClient = dbClient;
+        self.batchSize = batchSize;
         self.persistClients = {
             multipleassociations: check new (self.dbClient, self.metadata.get(MULTIPLE_ASSOCIATIONS)),
             profile: check new (self.dbClient, self.metadata.get(PROFILE))
         };
     }
 
-    isolated resource function get multipleassociations() returns stream<MultipleAssociations, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(MULTIPLE_ASSOCIATIONS).runReadQuery(MultipleAssociations);
-        if result is persist:Error {
-            return new stream<MultipleAssociations, persist:Error?>(new MultipleAssociationsStream((), result));
-        } else {
-            return new stream<MultipleAssociations, persist:Error?>(new MultipleAssociationsStream(result));
+    isolated resource function get multipleassociations(record {|int id?; string name?; int profileId?;|} filter = {}, ("id"|"name"|"profileId")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<MultipleAssociations, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT id, name, profileId FROM MultipleAssociations WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
+        }
+        if filter.hasKey("profileId") {
+            query = sql:queryConcat(query, ` AND profileId <=> ${filter?.profileId}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`, "profileId": `profileId`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
+    }
+
+    isolated resource function project multipleassociations(("id"|"name"|"profileId")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`, "profileId": `profileId`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM MultipleAssociations`));
+    }
+
+    isolated resource function page multipleassociations(int pageSize, string? cursor = ()) returns record {|MultipleAssociations[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT id, name, profileId FROM MultipleAssociations`;
+        if cursor is string {
+            int|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE id > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY id LIMIT ${pageSize}`);
+        stream<MultipleAssociations, sql:Error?> rows = self.dbClient->query(query);
+        MultipleAssociations[]|sql:Error records = from MultipleAssociations item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        MultipleAssociations last = records[records.length() - 1];
+        return {records, next: last.id.toJsonString()};
+    }
+
+    isolated resource function count multipleassociations(record {|int id?; string name?; int profileId?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM MultipleAssociations WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
+        }
+        if filter.hasKey("profileId") {
+            query = sql:queryConcat(query, ` AND profileId <=> ${filter?.profileId}`);
         }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result;
     }
 
     isolated resource function get multipleassociations/[int id]() returns MultipleAssociations|persist:Error {
-        MultipleAssociations|error result = (check self.persistClients.get(MULTIPLE_ASSOCIATIONS).runReadByKeyQuery(MultipleAssociations, id)).cloneWithType(MultipleAssociations);
+        MultipleAssociations|sql:Error result = self.dbClient->queryRow(`SELECT id, name, profileId FROM MultipleAssociations WHERE id = ${id}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'MultipleAssociations' for key ${id.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
 
-    isolated resource function post multipleassociations(MultipleAssociationsInsert[] data) returns int[]|persist:Error {
-        _ = check self.persistClients.get(MULTIPLE_ASSOCIATIONS).runBatchInsertQuery(data);
-        return from MultipleAssociationsInsert inserted in data
-            select inserted.id;
+    isolated resource function exists multipleassociations/[int id]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM MultipleAssociations WHERE id = ${id} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
+    }
+
+    isolated resource function post multipleassociations(MultipleAssociationsInsert[]|stream<MultipleAssociationsInsert, error?> data, (isolated function (int[] keys) returns error?)? onBatch = ()) returns int[]|persist:Error {
+        stream<MultipleAssociationsInsert, error?> rows = data is MultipleAssociationsInsert[] ? data.toStream() : data;
+        int[] keys = [];
+        MultipleAssociationsInsert[] batch = [];
+        record {|MultipleAssociationsInsert value;|}|error? row = rows.next();
+        while row is record {|MultipleAssociationsInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(MULTIPLE_ASSOCIATIONS).runBatchInsertQuery(batch);
+                int[] batchKeys = from MultipleAssociationsInsert inserted in batch select inserted.id;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(MULTIPLE_ASSOCIATIONS).runBatchInsertQuery(batch);
+            int[] batchKeys = from MultipleAssociationsInsert inserted in batch select inserted.id;
+            if onBatch is () {
+                keys.push(...batchKeys);
+            } else {
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
+                }
+            }
+        }
+        return keys;
     }
 
     isolated resource function put multipleassociations/[int id](MultipleAssociationsUpdate value) returns MultipleAssociations|persist:Error {
@@ -79,128 +194,207 @@ public client class Entities1Client {
         return self->/multipleassociations/[id].get();
     }
 
+    isolated resource function put multipleassociations(MultipleAssociationsInsert[]|stream<MultipleAssociationsInsert, error?> data) returns persist:Error? {
+        stream<MultipleAssociationsInsert, error?> rows = data is MultipleAssociationsInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|MultipleAssociationsInsert value;|}|error? row = rows.next();
+        while row is record {|MultipleAssociationsInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.id}, ${row.value.name}, ${row.value.profileId})` : `, (${row.value.id}, ${row.value.name}, ${row.value.profileId})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO MultipleAssociations (id, name, profileId) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name, profileId = new.profileId`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
+                }
+                values = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO MultipleAssociations (id, name, profileId) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name, profileId = new.profileId`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
     isolated resource function delete multipleassociations/[int id]() returns MultipleAssociations|persist:Error {
         MultipleAssociations result = check self->/multipleassociations/[id].get();
         _ = check self.persistClients.get(MULTIPLE_ASSOCIATIONS).runDeleteQuery({"id": id});
         return result;
     }
 
-    isolated resource function get profile() returns stream<Profile, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(PROFILE).runReadQuery(Profile);
-        if result is persist:Error {
-            return new stream<Profile, persist:Error?>(new ProfileStream((), result));
-        } else {
-            return new stream<Profile, persist:Error?>(new ProfileStream(result));
+    isolated resource function get profile(record {|int id?; string name?;|} filter = {}, ("id"|"name")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<Profile, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT id, name FROM Profile WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
         }
-    }
-
-    isolated resource function get profile/[int id]() returns Profile|persist:Error {
-        Profile|error result = (check self.persistClients.get(PROFILE).runReadByKeyQuery(Profile, id)).cloneWithType(Profile);
-        if result is error {
-            return <persist:Error>error(result.message());
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
         }
-        return result;
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
     }
 
-    isolated resource function post profile(ProfileInsert[] data) returns int[]|persist:Error {
-        _ = check self.persistClients.get(PROFILE).runBatchInsertQuery(data);
-        return from ProfileInsert inserted in data
-            select inserted.id;
+    isolated resource function project profile(("id"|"name")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM Profile`));
     }
 
-    isolated resource function put profile/[int id](ProfileUpdate value) returns Profile|persist:Error {
-        _ = check self.persistClients.get(PROFILE).runUpdateQuery({"id": id}, value);
-        return self->/profile/[id].get();
+    isolated resource function page profile(int pageSize, string? cursor = ()) returns record {|Profile[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT id, name FROM Profile`;
+        if cursor is string {
+            int|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE id > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY id LIMIT ${pageSize}`);
+        stream<Profile, sql:Error?> rows = self.dbClient->query(query);
+        Profile[]|sql:Error records = from Profile item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        Profile last = records[records.length() - 1];
+        return {records, next: last.id.toJsonString()};
     }
 
-    isolated resource function delete profile/[int id]() returns Profile|persist:Error {
-        Profile result = check self->/profile/[id].get();
-        _ = check self.persistClients.get(PROFILE).runDeleteQuery({"id": id});
+    isolated resource function count profile(record {|int id?; string name?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM Profile WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
         return result;
     }
 
-    public function close() returns persist:Error? {
-        error? result = self.dbClient.close();
+    isolated resource function get profile/[int id]() returns Profile|persist:Error {
+        Profile|sql:Error result = self.dbClient->queryRow(`SELECT id, name FROM Profile WHERE id = ${id}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'Profile' for key ${id.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
-}
-
-public class MultipleAssociationsStream {
 
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
+    isolated resource function exists profile/[int id]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM Profile WHERE id = ${id} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
     }
 
-    public isolated function next() returns record {|MultipleAssociations value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
+    isolated resource function post profile(ProfileInsert[]|stream<ProfileInsert, error?> data, (isolated function (int[] keys) returns error?)? onBatch = ()) returns int[]|persist:Error {
+        stream<ProfileInsert, error?> rows = data is ProfileInsert[] ? data.toStream() : data;
+        int[] keys = [];
+        ProfileInsert[] batch = [];
+        record {|ProfileInsert value;|}|error? row = rows.next();
+        while row is record {|ProfileInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(PROFILE).runBatchInsertQuery(batch);
+                int[] batchKeys = from ProfileInsert inserted in batch select inserted.id;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(PROFILE).runBatchInsertQuery(batch);
+            int[] batchKeys = from ProfileInsert inserted in batch select inserted.id;
+            if onBatch is () {
+                keys.push(...batchKeys);
             } else {
-                MultipleAssociations|error value = streamValue.value.cloneWithType(MultipleAssociations);
-                if value is error {
-                    return <persist:Error>error(value.message());
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
                 }
-                record {|MultipleAssociations value;|} nextRecord = {value: value};
-                return nextRecord;
             }
-        } else {
-            return ();
         }
+        return keys;
     }
 
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
-    }
-}
-
-public class ProfileStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
+    isolated resource function put profile/[int id](ProfileUpdate value) returns Profile|persist:Error {
+        _ = check self.persistClients.get(PROFILE).runUpdateQuery({"id": id}, value);
+        return self->/profile/[id].get();
     }
 
-    public isolated function next() returns record {|Profile value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
-            } else {
-                Profile|error value = streamValue.value.cloneWithType(Profile);
-                if value is error {
-                    return <persist:Error>error(value.message());
+    isolated resource function put profile(ProfileInsert[]|stream<ProfileInsert, error?> data) returns persist:Error? {
+        stream<ProfileInsert, error?> rows = data is ProfileInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|ProfileInsert value;|}|error? row = rows.next();
+        while row is record {|ProfileInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.id}, ${row.value.name})` : `, (${row.value.id}, ${row.value.name})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Profile (id, name) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
                 }
-                record {|Profile value;|} nextRecord = {value: value};
-                return nextRecord;
+                values = [];
             }
-        } else {
-            return ();
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
         }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Profile (id, name) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
+    isolated resource function delete profile/[int id]() returns Profile|persist:Error {
+        Profile result = check self->/profile/[id].get();
+        _ = check self.persistClients.get(PROFILE).runDeleteQuery({"id": id});
+        return result;
     }
 
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
+    public function close() returns persist:Error? {
+        error? result = self.dbClient.close();
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result;
     }
 }
 
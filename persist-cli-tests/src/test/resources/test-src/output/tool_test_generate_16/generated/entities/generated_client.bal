@@ -17,6 +17,8 @@ public client class EntitiesClient {
 
     private final map<persist:SQLClient> persistClients;
 
+    private final int batchSize;
+
     private final record {|persist:Metadata...;|} metadata = {
         "company": {
             entityName: "Company",
@@ -39,39 +41,146 @@ public client class EntitiesClient {
         }
     };
 
-    public function init() returns persist:Error? {
+    public function init(int batchSize = 1000) returns persist:Error? {
+        if batchSize < 1 {
+            return <persist:Error>error(string `The batch size should be a positive integer, found ${batchSize}.`);
+        }
         mysql:Client|error dbClient = new (host = host, user = user, password = password, database = database, port = port);
         if dbClient is error {
             return <persist:Error>error(dbClient.message());
         }
         self.dbClient = dbClient;
+        self.batchSize = batchSize;
         self.persistClients = {
             company: check new (self.dbClient, self.metadata.get(COMPANY)),
             employee: check new (self.dbClient, self.metadata.get(EMPLOYEE))
         };
     }
 
-    isolated resource function get company() returns stream<Company, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(COMPANY).runReadQuery(Company);
-        if result is persist:Error {
-            return new stream<Company, persist:Error?>(new CompanyStream((), result));
-        } else {
-            return new stream<Company, persist:Error?>(new CompanyStream(result));
+    isolated resource function get company(record {|int id?; string name?;|} filter = {}, ("id"|"name")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<Company, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT id, name FROM Company WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
+    }
+
+    isolated resource function project company(("id"|"name")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM Company`));
+    }
+
+    isolated resource function page company(int pageSize, string? cursor = ()) returns record {|Company[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT id, name FROM Company`;
+        if cursor is string {
+            int|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE id > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY id LIMIT ${pageSize}`);
+        stream<Company, sql:Error?> rows = self.dbClient->query(query);
+        Company[]|sql:Error records = from Company item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        Company last = records[records.length() - 1];
+        return {records, next: last.id.toJsonString()};
+    }
+
+    isolated resource function count company(record {|int id?; string name?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM Company WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
         }
+        return result;
     }
 
     isolated resource function get company/[int id]() returns Company|persist:Error {
-        Company|error result = (check self.persistClients.get(COMPANY).runReadByKeyQuery(Company, id)).cloneWithType(Company);
+        Company|sql:Error result = self.dbClient->queryRow(`SELECT id, name FROM Company WHERE id = ${id}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'Company' for key ${id.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
 
-    isolated resource function post company(CompanyInsert[] data) returns int[]|persist:Error {
-        _ = check self.persistClients.get(COMPANY).runBatchInsertQuery(data);
-        return from CompanyInsert inserted in data
-            select inserted.id;
+    isolated resource function exists company/[int id]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM Company WHERE id = ${id} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
+    }
+
+    isolated resource function post company(CompanyInsert[]|stream<CompanyInsert, error?> data, (isolated function (int[] keys) returns error?)? onBatch = ()) returns int[]|persist:Error {
+        stream<CompanyInsert, error?> rows = data is CompanyInsert[] ? data.toStream() : data;
+        int[] keys = [];
+        CompanyInsert[] batch = [];
+        record {|CompanyInsert value;|}|error? row = rows.next();
+        while row is record {|CompanyInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(COMPANY).runBatchInsertQuery(batch);
+                int[] batchKeys = from CompanyInsert inserted in batch select inserted.id;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(COMPANY).runBatchInsertQuery(batch);
+            int[] batchKeys = from CompanyInsert inserted in batch select inserted.id;
+            if onBatch is () {
+                keys.push(...batchKeys);
+            } else {
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
+                }
+            }
+        }
+        return keys;
     }
 
     isolated resource function put company/[int id](CompanyUpdate value) returns Company|persist:Error {
@@ -79,128 +188,213 @@ public client class EntitiesClient {
         return self->/company/[id].get();
     }
 
+    isolated resource function put company(CompanyInsert[]|stream<CompanyInsert, error?> data) returns persist:Error? {
+        stream<CompanyInsert, error?> rows = data is CompanyInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|CompanyInsert value;|}|error? row = rows.next();
+        while row is record {|CompanyInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.id}, ${row.value.name})` : `, (${row.value.id}, ${row.value.name})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Company (id, name) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
+                }
+                values = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Company (id, name) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
     isolated resource function delete company/[int id]() returns Company|persist:Error {
         Company result = check self->/company/[id].get();
         _ = check self.persistClients.get(COMPANY).runDeleteQuery(id);
         return result;
     }
 
-    isolated resource function get employee() returns stream<Employee, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(EMPLOYEE).runReadQuery(Employee);
-        if result is persist:Error {
-            return new stream<Employee, persist:Error?>(new EmployeeStream((), result));
-        } else {
-            return new stream<Employee, persist:Error?>(new EmployeeStream(result));
+    isolated resource function get employee(record {|int id?; string name?; int companyId?;|} filter = {}, ("id"|"name"|"companyId")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<Employee, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT id, name, companyId FROM Employee WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
         }
-    }
-
-    isolated resource function get employee/[int id]() returns Employee|persist:Error {
-        Employee|error result = (check self.persistClients.get(EMPLOYEE).runReadByKeyQuery(Employee, id)).cloneWithType(Employee);
-        if result is error {
-            return <persist:Error>error(result.message());
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
         }
-        return result;
+        if filter.hasKey("companyId") {
+            query = sql:queryConcat(query, ` AND companyId <=> ${filter?.companyId}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`, "companyId": `companyId`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
     }
 
-    isolated resource function post employee(EmployeeInsert[] data) returns int[]|persist:Error {
-        _ = check self.persistClients.get(EMPLOYEE).runBatchInsertQuery(data);
-        return from EmployeeInsert inserted in data
-            select inserted.id;
+    isolated resource function project employee(("id"|"name"|"companyId")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"id": `id`, "name": `name`, "companyId": `companyId`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM Employee`));
     }
 
-    isolated resource function put employee/[int id](EmployeeUpdate value) returns Employee|persist:Error {
-        _ = check self.persistClients.get(EMPLOYEE).runUpdateQuery(id, value);
-        return self->/employee/[id].get();
+    isolated resource function page employee(int pageSize, string? cursor = ()) returns record {|Employee[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT id, name, companyId FROM Employee`;
+        if cursor is string {
+            int|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE id > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY id LIMIT ${pageSize}`);
+        stream<Employee, sql:Error?> rows = self.dbClient->query(query);
+        Employee[]|sql:Error records = from Employee item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        Employee last = records[records.length() - 1];
+        return {records, next: last.id.toJsonString()};
     }
 
-    isolated resource function delete employee/[int id]() returns Employee|persist:Error {
-        Employee result = check self->/employee/[id].get();
-        _ = check self.persistClients.get(EMPLOYEE).runDeleteQuery(id);
+    isolated resource function count employee(record {|int id?; string name?; int companyId?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM Employee WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("name") {
+            query = sql:queryConcat(query, ` AND name <=> ${filter?.name}`);
+        }
+        if filter.hasKey("companyId") {
+            query = sql:queryConcat(query, ` AND companyId <=> ${filter?.companyId}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
         return result;
     }
 
-    public function close() returns persist:Error? {
-        error? result = self.dbClient.close();
+    isolated resource function get employee/[int id]() returns Employee|persist:Error {
+        Employee|sql:Error result = self.dbClient->queryRow(`SELECT id, name, companyId FROM Employee WHERE id = ${id}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'Employee' for key ${id.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
-}
-
-public class CompanyStream {
 
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
+    isolated resource function exists employee/[int id]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM Employee WHERE id = ${id} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
     }
 
-    public isolated function next() returns record {|Company value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
+    isolated resource function post employee(EmployeeInsert[]|stream<EmployeeInsert, error?> data, (isolated function (int[] keys) returns error?)? onBatch = ()) returns int[]|persist:Error {
+        stream<EmployeeInsert, error?> rows = data is EmployeeInsert[] ? data.toStream() : data;
+        int[] keys = [];
+        EmployeeInsert[] batch = [];
+        record {|EmployeeInsert value;|}|error? row = rows.next();
+        while row is record {|EmployeeInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(EMPLOYEE).runBatchInsertQuery(batch);
+                int[] batchKeys = from EmployeeInsert inserted in batch select inserted.id;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(EMPLOYEE).runBatchInsertQuery(batch);
+            int[] batchKeys = from EmployeeInsert inserted in batch select inserted.id;
+            if onBatch is () {
+                keys.push(...batchKeys);
             } else {
-                Company|error value = streamValue.value.cloneWithType(Company);
-                if value is error {
-                    return <persist:Error>error(value.message());
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
                 }
-                record {|Company value;|} nextRecord = {value: value};
-                return nextRecord;
             }
-        } else {
-            return ();
         }
+        return keys;
     }
 
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
-    }
-}
-
-public class EmployeeStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
+    isolated resource function put employee/[int id](EmployeeUpdate value) returns Employee|persist:Error {
+        _ = check self.persistClients.get(EMPLOYEE).runUpdateQuery(id, value);
+        return self->/employee/[id].get();
     }
 
-    public isolated function next() returns record {|Employee value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
-            } else {
-                Employee|error value = streamValue.value.cloneWithType(Employee);
-                if value is error {
-                    return <persist:Error>error(value.message());
+    isolated resource function put employee(EmployeeInsert[]|stream<EmployeeInsert, error?> data) returns persist:Error? {
+        stream<EmployeeInsert, error?> rows = data is EmployeeInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|EmployeeInsert value;|}|error? row = rows.next();
+        while row is record {|EmployeeInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.id}, ${row.value.name}, ${row.value.companyId})` : `, (${row.value.id}, ${row.value.name}, ${row.value.companyId})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Employee (id, name, companyId) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name, companyId = new.companyId`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
                 }
-                record {|Employee value;|} nextRecord = {value: value};
-                return nextRecord;
+                values = [];
             }
-        } else {
-            return ();
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
         }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Employee (id, name, companyId) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE name = new.name, companyId = new.companyId`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
+    isolated resource function delete employee/[int id]() returns Employee|persist:Error {
+        Employee result = check self->/employee/[id].get();
+        _ = check self.persistClients.get(EMPLOYEE).runDeleteQuery(id);
+        return result;
     }
 
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
+    public function close() returns persist:Error? {
+        error? result = self.dbClient.close();
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result;
     }
 }
 
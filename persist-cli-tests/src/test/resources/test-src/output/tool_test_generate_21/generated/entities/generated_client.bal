@@ -18,6 +18,8 @@ public client class EntitiesClient {
 
     private final map<persist:SQLClient> persistClients;
 
+    private final int batchSize;
+
     private final record {|persist:Metadata...;|} metadata = {
         "medicalneed": {
             entityName: "MedicalNeed",
@@ -44,39 +46,170 @@ public client class EntitiesClient {
         }
     };
 
-    public function init() returns persist:Error? {
+    public function init(int batchSize = 1000) returns persist:Error? {
+        if batchSize < 1 {
+            return <persist:Error>error(string `The batch size should be a positive integer, found ${batchSize}.`);
+        }
         mysql:Client|error dbClient = new (host = host, user = user, password = password, database = database, port = port);
         if dbClient is error {
             return <persist:Error>error(dbClient.message());
         }
         self.dbClient = dbClient;
+        self.batchSize = batchSize;
         self.persistClients = {
             medicalneed: check new (self.dbClient, self.metadata.get(MEDICAL_NEED)),
             aidpackageorderitem: check new (self.dbClient, self.metadata.get(AID_PACKAGE_ORDER_ITEM))
         };
     }
 
-    isolated resource function get medicalneed() returns stream<MedicalNeed, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(MEDICAL_NEED).runReadQuery(MedicalNeed);
-        if result is persist:Error {
-            return new stream<MedicalNeed, persist:Error?>(new MedicalNeedStream((), result));
-        } else {
-            return new stream<MedicalNeed, persist:Error?>(new MedicalNeedStream(result));
+    isolated resource function get medicalneed(record {|int needId?; int beneficiaryId?; time:Civil period?; string urgency?; int quantity?; int aidpackageorderitemId?;|} filter = {}, ("needId"|"beneficiaryId"|"period"|"urgency"|"quantity"|"aidpackageorderitemId")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<MedicalNeed, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT needId, beneficiaryId, period, urgency, quantity, aidpackageorderitemId FROM MedicalNeed WHERE TRUE`;
+        if filter.hasKey("needId") {
+            query = sql:queryConcat(query, ` AND needId <=> ${filter?.needId}`);
+        }
+        if filter.hasKey("beneficiaryId") {
+            query = sql:queryConcat(query, ` AND beneficiaryId <=> ${filter?.beneficiaryId}`);
+        }
+        if filter.hasKey("period") {
+            query = sql:queryConcat(query, ` AND period <=> ${filter?.period}`);
+        }
+        if filter.hasKey("urgency") {
+            query = sql:queryConcat(query, ` AND urgency <=> ${filter?.urgency}`);
+        }
+        if filter.hasKey("quantity") {
+            query = sql:queryConcat(query, ` AND quantity <=> ${filter?.quantity}`);
+        }
+        if filter.hasKey("aidpackageorderitemId") {
+            query = sql:queryConcat(query, ` AND aidpackageorderitemId <=> ${filter?.aidpackageorderitemId}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"needId": `needId`, "beneficiaryId": `beneficiaryId`, "period": `period`, "urgency": `urgency`, "quantity": `quantity`, "aidpackageorderitemId": `aidpackageorderitemId`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
+    }
+
+    isolated resource function project medicalneed(("needId"|"beneficiaryId"|"period"|"urgency"|"quantity"|"aidpackageorderitemId")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"needId": `needId`, "beneficiaryId": `beneficiaryId`, "period": `period`, "urgency": `urgency`, "quantity": `quantity`, "aidpackageorderitemId": `aidpackageorderitemId`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM MedicalNeed`));
+    }
+
+    isolated resource function page medicalneed(int pageSize, string? cursor = ()) returns record {|MedicalNeed[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
         }
+        sql:ParameterizedQuery query = `SELECT needId, beneficiaryId, period, urgency, quantity, aidpackageorderitemId FROM MedicalNeed`;
+        if cursor is string {
+            int|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE needId > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY needId LIMIT ${pageSize}`);
+        stream<MedicalNeed, sql:Error?> rows = self.dbClient->query(query);
+        MedicalNeed[]|sql:Error records = from MedicalNeed item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        MedicalNeed last = records[records.length() - 1];
+        return {records, next: last.needId.toJsonString()};
+    }
+
+    isolated resource function count medicalneed(record {|int needId?; int beneficiaryId?; time:Civil period?; string urgency?; int quantity?; int aidpackageorderitemId?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM MedicalNeed WHERE TRUE`;
+        if filter.hasKey("needId") {
+            query = sql:queryConcat(query, ` AND needId <=> ${filter?.needId}`);
+        }
+        if filter.hasKey("beneficiaryId") {
+            query = sql:queryConcat(query, ` AND beneficiaryId <=> ${filter?.beneficiaryId}`);
+        }
+        if filter.hasKey("period") {
+            query = sql:queryConcat(query, ` AND period <=> ${filter?.period}`);
+        }
+        if filter.hasKey("urgency") {
+            query = sql:queryConcat(query, ` AND urgency <=> ${filter?.urgency}`);
+        }
+        if filter.hasKey("quantity") {
+            query = sql:queryConcat(query, ` AND quantity <=> ${filter?.quantity}`);
+        }
+        if filter.hasKey("aidpackageorderitemId") {
+            query = sql:queryConcat(query, ` AND aidpackageorderitemId <=> ${filter?.aidpackageorderitemId}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result;
     }
 
     isolated resource function get medicalneed/[int needId]() returns MedicalNeed|persist:Error {
-        MedicalNeed|error result = (check self.persistClients.get(MEDICAL_NEED).runReadByKeyQuery(MedicalNeed, needId)).cloneWithType(MedicalNeed);
+        MedicalNeed|sql:Error result = self.dbClient->queryRow(`SELECT needId, beneficiaryId, period, urgency, quantity, aidpackageorderitemId FROM MedicalNeed WHERE needId = ${needId}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'MedicalNeed' for key ${needId.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
 
-    isolated resource function post medicalneed(MedicalNeedInsert[] data) returns int[]|persist:Error {
-        _ = check self.persistClients.get(MEDICAL_NEED).runBatchInsertQuery(data);
-        return from MedicalNeedInsert inserted in data
-            select inserted.needId;
+    isolated resource function exists medicalneed/[int needId]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM MedicalNeed WHERE needId = ${needId} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
+    }
+
+    isolated resource function post medicalneed(MedicalNeedInsert[]|stream<MedicalNeedInsert, error?> data, (isolated function (int[] keys) returns error?)? onBatch = ()) returns int[]|persist:Error {
+        stream<MedicalNeedInsert, error?> rows = data is MedicalNeedInsert[] ? data.toStream() : data;
+        int[] keys = [];
+        MedicalNeedInsert[] batch = [];
+        record {|MedicalNeedInsert value;|}|error? row = rows.next();
+        while row is record {|MedicalNeedInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(MEDICAL_NEED).runBatchInsertQuery(batch);
+                int[] batchKeys = from MedicalNeedInsert inserted in batch select inserted.needId;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(MEDICAL_NEED).runBatchInsertQuery(batch);
+            int[] batchKeys = from MedicalNeedInsert inserted in batch select inserted.needId;
+            if onBatch is () {
+                keys.push(...batchKeys);
+            } else {
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
+                }
+            }
+        }
+        return keys;
     }
 
     isolated resource function put medicalneed/[int needId](MedicalNeedUpdate value) returns MedicalNeed|persist:Error {
@@ -84,128 +217,213 @@ public client class EntitiesClient {
         return self->/medicalneed/[needId].get();
     }
 
+    isolated resource function put medicalneed(MedicalNeedInsert[]|stream<MedicalNeedInsert, error?> data) returns persist:Error? {
+        stream<MedicalNeedInsert, error?> rows = data is MedicalNeedInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|MedicalNeedInsert value;|}|error? row = rows.next();
+        while row is record {|MedicalNeedInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.needId}, ${row.value.beneficiaryId}, ${row.value.period}, ${row.value.urgency}, ${row.value.quantity}, ${row.value.aidpackageorderitemId})` : `, (${row.value.needId}, ${row.value.beneficiaryId}, ${row.value.period}, ${row.value.urgency}, ${row.value.quantity}, ${row.value.aidpackageorderitemId})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO MedicalNeed (needId, beneficiaryId, period, urgency, quantity, aidpackageorderitemId) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE beneficiaryId = new.beneficiaryId, period = new.period, urgency = new.urgency, quantity = new.quantity, aidpackageorderitemId = new.aidpackageorderitemId`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
+                }
+                values = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO MedicalNeed (needId, beneficiaryId, period, urgency, quantity, aidpackageorderitemId) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE beneficiaryId = new.beneficiaryId, period = new.period, urgency = new.urgency, quantity = new.quantity, aidpackageorderitemId = new.aidpackageorderitemId`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
     isolated resource function delete medicalneed/[int needId]() returns MedicalNeed|persist:Error {
         MedicalNeed result = check self->/medicalneed/[needId].get();
         _ = check self.persistClients.get(MEDICAL_NEED).runDeleteQuery(needId);
         return result;
     }
 
-    isolated resource function get aidpackageorderitem() returns stream<AidPackageOrderItem, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(AID_PACKAGE_ORDER_ITEM).runReadQuery(AidPackageOrderItem);
-        if result is persist:Error {
-            return new stream<AidPackageOrderItem, persist:Error?>(new AidPackageOrderItemStream((), result));
-        } else {
-            return new stream<AidPackageOrderItem, persist:Error?>(new AidPackageOrderItemStream(result));
+    isolated resource function get aidpackageorderitem(record {|int id?; int quantity?; int totalAmount?;|} filter = {}, ("id"|"quantity"|"totalAmount")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<AidPackageOrderItem, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT id, quantity, totalAmount FROM AidPackageOrderItem WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
         }
-    }
-
-    isolated resource function get aidpackageorderitem/[int id]() returns AidPackageOrderItem|persist:Error {
-        AidPackageOrderItem|error result = (check self.persistClients.get(AID_PACKAGE_ORDER_ITEM).runReadByKeyQuery(AidPackageOrderItem, id)).cloneWithType(AidPackageOrderItem);
-        if result is error {
-            return <persist:Error>error(result.message());
+        if filter.hasKey("quantity") {
+            query = sql:queryConcat(query, ` AND quantity <=> ${filter?.quantity}`);
         }
-        return result;
+        if filter.hasKey("totalAmount") {
+            query = sql:queryConcat(query, ` AND totalAmount <=> ${filter?.totalAmount}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"id": `id`, "quantity": `quantity`, "totalAmount": `totalAmount`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
     }
 
-    isolated resource function post aidpackageorderitem(AidPackageOrderItemInsert[] data) returns int[]|persist:Error {
-        _ = check self.persistClients.get(AID_PACKAGE_ORDER_ITEM).runBatchInsertQuery(data);
-        return from AidPackageOrderItemInsert inserted in data
-            select inserted.id;
+    isolated resource function project aidpackageorderitem(("id"|"quantity"|"totalAmount")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"id": `id`, "quantity": `quantity`, "totalAmount": `totalAmount`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM AidPackageOrderItem`));
     }
 
-    isolated resource function put aidpackageorderitem/[int id](AidPackageOrderItemUpdate value) returns AidPackageOrderItem|persist:Error {
-        _ = check self.persistClients.get(AID_PACKAGE_ORDER_ITEM).runUpdateQuery(id, value);
-        return self->/aidpackageorderitem/[id].get();
+    isolated resource function page aidpackageorderitem(int pageSize, string? cursor = ()) returns record {|AidPackageOrderItem[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT id, quantity, totalAmount FROM AidPackageOrderItem`;
+        if cursor is string {
+            int|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE id > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY id LIMIT ${pageSize}`);
+        stream<AidPackageOrderItem, sql:Error?> rows = self.dbClient->query(query);
+        AidPackageOrderItem[]|sql:Error records = from AidPackageOrderItem item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        AidPackageOrderItem last = records[records.length() - 1];
+        return {records, next: last.id.toJsonString()};
     }
 
-    isolated resource function delete aidpackageorderitem/[int id]() returns AidPackageOrderItem|persist:Error {
-        AidPackageOrderItem result = check self->/aidpackageorderitem/[id].get();
-        _ = check self.persistClients.get(AID_PACKAGE_ORDER_ITEM).runDeleteQuery(id);
+    isolated resource function count aidpackageorderitem(record {|int id?; int quantity?; int totalAmount?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM AidPackageOrderItem WHERE TRUE`;
+        if filter.hasKey("id") {
+            query = sql:queryConcat(query, ` AND id <=> ${filter?.id}`);
+        }
+        if filter.hasKey("quantity") {
+            query = sql:queryConcat(query, ` AND quantity <=> ${filter?.quantity}`);
+        }
+        if filter.hasKey("totalAmount") {
+            query = sql:queryConcat(query, ` AND totalAmount <=> ${filter?.totalAmount}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
         return result;
     }
 
-    public function close() returns persist:Error? {
-        error? result = self.dbClient.close();
+    isolated resource function get aidpackageorderitem/[int id]() returns AidPackageOrderItem|persist:Error {
+        AidPackageOrderItem|sql:Error result = self.dbClient->queryRow(`SELECT id, quantity, totalAmount FROM AidPackageOrderItem WHERE id = ${id}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'AidPackageOrderItem' for key ${id.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
-}
-
-public class MedicalNeedStream {
 
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
+    isolated resource function exists aidpackageorderitem/[int id]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM AidPackageOrderItem WHERE id = ${id} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
     }
 
-    public isolated function next() returns record {|MedicalNeed value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
+    isolated resource function post aidpackageorderitem(AidPackageOrderItemInsert[]|stream<AidPackageOrderItemInsert, error?> data, (isolated function (int[] keys) returns error?)? onBatch = ()) returns int[]|persist:Error {
+        stream<AidPackageOrderItemInsert, error?> rows = data is AidPackageOrderItemInsert[] ? data.toStream() : data;
+        int[] keys = [];
+        AidPackageOrderItemInsert[] batch = [];
+        record {|AidPackageOrderItemInsert value;|}|error? row = rows.next();
+        while row is record {|AidPackageOrderItemInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(AID_PACKAGE_ORDER_ITEM).runBatchInsertQuery(batch);
+                int[] batchKeys = from AidPackageOrderItemInsert inserted in batch select inserted.id;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(AID_PACKAGE_ORDER_ITEM).runBatchInsertQuery(batch);
+            int[] batchKeys = from AidPackageOrderItemInsert inserted in batch select inserted.id;
+            if onBatch is () {
+                keys.push(...batchKeys);
             } else {
-                MedicalNeed|error value = streamValue.value.cloneWithType(MedicalNeed);
-                if value is error {
-                    return <persist:Error>error(value.message());
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
                 }
-                record {|MedicalNeed value;|} nextRecord = {value: value};
-                return nextRecord;
             }
-        } else {
-            return ();
         }
+        return keys;
     }
 
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
-    }
-}
-
-public class AidPackageOrderItemStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
+    isolated resource function put aidpackageorderitem/[int id](AidPackageOrderItemUpdate value) returns AidPackageOrderItem|persist:Error {
+        _ = check self.persistClients.get(AID_PACKAGE_ORDER_ITEM).runUpdateQuery(id, value);
+        return self->/aidpackageorderitem/[id].get();
     }
 
-    public isolated function next() returns record {|AidPackageOrderItem value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
-            } else {
-                AidPackageOrderItem|error value = streamValue.value.cloneWithType(AidPackageOrderItem);
-                if value is error {
-                    return <persist:Error>error(value.message());
+    isolated resource function put aidpackageorderitem(AidPackageOrderItemInsert[]|stream<AidPackageOrderItemInsert, error?> data) returns persist:Error? {
+        stream<AidPackageOrderItemInsert, error?> rows = data is AidPackageOrderItemInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|AidPackageOrderItemInsert value;|}|error? row = rows.next();
+        while row is record {|AidPackageOrderItemInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.id}, ${row.value.quantity}, ${row.value.totalAmount})` : `, (${row.value.id}, ${row.value.quantity}, ${row.value.totalAmount})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO AidPackageOrderItem (id, quantity, totalAmount) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE quantity = new.quantity, totalAmount = new.totalAmount`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
                 }
-                record {|AidPackageOrderItem value;|} nextRecord = {value: value};
-                return nextRecord;
+                values = [];
             }
-        } else {
-            return ();
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
         }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO AidPackageOrderItem (id, quantity, totalAmount) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE quantity = new.quantity, totalAmount = new.totalAmount`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
+    isolated resource function delete aidpackageorderitem/[int id]() returns AidPackageOrderItem|persist:Error {
+        AidPackageOrderItem result = check self->/aidpackageorderitem/[id].get();
+        _ = check self.persistClients.get(AID_PACKAGE_ORDER_ITEM).runDeleteQuery(id);
+        return result;
     }
 
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
+    public function close() returns persist:Error? {
+        error? result = self.dbClient.close();
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result;
     }
 }
 
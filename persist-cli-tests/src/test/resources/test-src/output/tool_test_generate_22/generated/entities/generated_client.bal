@@ -18,6 +18,8 @@ public client class EntitiesClient {
 
     private final map<persist:SQLClient> persistClients;
 
+    private final int batchSize;
+
     private final record {|persist:Metadata...;|} metadata = {
         "medicalneed": {
             entityName: "MedicalNeed",
@@ -45,39 +47,170 @@ public client class EntitiesClient {
         }
     };
 
-    public function init() returns persist:Error? {
+    public function init(int batchSize = 1000) returns persist:Error? {
+        if batchSize < 1 {
+            return <persist:Error>error(string `The batch size should be a positive integer, found ${batchSize}.`);
+        }
         mysql:Client|error dbClient = new (host = host, user = user, password = password, database = database, port = port);
         if dbClient is error {
             return <persist:Error>error(dbClient.message());
         }
         self.dbClient = dbClient;
+        self.batchSize = batchSize;
         self.persistClients = {
             medicalneed: check new (self.dbClient, self.metadata.get(MEDICAL_NEED)),
             medicalitem: check new (self.dbClient, self.metadata.get(MEDICAL_ITEM))
         };
     }
 
-    isolated resource function get medicalneed() returns stream<MedicalNeed, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(MEDICAL_NEED).runReadQuery(MedicalNeed);
-        if result is persist:Error {
-            return new stream<MedicalNeed, persist:Error?>(new MedicalNeedStream((), result));
-        } else {
-            return new stream<MedicalNeed, persist:Error?>(new MedicalNeedStream(result));
+    isolated resource function get medicalneed(record {|int 'record?; int medicalitemItemId?; int beneficiaryId?; time:Civil 'time?; string urgency?; int quantity?;|} filter = {}, ("record"|"medicalitemItemId"|"beneficiaryId"|"time"|"urgency"|"quantity")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<MedicalNeed, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT record, medicalitemItemId, beneficiaryId, time, urgency, quantity FROM MedicalNeed WHERE TRUE`;
+        if filter.hasKey("record") {
+            query = sql:queryConcat(query, ` AND record <=> ${filter?.'record}`);
+        }
+        if filter.hasKey("medicalitemItemId") {
+            query = sql:queryConcat(query, ` AND medicalitemItemId <=> ${filter?.medicalitemItemId}`);
+        }
+        if filter.hasKey("beneficiaryId") {
+            query = sql:queryConcat(query, ` AND beneficiaryId <=> ${filter?.beneficiaryId}`);
+        }
+        if filter.hasKey("time") {
+            query = sql:queryConcat(query, ` AND time <=> ${filter?.'time}`);
+        }
+        if filter.hasKey("urgency") {
+            query = sql:queryConcat(query, ` AND urgency <=> ${filter?.urgency}`);
+        }
+        if filter.hasKey("quantity") {
+            query = sql:queryConcat(query, ` AND quantity <=> ${filter?.quantity}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"record": `record`, "medicalitemItemId": `medicalitemItemId`, "beneficiaryId": `beneficiaryId`, "time": `time`, "urgency": `urgency`, "quantity": `quantity`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
+    }
+
+    isolated resource function project medicalneed(("record"|"medicalitemItemId"|"beneficiaryId"|"time"|"urgency"|"quantity")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"record": `record`, "medicalitemItemId": `medicalitemItemId`, "beneficiaryId": `beneficiaryId`, "time": `time`, "urgency": `urgency`, "quantity": `quantity`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM MedicalNeed`));
+    }
+
+    isolated resource function page medicalneed(int pageSize, string? cursor = ()) returns record {|MedicalNeed[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT record, medicalitemItemId, beneficiaryId, time, urgency, quantity FROM MedicalNeed`;
+        if cursor is string {
+            int|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE record > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY record LIMIT ${pageSize}`);
+        stream<MedicalNeed, sql:Error?> rows = self.dbClient->query(query);
+        MedicalNeed[]|sql:Error records = from MedicalNeed item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        MedicalNeed last = records[records.length() - 1];
+        return {records, next: last.'record.toJsonString()};
+    }
+
+    isolated resource function count medicalneed(record {|int 'record?; int medicalitemItemId?; int beneficiaryId?; time:Civil 'time?; string urgency?; int quantity?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM MedicalNeed WHERE TRUE`;
+        if filter.hasKey("record") {
+            query = sql:queryConcat(query, ` AND record <=> ${filter?.'record}`);
+        }
+        if filter.hasKey("medicalitemItemId") {
+            query = sql:queryConcat(query, ` AND medicalitemItemId <=> ${filter?.medicalitemItemId}`);
+        }
+        if filter.hasKey("beneficiaryId") {
+            query = sql:queryConcat(query, ` AND beneficiaryId <=> ${filter?.beneficiaryId}`);
+        }
+        if filter.hasKey("time") {
+            query = sql:queryConcat(query, ` AND time <=> ${filter?.'time}`);
+        }
+        if filter.hasKey("urgency") {
+            query = sql:queryConcat(query, ` AND urgency <=> ${filter?.urgency}`);
+        }
+        if filter.hasKey("quantity") {
+            query = sql:queryConcat(query, ` AND quantity <=> ${filter?.quantity}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
         }
+        return result;
     }
 
     isolated resource function get medicalneed/[int 'record]() returns MedicalNeed|persist:Error {
-        MedicalNeed|error result = (check self.persistClients.get(MEDICAL_NEED).runReadByKeyQuery(MedicalNeed, 'record)).cloneWithType(MedicalNeed);
+        MedicalNeed|sql:Error result = self.dbClient->queryRow(`SELECT record, medicalitemItemId, beneficiaryId, time, urgency, quantity FROM MedicalNeed WHERE record = ${'record}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'MedicalNeed' for key ${'record.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
 
-    isolated resource function post medicalneed(MedicalNeedInsert[] data) returns int[]|persist:Error {
-        _ = check self.persistClients.get(MEDICAL_NEED).runBatchInsertQuery(data);
-        return from MedicalNeedInsert inserted in data
-            select inserted.'record;
+    isolated resource function exists medicalneed/[int 'record]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM MedicalNeed WHERE record = ${'record} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
+    }
+
+    isolated resource function post medicalneed(MedicalNeedInsert[]|stream<MedicalNeedInsert, error?> data, (isolated function (int[] keys) returns error?)? onBatch = ()) returns int[]|persist:Error {
+        stream<MedicalNeedInsert, error?> rows = data is MedicalNeedInsert[] ? data.toStream() : data;
+        int[] keys = [];
+        MedicalNeedInsert[] batch = [];
+        record {|MedicalNeedInsert value;|}|error? row = rows.next();
+        while row is record {|MedicalNeedInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(MEDICAL_NEED).runBatchInsertQuery(batch);
+                int[] batchKeys = from MedicalNeedInsert inserted in batch select inserted.'record;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(MEDICAL_NEED).runBatchInsertQuery(batch);
+            int[] batchKeys = from MedicalNeedInsert inserted in batch select inserted.'record;
+            if onBatch is () {
+                keys.push(...batchKeys);
+            } else {
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
+                }
+            }
+        }
+        return keys;
     }
 
     isolated resource function put medicalneed/[int 'record](MedicalNeedUpdate value) returns MedicalNeed|persist:Error {
@@ -85,128 +218,219 @@ public client class EntitiesClient {
         return self->/medicalneed/['record].get();
     }
 
+    isolated resource function put medicalneed(MedicalNeedInsert[]|stream<MedicalNeedInsert, error?> data) returns persist:Error? {
+        stream<MedicalNeedInsert, error?> rows = data is MedicalNeedInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|MedicalNeedInsert value;|}|error? row = rows.next();
+        while row is record {|MedicalNeedInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.'record}, ${row.value.medicalitemItemId}, ${row.value.beneficiaryId}, ${row.value.'time}, ${row.value.urgency}, ${row.value.quantity})` : `, (${row.value.'record}, ${row.value.medicalitemItemId}, ${row.value.beneficiaryId}, ${row.value.'time}, ${row.value.urgency}, ${row.value.quantity})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO MedicalNeed (record, medicalitemItemId, beneficiaryId, time, urgency, quantity) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE medicalitemItemId = new.medicalitemItemId, beneficiaryId = new.beneficiaryId, time = new.time, urgency = new.urgency, quantity = new.quantity`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
+                }
+                values = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO MedicalNeed (record, medicalitemItemId, beneficiaryId, time, urgency, quantity) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE medicalitemItemId = new.medicalitemItemId, beneficiaryId = new.beneficiaryId, time = new.time, urgency = new.urgency, quantity = new.quantity`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
     isolated resource function delete medicalneed/[int 'record]() returns MedicalNeed|persist:Error {
         MedicalNeed result = check self->/medicalneed/['record].get();
         _ = check self.persistClients.get(MEDICAL_NEED).runDeleteQuery('record);
         return result;
     }
 
-    isolated resource function get medicalitem() returns stream<MedicalItem, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(MEDICAL_ITEM).runReadQuery(MedicalItem);
-        if result is persist:Error {
-            return new stream<MedicalItem, persist:Error?>(new MedicalItemStream((), result));
-        } else {
-            return new stream<MedicalItem, persist:Error?>(new MedicalItemStream(result));
+    isolated resource function get medicalitem(record {|int itemId?; string 'string?; string 'type?; string unit?;|} filter = {}, ("itemId"|"string"|"type"|"unit")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<MedicalItem, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT itemId, string, type, unit FROM MedicalItem WHERE TRUE`;
+        if filter.hasKey("itemId") {
+            query = sql:queryConcat(query, ` AND itemId <=> ${filter?.itemId}`);
         }
-    }
-
-    isolated resource function get medicalitem/[int itemId]() returns MedicalItem|persist:Error {
-        MedicalItem|error result = (check self.persistClients.get(MEDICAL_ITEM).runReadByKeyQuery(MedicalItem, itemId)).cloneWithType(MedicalItem);
-        if result is error {
-            return <persist:Error>error(result.message());
+        if filter.hasKey("string") {
+            query = sql:queryConcat(query, ` AND string <=> ${filter?.'string}`);
         }
-        return result;
+        if filter.hasKey("type") {
+            query = sql:queryConcat(query, ` AND type <=> ${filter?.'type}`);
+        }
+        if filter.hasKey("unit") {
+            query = sql:queryConcat(query, ` AND unit <=> ${filter?.unit}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"itemId": `itemId`, "string": `string`, "type": `type`, "unit": `unit`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
     }
 
-    isolated resource function post medicalitem(MedicalItemInsert[] data) returns int[]|persist:Error {
-        _ = check self.persistClients.get(MEDICAL_ITEM).runBatchInsertQuery(data);
-        return from MedicalItemInsert inserted in data
-            select inserted.itemId;
+    isolated resource function project medicalitem(("itemId"|"string"|"type"|"unit")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"itemId": `itemId`, "string": `string`, "type": `type`, "unit": `unit`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM MedicalItem`));
     }
 
-    isolated resource function put medicalitem/[int itemId](MedicalItemUpdate value) returns MedicalItem|persist:Error {
-        _ = check self.persistClients.get(MEDICAL_ITEM).runUpdateQuery(itemId, value);
-        return self->/medicalitem/[itemId].get();
+    isolated resource function page medicalitem(int pageSize, string? cursor = ()) returns record {|MedicalItem[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT itemId, string, type, unit FROM MedicalItem`;
+        if cursor is string {
+            int|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE itemId > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY itemId LIMIT ${pageSize}`);
+        stream<MedicalItem, sql:Error?> rows = self.dbClient->query(query);
+        MedicalItem[]|sql:Error records = from MedicalItem item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        MedicalItem last = records[records.length() - 1];
+        return {records, next: last.itemId.toJsonString()};
     }
 
-    isolated resource function delete medicalitem/[int itemId]() returns MedicalItem|persist:Error {
-        MedicalItem result = check self->/medicalitem/[itemId].get();
-        _ = check self.persistClients.get(MEDICAL_ITEM).runDeleteQuery(itemId);
+    isolated resource function count medicalitem(record {|int itemId?; string 'string?; string 'type?; string unit?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM MedicalItem WHERE TRUE`;
+        if filter.hasKey("itemId") {
+            query = sql:queryConcat(query, ` AND itemId <=> ${filter?.itemId}`);
+        }
+        if filter.hasKey("string") {
+            query = sql:queryConcat(query, ` AND string <=> ${filter?.'string}`);
+        }
+        if filter.hasKey("type") {
+            query = sql:queryConcat(query, ` AND type <=> ${filter?.'type}`);
+        }
+        if filter.hasKey("unit") {
+            query = sql:queryConcat(query, ` AND unit <=> ${filter?.unit}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
         return result;
     }
 
-    public function close() returns persist:Error? {
-        error? result = self.dbClient.close();
+    isolated resource function get medicalitem/[int itemId]() returns MedicalItem|persist:Error {
+        MedicalItem|sql:Error result = self.dbClient->queryRow(`SELECT itemId, string, type, unit FROM MedicalItem WHERE itemId = ${itemId}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'MedicalItem' for key ${itemId.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
-}
 
-public class MedicalNeedStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
+    isolated resource function exists medicalitem/[int itemId]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM MedicalItem WHERE itemId = ${itemId} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
     }
 
-    public isolated function next() returns record {|MedicalNeed value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
+    isolated resource function post medicalitem(MedicalItemInsert[]|stream<MedicalItemInsert, error?> data, (isolated function (int[] keys) returns error?)? onBatch = ()) returns int[]|persist:Error {
+        stream<MedicalItemInsert, error?> rows = data is MedicalItemInsert[] ? data.toStream() : data;
+        int[] keys = [];
+        MedicalItemInsert[] batch = [];
+        record {|MedicalItemInsert value;|}|error? row = rows.next();
+        while row is record {|MedicalItemInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(MEDICAL_ITEM).runBatchInsertQuery(batch);
+                int[] batchKeys = from MedicalItemInsert inserted in batch select inserted.itemId;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(MEDICAL_ITEM).runBatchInsertQuery(batch);
+            int[] batchKeys = from MedicalItemInsert inserted in batch select inserted.itemId;
+            if onBatch is () {
+                keys.push(...batchKeys);
             } else {
-                MedicalNeed|error value = streamValue.value.cloneWithType(MedicalNeed);
-                if value is error {
-                    return <persist:Error>error(value.message());
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
                 }
-                record {|MedicalNeed value;|} nextRecord = {value: value};
-                return nextRecord;
             }
-        } else {
-            return ();
         }
+        return keys;
     }
 
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
-    }
-}
-
-public class MedicalItemStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
+    isolated resource function put medicalitem/[int itemId](MedicalItemUpdate value) returns MedicalItem|persist:Error {
+        _ = check self.persistClients.get(MEDICAL_ITEM).runUpdateQuery(itemId, value);
+        return self->/medicalitem/[itemId].get();
     }
 
-    public isolated function next() returns record {|MedicalItem value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
-            } else {
-                MedicalItem|error value = streamValue.value.cloneWithType(MedicalItem);
-                if value is error {
-                    return <persist:Error>error(value.message());
+    isolated resource function put medicalitem(MedicalItemInsert[]|stream<MedicalItemInsert, error?> data) returns persist:Error? {
+        stream<MedicalItemInsert, error?> rows = data is MedicalItemInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|MedicalItemInsert value;|}|error? row = rows.next();
+        while row is record {|MedicalItemInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.itemId}, ${row.value.'string}, ${row.value.'type}, ${row.value.unit})` : `, (${row.value.itemId}, ${row.value.'string}, ${row.value.'type}, ${row.value.unit})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO MedicalItem (itemId, string, type, unit) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE string = new.string, type = new.type, unit = new.unit`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
                 }
-                record {|MedicalItem value;|} nextRecord = {value: value};
-                return nextRecord;
+                values = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO MedicalItem (itemId, string, type, unit) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE string = new.string, type = new.type, unit = new.unit`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
             }
-        } else {
-            return ();
         }
     }
 
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
+    isolated resource function delete medicalitem/[int itemId]() returns MedicalItem|persist:Error {
+        MedicalItem result = check self->/medicalitem/[itemId].get();
+        _ = check self.persistClients.get(MEDICAL_ITEM).runDeleteQuery(itemId);
+        return result;
+    }
+
+    public function close() returns persist:Error? {
+        error? result = self.dbClient.close();
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result;
     }
 }
 
@@ -20,6 +20,8 @@ public client class RainierClient {
 
     private final map<persist:SQLClient> persistClients;
 
+    private final int batchSize;
+
     private final record {|persist:Metadata...;|} metadata = {
         "building": {
             entityName: "Building",
@@ -69,12 +71,16 @@ public client class RainierClient {
         }
     };
 
-    public function init() returns persist:Error? {
+    public function init(int batchSize = 1000) returns persist:Error? {
+        if batchSize < 1 {
+            return <persist:Error>error(string `The batch size should be a positive integer, found ${batchSize}.`);
+        }
         mysql:Client|error dbClient = new (host = host, user = user, password = password, database = database, port = port);
         if dbClient is error {
             return <persist:Error>error(dbClient.message());
         }
         self.dbClient = dbClient;
+        self.batchSize = batchSize;
         self.persistClients = {
             building: check new (self.dbClient, self.metadata.get(BUILDING)),
             department: check new (self.dbClient, self.metadata.get(DEPARTMENT)),
@@ -83,27 +89,148 @@ public client class RainierClient {
         };
     }
 
-    isolated resource function get building() returns stream<Building, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(BUILDING).runReadQuery(Building);
-        if result is persist:Error {
-            return new stream<Building, persist:Error?>(new BuildingStream((), result));
-        } else {
-            return new stream<Building, persist:Error?>(new BuildingStream(result));
+    isolated resource function get building(record {|string buildingCode?; string city?; string state?; string country?; string postalCode?;|} filter = {}, ("buildingCode"|"city"|"state"|"country"|"postalCode")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<Building, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT buildingCode, city, state, country, postalCode FROM Building WHERE TRUE`;
+        if filter.hasKey("buildingCode") {
+            query = sql:queryConcat(query, ` AND buildingCode <=> ${filter?.buildingCode}`);
+        }
+        if filter.hasKey("city") {
+            query = sql:queryConcat(query, ` AND city <=> ${filter?.city}`);
+        }
+        if filter.hasKey("state") {
+            query = sql:queryConcat(query, ` AND state <=> ${filter?.state}`);
+        }
+        if filter.hasKey("country") {
+            query = sql:queryConcat(query, ` AND country <=> ${filter?.country}`);
+        }
+        if filter.hasKey("postalCode") {
+            query = sql:queryConcat(query, ` AND postalCode <=> ${filter?.postalCode}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"buildingCode": `buildingCode`, "city": `city`, "state": `state`, "country": `country`, "postalCode": `postalCode`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
+    }
+
+    isolated resource function project building(("buildingCode"|"city"|"state"|"country"|"postalCode")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"buildingCode": `buildingCode`, "city": `city`, "state": `state`, "country": `country`, "postalCode": `postalCode`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM Building`));
+    }
+
+    isolated resource function page building(int pageSize, string? cursor = ()) returns record {|Building[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT buildingCode, city, state, country, postalCode FROM Building`;
+        if cursor is string {
+            string|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE buildingCode > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY buildingCode LIMIT ${pageSize}`);
+        stream<Building, sql:Error?> rows = self.dbClient->query(query);
+        Building[]|sql:Error records = from Building item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        Building last = records[records.length() - 1];
+        return {records, next: last.buildingCode.toJsonString()};
+    }
+
+    isolated resource function count building(record {|string buildingCode?; string city?; string state?; string country?; string postalCode?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM Building WHERE TRUE`;
+        if filter.hasKey("buildingCode") {
+            query = sql:queryConcat(query, ` AND buildingCode <=> ${filter?.buildingCode}`);
+        }
+        if filter.hasKey("city") {
+            query = sql:queryConcat(query, ` AND city <=> ${filter?.city}`);
+        }
+        if filter.hasKey("state") {
+            query = sql:queryConcat(query, ` AND state <=> ${filter?.state}`);
+        }
+        if filter.hasKey("country") {
+            query = sql:queryConcat(query, ` AND country <=> ${filter?.country}`);
+        }
+        if filter.hasKey("postalCode") {
+            query = sql:queryConcat(query, ` AND postalCode <=> ${filter?.postalCode}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
         }
+        return result;
     }
 
     isolated resource function get building/[string buildingCode]() returns Building|persist:Error {
-        Building|error result = (check self.persistClients.get(BUILDING).runReadByKeyQuery(Building, buildingCode)).cloneWithType(Building);
+        Building|sql:Error result = self.dbClient->queryRow(`SELECT buildingCode, city, state, country, postalCode FROM Building WHERE buildingCode = ${buildingCode}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'Building' for key ${buildingCode.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
 
-    isolated resource function post building(BuildingInsert[] data) returns string[]|persist:Error {
-        _ = check self.persistClients.get(BUILDING).runBatchInsertQuery(data);
-        return from BuildingInsert inserted in data
-            select inserted.buildingCode;
+    isolated resource function exists building/[string buildingCode]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM Building WHERE buildingCode = ${buildingCode} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
+    }
+
+    isolated resource function post building(BuildingInsert[]|stream<BuildingInsert, error?> data, (isolated function (string[] keys) returns error?)? onBatch = ()) returns string[]|persist:Error {
+        stream<BuildingInsert, error?> rows = data is BuildingInsert[] ? data.toStream() : data;
+        string[] keys = [];
+        BuildingInsert[] batch = [];
+        record {|BuildingInsert value;|}|error? row = rows.next();
+        while row is record {|BuildingInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(BUILDING).runBatchInsertQuery(batch);
+                string[] batchKeys = from BuildingInsert inserted in batch select inserted.buildingCode;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(BUILDING).runBatchInsertQuery(batch);
+            string[] batchKeys = from BuildingInsert inserted in batch select inserted.buildingCode;
+            if onBatch is () {
+                keys.push(...batchKeys);
+            } else {
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
+                }
+            }
+        }
+        return keys;
     }
 
     isolated resource function put building/[string buildingCode](BuildingUpdate value) returns Building|persist:Error {
@@ -111,33 +238,162 @@ public client class RainierClient {
         return self->/building/[buildingCode].get();
     }
 
+    isolated resource function put building(BuildingInsert[]|stream<BuildingInsert, error?> data) returns persist:Error? {
+        stream<BuildingInsert, error?> rows = data is BuildingInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|BuildingInsert value;|}|error? row = rows.next();
+        while row is record {|BuildingInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.buildingCode}, ${row.value.city}, ${row.value.state}, ${row.value.country}, ${row.value.postalCode})` : `, (${row.value.buildingCode}, ${row.value.city}, ${row.value.state}, ${row.value.country}, ${row.value.postalCode})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Building (buildingCode, city, state, country, postalCode) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE city = new.city, state = new.state, country = new.country, postalCode = new.postalCode`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
+                }
+                values = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Building (buildingCode, city, state, country, postalCode) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE city = new.city, state = new.state, country = new.country, postalCode = new.postalCode`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
     isolated resource function delete building/[string buildingCode]() returns Building|persist:Error {
         Building result = check self->/building/[buildingCode].get();
         _ = check self.persistClients.get(BUILDING).runDeleteQuery({"buildingCode": buildingCode});
         return result;
     }
 
-    isolated resource function get department() returns stream<Department, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(DEPARTMENT).runReadQuery(Department);
-        if result is persist:Error {
-            return new stream<Department, persist:Error?>(new DepartmentStream((), result));
-        } else {
-            return new stream<Department, persist:Error?>(new DepartmentStream(result));
+    isolated resource function get department(record {|string deptNo?; string deptName?;|} filter = {}, ("deptNo"|"deptName")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<Department, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT deptNo, deptName FROM Department WHERE TRUE`;
+        if filter.hasKey("deptNo") {
+            query = sql:queryConcat(query, ` AND deptNo <=> ${filter?.deptNo}`);
+        }
+        if filter.hasKey("deptName") {
+            query = sql:queryConcat(query, ` AND deptName <=> ${filter?.deptName}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"deptNo": `deptNo`, "deptName": `deptName`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
+    }
+
+    isolated resource function project department(("deptNo"|"deptName")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"deptNo": `deptNo`, "deptName": `deptName`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM Department`));
+    }
+
+    isolated resource function page department(int pageSize, string? cursor = ()) returns record {|Department[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT deptNo, deptName FROM Department`;
+        if cursor is string {
+            string|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE deptNo > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY deptNo LIMIT ${pageSize}`);
+        stream<Department, sql:Error?> rows = self.dbClient->query(query);
+        Department[]|sql:Error records = from Department item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        Department last = records[records.length() - 1];
+        return {records, next: last.deptNo.toJsonString()};
+    }
+
+    isolated resource function count department(record {|string deptNo?; string deptName?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM Department WHERE TRUE`;
+        if filter.hasKey("deptNo") {
+            query = sql:queryConcat(query, ` AND deptNo <=> ${filter?.deptNo}`);
         }
+        if filter.hasKey("deptName") {
+            query = sql:queryConcat(query, ` AND deptName <=> ${filter?.deptName}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result;
     }
 
     isolated resource function get department/[string deptNo]() returns Department|persist:Error {
-        Department|error result = (check self.persistClients.get(DEPARTMENT).runReadByKeyQuery(Department, deptNo)).cloneWithType(Department);
+        Department|sql:Error result = self.dbClient->queryRow(`SELECT deptNo, deptName FROM Department WHERE deptNo = ${deptNo}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'Department' for key ${deptNo.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
 
-    isolated resource function post department(DepartmentInsert[] data) returns string[]|persist:Error {
-        _ = check self.persistClients.get(DEPARTMENT).runBatchInsertQuery(data);
-        return from DepartmentInsert inserted in data
-            select inserted.deptNo;
+    isolated resource function exists department/[string deptNo]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM Department WHERE deptNo = ${deptNo} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
+    }
+
+    isolated resource function post department(DepartmentInsert[]|stream<DepartmentInsert, error?> data, (isolated function (string[] keys) returns error?)? onBatch = ()) returns string[]|persist:Error {
+        stream<DepartmentInsert, error?> rows = data is DepartmentInsert[] ? data.toStream() : data;
+        string[] keys = [];
+        DepartmentInsert[] batch = [];
+        record {|DepartmentInsert value;|}|error? row = rows.next();
+        while row is record {|DepartmentInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(DEPARTMENT).runBatchInsertQuery(batch);
+                string[] batchKeys = from DepartmentInsert inserted in batch select inserted.deptNo;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(DEPARTMENT).runBatchInsertQuery(batch);
+            string[] batchKeys = from DepartmentInsert inserted in batch select inserted.deptNo;
+            if onBatch is () {
+                keys.push(...batchKeys);
+            } else {
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
+                }
+            }
+        }
+        return keys;
     }
 
     isolated resource function put department/[string deptNo](DepartmentUpdate value) returns Department|persist:Error {
@@ -145,33 +401,198 @@ public client class RainierClient {
         return self->/department/[deptNo].get();
     }
 
+    isolated resource function put department(DepartmentInsert[]|stream<DepartmentInsert, error?> data) returns persist:Error? {
+        stream<DepartmentInsert, error?> rows = data is DepartmentInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|DepartmentInsert value;|}|error? row = rows.next();
+        while row is record {|DepartmentInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.deptNo}, ${row.value.deptName})` : `, (${row.value.deptNo}, ${row.value.deptName})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Department (deptNo, deptName) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE deptName = new.deptName`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
+                }
+                values = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Department (deptNo, deptName) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE deptName = new.deptName`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
     isolated resource function delete department/[string deptNo]() returns Department|persist:Error {
         Department result = check self->/department/[deptNo].get();
         _ = check self.persistClients.get(DEPARTMENT).runDeleteQuery({"deptNo": deptNo});
         return result;
     }
 
-    isolated resource function get employee() returns stream<Employee, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(EMPLOYEE).runReadQuery(Employee);
-        if result is persist:Error {
-            return new stream<Employee, persist:Error?>(new EmployeeStream((), result));
-        } else {
-            return new stream<Employee, persist:Error?>(new EmployeeStream(result));
+    isolated resource function get employee(record {|string empNo?; string firstName?; string lastName?; time:Date birthDate?; string gender?; time:Date hireDate?; string departmentDeptNo?; string workspaceWorkspaceId?;|} filter = {}, ("empNo"|"firstName"|"lastName"|"birthDate"|"gender"|"hireDate"|"departmentDeptNo"|"workspaceWorkspaceId")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<Employee, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT empNo, firstName, lastName, birthDate, gender, hireDate, departmentDeptNo, workspaceWorkspaceId FROM Employee WHERE TRUE`;
+        if filter.hasKey("empNo") {
+            query = sql:queryConcat(query, ` AND empNo <=> ${filter?.empNo}`);
+        }
+        if filter.hasKey("firstName") {
+            query = sql:queryConcat(query, ` AND firstName <=> ${filter?.firstName}`);
+        }
+        if filter.hasKey("lastName") {
+            query = sql:queryConcat(query, ` AND lastName <=> ${filter?.lastName}`);
+        }
+        if filter.hasKey("birthDate") {
+            query = sql:queryConcat(query, ` AND birthDate <=> ${filter?.birthDate}`);
+        }
+        if filter.hasKey("gender") {
+            query = sql:queryConcat(query, ` AND gender <=> ${filter?.gender}`);
+        }
+        if filter.hasKey("hireDate") {
+            query = sql:queryConcat(query, ` AND hireDate <=> ${filter?.hireDate}`);
+        }
+        if filter.hasKey("departmentDeptNo") {
+            query = sql:queryConcat(query, ` AND departmentDeptNo <=> ${filter?.departmentDeptNo}`);
+        }
+        if filter.hasKey("workspaceWorkspaceId") {
+            query = sql:queryConcat(query, ` AND workspaceWorkspaceId <=> ${filter?.workspaceWorkspaceId}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"empNo": `empNo`, "firstName": `firstName`, "lastName": `lastName`, "birthDate": `birthDate`, "gender": `gender`, "hireDate": `hireDate`, "departmentDeptNo": `departmentDeptNo`, "workspaceWorkspaceId": `workspaceWorkspaceId`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
+    }
+
+    isolated resource function project employee(("empNo"|"firstName"|"lastName"|"birthDate"|"gender"|"hireDate"|"departmentDeptNo"|"workspaceWorkspaceId")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"empNo": `empNo`, "firstName": `firstName`, "lastName": `lastName`, "birthDate": `birthDate`, "gender": `gender`, "hireDate": `hireDate`, "departmentDeptNo": `departmentDeptNo`, "workspaceWorkspaceId": `workspaceWorkspaceId`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM Employee`));
+    }
+
+    isolated resource function page employee(int pageSize, string? cursor = ()) returns record {|Employee[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT empNo, firstName, lastName, birthDate, gender, hireDate, departmentDeptNo, workspaceWorkspaceId FROM Employee`;
+        if cursor is string {
+            string|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE empNo > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY empNo LIMIT ${pageSize}`);
+        stream<Employee, sql:Error?> rows = self.dbClient->query(query);
+        Employee[]|sql:Error records = from Employee item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        Employee last = records[records.length() - 1];
+        return {records, next: last.empNo.toJsonString()};
+    }
+
+    isolated resource function count employee(record {|string empNo?; string firstName?; string lastName?; time:Date birthDate?; string gender?; time:Date hireDate?; string departmentDeptNo?; string workspaceWorkspaceId?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM Employee WHERE TRUE`;
+        if filter.hasKey("empNo") {
+            query = sql:queryConcat(query, ` AND empNo <=> ${filter?.empNo}`);
         }
+        if filter.hasKey("firstName") {
+            query = sql:queryConcat(query, ` AND firstName <=> ${filter?.firstName}`);
+        }
+        if filter.hasKey("lastName") {
+            query = sql:queryConcat(query, ` AND lastName <=> ${filter?.lastName}`);
+        }
+        if filter.hasKey("birthDate") {
+            query = sql:queryConcat(query, ` AND birthDate <=> ${filter?.birthDate}`);
+        }
+        if filter.hasKey("gender") {
+            query = sql:queryConcat(query, ` AND gender <=> ${filter?.gender}`);
+        }
+        if filter.hasKey("hireDate") {
+            query = sql:queryConcat(query, ` AND hireDate <=> ${filter?.hireDate}`);
+        }
+        if filter.hasKey("departmentDeptNo") {
+            query = sql:queryConcat(query, ` AND departmentDeptNo <=> ${filter?.departmentDeptNo}`);
+        }
+        if filter.hasKey("workspaceWorkspaceId") {
+            query = sql:queryConcat(query, ` AND workspaceWorkspaceId <=> ${filter?.workspaceWorkspaceId}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result;
     }
 
     isolated resource function get employee/[string empNo]() returns Employee|persist:Error {
-        Employee|error result = (check self.persistClients.get(EMPLOYEE).runReadByKeyQuery(Employee, empNo)).cloneWithType(Employee);
+        Employee|sql:Error result = self.dbClient->queryRow(`SELECT empNo, firstName, lastName, birthDate, gender, hireDate, departmentDeptNo, workspaceWorkspaceId FROM Employee WHERE empNo = ${empNo}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'Employee' for key ${empNo.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
 
-    isolated resource function post employee(EmployeeInsert[] data) returns string[]|persist:Error {
-        _ = check self.persistClients.get(EMPLOYEE).runBatchInsertQuery(data);
-        return from EmployeeInsert inserted in data
-            select inserted.empNo;
+    isolated resource function exists employee/[string empNo]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM Employee WHERE empNo = ${empNo} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
+    }
+
+    isolated resource function post employee(EmployeeInsert[]|stream<EmployeeInsert, error?> data, (isolated function (string[] keys) returns error?)? onBatch = ()) returns string[]|persist:Error {
+        stream<EmployeeInsert, error?> rows = data is EmployeeInsert[] ? data.toStream() : data;
+        string[] keys = [];
+        EmployeeInsert[] batch = [];
+        record {|EmployeeInsert value;|}|error? row = rows.next();
+        while row is record {|EmployeeInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(EMPLOYEE).runBatchInsertQuery(batch);
+                string[] batchKeys = from EmployeeInsert inserted in batch select inserted.empNo;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(EMPLOYEE).runBatchInsertQuery(batch);
+            string[] batchKeys = from EmployeeInsert inserted in batch select inserted.empNo;
+            if onBatch is () {
+                keys.push(...batchKeys);
+            } else {
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
+                }
+            }
+        }
+        return keys;
     }
 
     isolated resource function put employee/[string empNo](EmployeeUpdate value) returns Employee|persist:Error {
@@ -179,204 +600,213 @@ public client class RainierClient {
         return self->/employee/[empNo].get();
     }
 
+    isolated resource function put employee(EmployeeInsert[]|stream<EmployeeInsert, error?> data) returns persist:Error? {
+        stream<EmployeeInsert, error?> rows = data is EmployeeInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|EmployeeInsert value;|}|error? row = rows.next();
+        while row is record {|EmployeeInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.empNo}, ${row.value.firstName}, ${row.value.lastName}, ${row.value.birthDate}, ${row.value.gender}, ${row.value.hireDate}, ${row.value.departmentDeptNo}, ${row.value.workspaceWorkspaceId})` : `, (${row.value.empNo}, ${row.value.firstName}, ${row.value.lastName}, ${row.value.birthDate}, ${row.value.gender}, ${row.value.hireDate}, ${row.value.departmentDeptNo}, ${row.value.workspaceWorkspaceId})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Employee (empNo, firstName, lastName, birthDate, gender, hireDate, departmentDeptNo, workspaceWorkspaceId) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE firstName = new.firstName, lastName = new.lastName, birthDate = new.birthDate, gender = new.gender, hireDate = new.hireDate, departmentDeptNo = new.departmentDeptNo, workspaceWorkspaceId = new.workspaceWorkspaceId`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
+                }
+                values = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Employee (empNo, firstName, lastName, birthDate, gender, hireDate, departmentDeptNo, workspaceWorkspaceId) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE firstName = new.firstName, lastName = new.lastName, birthDate = new.birthDate, gender = new.gender, hireDate = new.hireDate, departmentDeptNo = new.departmentDeptNo, workspaceWorkspaceId = new.workspaceWorkspaceId`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
     isolated resource function delete employee/[string empNo]() returns Employee|persist:Error {
         Employee result = check self->/employee/[empNo].get();
         _ = check self.persistClients.get(EMPLOYEE).runDeleteQuery({"empNo": empNo});
         return result;
     }
 
-    isolated resource function get workspace() returns stream<Workspace, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(WORKSPACE).runReadQuery(Workspace);
-        if result is persist:Error {
-            return new stream<Workspace, persist:Error?>(new WorkspaceStream((), result));
-        } else {
-            return new stream<Workspace, persist:Error?>(new WorkspaceStream(result));
+    isolated resource function get workspace(record {|string workspaceId?; string workspaceType?; string buildingBuildingCode?;|} filter = {}, ("workspaceId"|"workspaceType"|"buildingBuildingCode")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<Workspace, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT workspaceId, workspaceType, buildingBuildingCode FROM Workspace WHERE TRUE`;
+        if filter.hasKey("workspaceId") {
+            query = sql:queryConcat(query, ` AND workspaceId <=> ${filter?.workspaceId}`);
         }
-    }
-
-    isolated resource function get workspace/[string workspaceId]() returns Workspace|persist:Error {
-        Workspace|error result = (check self.persistClients.get(WORKSPACE).runReadByKeyQuery(Workspace, workspaceId)).cloneWithType(Workspace);
-        if result is error {
-            return <persist:Error>error(result.message());
+        if filter.hasKey("workspaceType") {
+            query = sql:queryConcat(query, ` AND workspaceType <=> ${filter?.workspaceType}`);
         }
-        return result;
+        if filter.hasKey("buildingBuildingCode") {
+            query = sql:queryConcat(query, ` AND buildingBuildingCode <=> ${filter?.buildingBuildingCode}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"workspaceId": `workspaceId`, "workspaceType": `workspaceType`, "buildingBuildingCode": `buildingBuildingCode`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
     }
 
-    isolated resource function post workspace(WorkspaceInsert[] data) returns string[]|persist:Error {
-        _ = check self.persistClients.get(WORKSPACE).runBatchInsertQuery(data);
-        return from WorkspaceInsert inserted in data
-            select inserted.workspaceId;
+    isolated resource function project workspace(("workspaceId"|"workspaceType"|"buildingBuildingCode")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"workspaceId": `workspaceId`, "workspaceType": `workspaceType`, "buildingBuildingCode": `buildingBuildingCode`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM Workspace`));
     }
 
-    isolated resource function put workspace/[string workspaceId](WorkspaceUpdate value) returns Workspace|persist:Error {
-        _ = check self.persistClients.get(WORKSPACE).runUpdateQuery({"workspaceId": workspaceId}, value);
-        return self->/workspace/[workspaceId].get();
+    isolated resource function page workspace(int pageSize, string? cursor = ()) returns record {|Workspace[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT workspaceId, workspaceType, buildingBuildingCode FROM Workspace`;
+        if cursor is string {
+            string|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE workspaceId > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY workspaceId LIMIT ${pageSize}`);
+        stream<Workspace, sql:Error?> rows = self.dbClient->query(query);
+        Workspace[]|sql:Error records = from Workspace item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        Workspace last = records[records.length() - 1];
+        return {records, next: last.workspaceId.toJsonString()};
     }
 
-    isolated resource function delete workspace/[string workspaceId]() returns Workspace|persist:Error {
-        Workspace result = check self->/workspace/[workspaceId].get();
-        _ = check self.persistClients.get(WORKSPACE).runDeleteQuery({"workspaceId": workspaceId});
+    isolated resource function count workspace(record {|string workspaceId?; string workspaceType?; string buildingBuildingCode?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM Workspace WHERE TRUE`;
+        if filter.hasKey("workspaceId") {
+            query = sql:queryConcat(query, ` AND workspaceId <=> ${filter?.workspaceId}`);
+        }
+        if filter.hasKey("workspaceType") {
+            query = sql:queryConcat(query, ` AND workspaceType <=> ${filter?.workspaceType}`);
+        }
+        if filter.hasKey("buildingBuildingCode") {
+            query = sql:queryConcat(query, ` AND buildingBuildingCode <=> ${filter?.buildingBuildingCode}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
         return result;
     }
 
-    public function close() returns persist:Error? {
-        error? result = self.dbClient.close();
+    isolated resource function get workspace/[string workspaceId]() returns Workspace|persist:Error {
+        Workspace|sql:Error result = self.dbClient->queryRow(`SELECT workspaceId, workspaceType, buildingBuildingCode FROM Workspace WHERE workspaceId = ${workspaceId}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'Workspace' for key ${workspaceId.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
-}
-
-public class BuildingStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
-    }
 
-    public isolated function next() returns record {|Building value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
-            } else {
-                Building|error value = streamValue.value.cloneWithType(Building);
-                if value is error {
-                    return <persist:Error>error(value.message());
+    isolated resource function exists workspace/[string workspaceId]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM Workspace WHERE workspaceId = ${workspaceId} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
+    }
+
+    isolated resource function post workspace(WorkspaceInsert[]|stream<WorkspaceInsert, error?> data, (isolated function (string[] keys) returns error?)? onBatch = ()) returns string[]|persist:Error {
+        stream<WorkspaceInsert, error?> rows = data is WorkspaceInsert[] ? data.toStream() : data;
+        string[] keys = [];
+        WorkspaceInsert[] batch = [];
+        record {|WorkspaceInsert value;|}|error? row = rows.next();
+        while row is record {|WorkspaceInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(WORKSPACE).runBatchInsertQuery(batch);
+                string[] batchKeys = from WorkspaceInsert inserted in batch select inserted.workspaceId;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
                 }
-                record {|Building value;|} nextRecord = {value: value};
-                return nextRecord;
+                batch = [];
             }
-        } else {
-            return ();
+            row = rows.next();
         }
-    }
-
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
-    }
-}
-
-public class DepartmentStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
-    }
-
-    public isolated function next() returns record {|Department value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(WORKSPACE).runBatchInsertQuery(batch);
+            string[] batchKeys = from WorkspaceInsert inserted in batch select inserted.workspaceId;
+            if onBatch is () {
+                keys.push(...batchKeys);
             } else {
-                Department|error value = streamValue.value.cloneWithType(Department);
-                if value is error {
-                    return <persist:Error>error(value.message());
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
                 }
-                record {|Department value;|} nextRecord = {value: value};
-                return nextRecord;
             }
-        } else {
-            return ();
         }
+        return keys;
     }
 
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
-    }
-}
-
-public class EmployeeStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
+    isolated resource function put workspace/[string workspaceId](WorkspaceUpdate value) returns Workspace|persist:Error {
+        _ = check self.persistClients.get(WORKSPACE).runUpdateQuery({"workspaceId": workspaceId}, value);
+        return self->/workspace/[workspaceId].get();
     }
 
-    public isolated function next() returns record {|Employee value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
-            } else {
-                Employee|error value = streamValue.value.cloneWithType(Employee);
-                if value is error {
-                    return <persist:Error>error(value.message());
+    isolated resource function put workspace(WorkspaceInsert[]|stream<WorkspaceInsert, error?> data) returns persist:Error? {
+        stream<WorkspaceInsert, error?> rows = data is WorkspaceInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|WorkspaceInsert value;|}|error? row = rows.next();
+        while row is record {|WorkspaceInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.workspaceId}, ${row.value.workspaceType}, ${row.value.buildingBuildingCode})` : `, (${row.value.workspaceId}, ${row.value.workspaceType}, ${row.value.buildingBuildingCode})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Workspace (workspaceId, workspaceType, buildingBuildingCode) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE workspaceType = new.workspaceType, buildingBuildingCode = new.buildingBuildingCode`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
                 }
-                record {|Employee value;|} nextRecord = {value: value};
-                return nextRecord;
+                values = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO Workspace (workspaceId, workspaceType, buildingBuildingCode) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE workspaceType = new.workspaceType, buildingBuildingCode = new.buildingBuildingCode`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
             }
-        } else {
-            return ();
         }
     }
 
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
-    }
-}
-
-public class WorkspaceStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
+    isolated resource function delete workspace/[string workspaceId]() returns Workspace|persist:Error {
+        Workspace result = check self->/workspace/[workspaceId].get();
+        _ = check self.persistClients.get(WORKSPACE).runDeleteQuery({"workspaceId": workspaceId});
+        return result;
     }
 
-    public isolated function next() returns record {|Workspace value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
-            } else {
-                Workspace|error value = streamValue.value.cloneWithType(Workspace);
-                if value is error {
-                    return <persist:Error>error(value.message());
-                }
-                record {|Workspace value;|} nextRecord = {value: value};
-                return nextRecord;
-            }
-        } else {
-            return ();
+    public function close() returns persist:Error? {
+        error? result = self.dbClient.close();
+        if result is error {
+            return <persist:Error>error(result.message());
         }
-    }
-
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
+        return result;
     }
 }
 
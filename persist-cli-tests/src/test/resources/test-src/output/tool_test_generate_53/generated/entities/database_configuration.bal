@@ -0,0 +1,13 @@
+// AUTO-GENERATED FILE. DO NOT MODIFY.
+
+// This file is an auto-generated file by Ballerina persistence layer.
+// It should not be modified by hand.
+
+import ballerinax/mysql.driver as _;
+
+configurable int port = ?;
+configurable string host = ?;
+configurable string user = ?;
+configurable string database = ?;
+configurable string password = ?;
+
@@ -17,6 +17,8 @@ public client class EntitiesClient {
 
     private final map<persist:SQLClient> persistClients;
 
+    private final int batchSize;
+
     private final record {|persist:Metadata...;|} metadata = {
         "datatype": {
             entityName: "DataType",
@@ -37,36 +39,191 @@ public client class EntitiesClient {
         }
     };
 
-    public function init() returns persist:Error? {
+    public function init(int batchSize = 1000) returns persist:Error? {
+        if batchSize < 1 {
+            return <persist:Error>error(string `The batch size should be a positive integer, found ${batchSize}.`);
+        }
         mysql:Client|error dbClient = new (host = host, user = user, password = password, database = database, port = port);
         if dbClient is error {
             return <persist:Error>error(dbClient.message());
         }
         self.dbClient = dbClient;
+        self.batchSize = batchSize;
         self.persistClients = {datatype: check new (self.dbClient, self.metadata.get(DATA_TYPE))};
     }
 
-    isolated resource function get datatype() returns stream<DataType, persist:Error?> {
-        stream<record {}, sql:Error?>|persist:Error result = self.persistClients.get(DATA_TYPE).runReadQuery(DataType);
-        if result is persist:Error {
-            return new stream<DataType, persist:Error?>(new DataTypeStream((), result));
-        } else {
-            return new stream<DataType, persist:Error?>(new DataTypeStream(result));
+    isolated resource function get datatype(record {|int a?; string b1?; int c1?; boolean d1?; float e1?; decimal f1?; time:Utc j1?; time:Civil k1?; time:Date l1?; time:TimeOfDay m1?;|} filter = {}, ("a"|"b1"|"c1"|"d1"|"e1"|"f1"|"j1"|"k1"|"l1"|"m1")[] orderBy = [], boolean sortDescending = false, int? maxRows = ()) returns stream<DataType, sql:Error?> {
+        sql:ParameterizedQuery query = `SELECT a, b1, c1, d1, e1, f1, j1, k1, l1, m1 FROM DataType WHERE TRUE`;
+        if filter.hasKey("a") {
+            query = sql:queryConcat(query, ` AND a <=> ${filter?.a}`);
+        }
+        if filter.hasKey("b1") {
+            query = sql:queryConcat(query, ` AND b1 <=> ${filter?.b1}`);
+        }
+        if filter.hasKey("c1") {
+            query = sql:queryConcat(query, ` AND c1 <=> ${filter?.c1}`);
+        }
+        if filter.hasKey("d1") {
+            query = sql:queryConcat(query, ` AND d1 <=> ${filter?.d1}`);
+        }
+        if filter.hasKey("e1") {
+            query = sql:queryConcat(query, ` AND e1 <=> ${filter?.e1}`);
+        }
+        if filter.hasKey("f1") {
+            query = sql:queryConcat(query, ` AND f1 <=> ${filter?.f1}`);
+        }
+        if filter.hasKey("j1") {
+            query = sql:queryConcat(query, ` AND j1 <=> ${filter?.j1}`);
+        }
+        if filter.hasKey("k1") {
+            query = sql:queryConcat(query, ` AND k1 <=> ${filter?.k1}`);
+        }
+        if filter.hasKey("l1") {
+            query = sql:queryConcat(query, ` AND l1 <=> ${filter?.l1}`);
+        }
+        if filter.hasKey("m1") {
+            query = sql:queryConcat(query, ` AND m1 <=> ${filter?.m1}`);
+        }
+        if orderBy.length() > 0 {
+            map<sql:ParameterizedQuery> columns = {"a": `a`, "b1": `b1`, "c1": `c1`, "d1": `d1`, "e1": `e1`, "f1": `f1`, "j1": `j1`, "k1": `k1`, "l1": `l1`, "m1": `m1`};
+            query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));
+        }
+        if maxRows is int && maxRows >= 0 {
+            query = sql:queryConcat(query, ` LIMIT ${maxRows}`);
+        }
+        return self.dbClient->query(query);
+    }
+
+    isolated resource function project datatype(("a"|"b1"|"c1"|"d1"|"e1"|"f1"|"j1"|"k1"|"l1"|"m1")[] fields) returns stream<record {}, sql:Error?>|persist:Error {
+        if fields.length() == 0 {
+            return <persist:Error>error("At least one field should be selected.");
+        }
+        map<sql:ParameterizedQuery> columns = {"a": `a`, "b1": `b1`, "c1": `c1`, "d1": `d1`, "e1": `e1`, "f1": `f1`, "j1": `j1`, "k1": `k1`, "l1": `l1`, "m1": `m1`};
+        sql:ParameterizedQuery[] selected = from int i in 0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, columns.get(fields[i]));
+        return self.dbClient->query(sql:queryConcat(`SELECT `, sql:queryConcat(...selected), ` FROM DataType`));
+    }
+
+    isolated resource function page datatype(int pageSize, string? cursor = ()) returns record {|DataType[] records; string? next;|}|persist:Error {
+        if pageSize < 1 {
+            return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);
+        }
+        sql:ParameterizedQuery query = `SELECT a, b1, c1, d1, e1, f1, j1, k1, l1, m1 FROM DataType`;
+        if cursor is string {
+            int|error after = cursor.fromJsonStringWithType();
+            if after is error {
+                return <persist:Error>error(after.message());
+            }
+            query = sql:queryConcat(query, ` WHERE a > ${after}`);
+        }
+        query = sql:queryConcat(query, ` ORDER BY a LIMIT ${pageSize}`);
+        stream<DataType, sql:Error?> rows = self.dbClient->query(query);
+        DataType[]|sql:Error records = from DataType item in rows select item;
+        if records is error {
+            return <persist:Error>error(records.message());
+        }
+        if records.length() < pageSize {
+            return {records, next: ()};
+        }
+        DataType last = records[records.length() - 1];
+        return {records, next: last.a.toJsonString()};
+    }
+
+    isolated resource function count datatype(record {|int a?; string b1?; int c1?; boolean d1?; float e1?; decimal f1?; time:Utc j1?; time:Civil k1?; time:Date l1?; time:TimeOfDay m1?;|} filter = {}) returns int|persist:Error {
+        sql:ParameterizedQuery query = `SELECT COUNT(*) FROM DataType WHERE TRUE`;
+        if filter.hasKey("a") {
+            query = sql:queryConcat(query, ` AND a <=> ${filter?.a}`);
+        }
+        if filter.hasKey("b1") {
+            query = sql:queryConcat(query, ` AND b1 <=> ${filter?.b1}`);
+        }
+        if filter.hasKey("c1") {
+            query = sql:queryConcat(query, ` AND c1 <=> ${filter?.c1}`);
+        }
+        if filter.hasKey("d1") {
+            query = sql:queryConcat(query, ` AND d1 <=> ${filter?.d1}`);
+        }
+        if filter.hasKey("e1") {
+            query = sql:queryConcat(query, ` AND e1 <=> ${filter?.e1}`);
+        }
+        if filter.hasKey("f1") {
+            query = sql:queryConcat(query, ` AND f1 <=> ${filter?.f1}`);
+        }
+        if filter.hasKey("j1") {
+            query = sql:queryConcat(query, ` AND j1 <=> ${filter?.j1}`);
+        }
+        if filter.hasKey("k1") {
+            query = sql:queryConcat(query, ` AND k1 <=> ${filter?.k1}`);
+        }
+        if filter.hasKey("l1") {
+            query = sql:queryConcat(query, ` AND l1 <=> ${filter?.l1}`);
+        }
+        if filter.hasKey("m1") {
+            query = sql:queryConcat(query, ` AND m1 <=> ${filter?.m1}`);
+        }
+        int|sql:Error result = self.dbClient->queryRow(query);
+        if result is error {
+            return <persist:Error>error(result.message());
         }
+        return result;
     }
 
     isolated resource function get datatype/[int a]() returns DataType|persist:Error {
-        DataType|error result = (check self.persistClients.get(DATA_TYPE).runReadByKeyQuery(DataType, a)).cloneWithType(DataType);
+        DataType|sql:Error result = self.dbClient->queryRow(`SELECT a, b1, c1, d1, e1, f1, j1, k1, l1, m1 FROM DataType WHERE a = ${a}`);
+        if result is sql:NoRowsError {
+            return <persist:InvalidKeyError>error(string `A record does not exist for 'DataType' for key ${a.toBalString()}.`);
+        }
         if result is error {
             return <persist:Error>error(result.message());
         }
         return result;
     }
 
-    isolated resource function post datatype(DataTypeInsert[] data) returns int[]|persist:Error {
-        _ = check self.persistClients.get(DATA_TYPE).runBatchInsertQuery(data);
-        return from DataTypeInsert inserted in data
-            select inserted.a;
+    isolated resource function exists datatype/[int a]() returns boolean|persist:Error {
+        int|sql:Error result = self.dbClient->queryRow(`SELECT EXISTS(SELECT 1 FROM DataType WHERE a = ${a} LIMIT 1)`);
+        if result is error {
+            return <persist:Error>error(result.message());
+        }
+        return result == 1;
+    }
+
+    isolated resource function post datatype(DataTypeInsert[]|stream<DataTypeInsert, error?> data, (isolated function (int[] keys) returns error?)? onBatch = ()) returns int[]|persist:Error {
+        stream<DataTypeInsert, error?> rows = data is DataTypeInsert[] ? data.toStream() : data;
+        int[] keys = [];
+        DataTypeInsert[] batch = [];
+        record {|DataTypeInsert value;|}|error? row = rows.next();
+        while row is record {|DataTypeInsert value;|} {
+            batch.push(row.value);
+            if batch.length() == self.batchSize {
+                _ = check self.persistClients.get(DATA_TYPE).runBatchInsertQuery(batch);
+                int[] batchKeys = from DataTypeInsert inserted in batch select inserted.a;
+                if onBatch is () {
+                    keys.push(...batchKeys);
+                } else {
+                    error? batchResult = onBatch(batchKeys);
+                    if batchResult is error {
+                        return <persist:Error>error(batchResult.message());
+                    }
+                }
+                batch = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if batch.length() > 0 {
+            _ = check self.persistClients.get(DATA_TYPE).runBatchInsertQuery(batch);
+            int[] batchKeys = from DataTypeInsert inserted in batch select inserted.a;
+            if onBatch is () {
+                keys.push(...batchKeys);
+            } else {
+                error? batchResult = onBatch(batchKeys);
+                if batchResult is error {
+                    return <persist:Error>error(batchResult.message());
+                }
+            }
+        }
+        return keys;
     }
 
     isolated resource function put datatype/[int a](DataTypeUpdate value) returns DataType|persist:Error {
@@ -74,6 +231,32 @@ public client class EntitiesClient {
         return self->/datatype/[a].get();
     }
 
+    isolated resource function put datatype(DataTypeInsert[]|stream<DataTypeInsert, error?> data) returns persist:Error? {
+        stream<DataTypeInsert, error?> rows = data is DataTypeInsert[] ? data.toStream() : data;
+        sql:ParameterizedQuery[] values = [];
+        record {|DataTypeInsert value;|}|error? row = rows.next();
+        while row is record {|DataTypeInsert value;|} {
+            values.push(values.length() == 0 ? `(${row.value.a}, ${row.value.b1}, ${row.value.c1}, ${row.value.d1}, ${row.value.e1}, ${row.value.f1}, ${row.value.j1}, ${row.value.k1}, ${row.value.l1}, ${row.value.m1})` : `, (${row.value.a}, ${row.value.b1}, ${row.value.c1}, ${row.value.d1}, ${row.value.e1}, ${row.value.f1}, ${row.value.j1}, ${row.value.k1}, ${row.value.l1}, ${row.value.m1})`);
+            if values.length() == self.batchSize {
+                sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO DataType (a, b1, c1, d1, e1, f1, j1, k1, l1, m1) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE b1 = new.b1, c1 = new.c1, d1 = new.d1, e1 = new.e1, f1 = new.f1, j1 = new.j1, k1 = new.k1, l1 = new.l1, m1 = new.m1`));
+                if result is sql:Error {
+                    return <persist:Error>error(result.message());
+                }
+                values = [];
+            }
+            row = rows.next();
+        }
+        if row is error {
+            return <persist:Error>error(row.message());
+        }
+        if values.length() > 0 {
+            sql:ExecutionResult|sql:Error result = self.dbClient->execute(sql:queryConcat(`INSERT INTO DataType (a, b1, c1, d1, e1, f1, j1, k1, l1, m1) VALUES `, sql:queryConcat(...values), ` AS new ON DUPLICATE KEY UPDATE b1 = new.b1, c1 = new.c1, d1 = new.d1, e1 = new.e1, f1 = new.f1, j1 = new.j1, k1 = new.k1, l1 = new.l1, m1 = new.m1`));
+            if result is sql:Error {
+                return <persist:Error>error(result.message());
+            }
+        }
+    }
+
     isolated resource function delete datatype/[int a]() returns DataType|persist:Error {
         DataType result = check self->/datatype/[a].get();
         _ = check self.persistClients.get(DATA_TYPE).runDeleteQuery(a);
@@ -89,41 +272,3 @@ public client class EntitiesClient {
     }
 }
 
-public class DataTypeStream {
-
-    private stream<anydata, sql:Error?>? anydataStream;
-    private persist:Error? err;
-
-    public isolated function init(stream<anydata, sql:Error?>? anydataStream, persist:Error? err = ()) {
-        self.anydataStream = anydataStream;
-        self.err = err;
-    }
-
-    public isolated function next() returns record {|DataType value;|}|persist:Error? {
-        if self.err is persist:Error {
-            return <persist:Error>self.err;
-        } else if self.anydataStream is stream<anydata, sql:Error?> {
-            var anydataStream = <stream<anydata, sql:Error?>>self.anydataStream;
-            var streamValue = anydataStream.next();
-            if streamValue is () {
-                return streamValue;
-            } else if (streamValue is sql:Error) {
-                return <persist:Error>error(streamValue.message());
-            } else {
-                DataType|error value = streamValue.value.cloneWithType(DataType);
-                if value is error {
-                    return <persist:Error>error(value.message());
-                }
-                record {|DataType value;|} nextRecord = {value: value};
-                return nextRecord;
-            }
-        } else {
-            return ();
-        }
-    }
-
-    public isolated function close() returns persist:Error? {
-        check persist:closeEntityStream(self.anydataStream);
-    }
-}
-
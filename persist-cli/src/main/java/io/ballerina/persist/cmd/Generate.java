@@ -25,30 +25,47 @@ import io.ballerina.persist.models.Entity;
 import io.ballerina.persist.models.Module;
 import io.ballerina.persist.nodegenerator.BalSyntaxConstants;
 import io.ballerina.persist.nodegenerator.BalSyntaxGenerator;
-import io.ballerina.persist.utils.BalProjectUtils;
+import io.ballerina.persist.nodegenerator.TomlSyntaxGenerator;
+import io.ballerina.persist.utils.ClientSourceCache;
+import io.ballerina.persist.utils.FileUtils;
+import io.ballerina.persist.utils.GenerationManifest;
+import io.ballerina.persist.utils.ParallelTaskRunner;
+import io.ballerina.persist.utils.PhaseProfiler;
+import io.ballerina.persist.utils.ProjectContext;
 import io.ballerina.projects.ProjectException;
-import io.ballerina.projects.directory.BuildProject;
-import io.ballerina.projects.directory.ProjectLoader;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 import picocli.CommandLine;
 
 import java.io.IOException;
 import java.io.PrintStream;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static io.ballerina.persist.PersistToolsConstants.PERSIST_DIRECTORY;
 import static io.ballerina.persist.nodegenerator.BalSyntaxGenerator.generateClientSyntaxTree;
+import static io.ballerina.projects.util.ProjectConstants.BALLERINA_TOML;
 import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
 
 
 /**
@@ -63,23 +80,49 @@ import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 
 public class Generate implements BLauncherCmd {
 
-    private static final PrintStream errStream = System.err;
+    private final PrintStream errStream;
 
     private final String sourcePath;
 
     private static final String COMMAND_IDENTIFIER = "persist-generate";
+    private static final String COMMAND_NAME = "persist generate";
+    private static final String GENERATED_TYPES_FILE = "generated_types.bal";
+    private static final String GENERATED_CLIENT_FILE = "generated_client.bal";
+    private static final String GENERATED_ENTITY_FILE_PREFIX = "generated_entity_";
+    private static final long WATCH_QUIET_PERIOD = 100;
+    private static final String LAYOUT_SINGLE = "single";
+    private static final String LAYOUT_PER_ENTITY = "per-entity";
 
     public Generate() {
         this("");
     }
 
     public Generate(String sourcePath) {
+        this(sourcePath, System.err);
+    }
+
+    public Generate(String sourcePath, PrintStream errStream) {
         this.sourcePath = sourcePath;
+        this.errStream = errStream;
     }
 
     @CommandLine.Option(names = {"-h", "--help"}, hidden = true)
     private boolean helpFlag;
 
+    @CommandLine.Option(names = {"--jobs"}, description = "Number of data models to generate in parallel")
+    private int jobs = 1;
+
+    @CommandLine.Option(names = {"--watch"}, description = "Regenerate the data models when the model definition " +
+            "files are changed")
+    private boolean watchFlag;
+
+    @CommandLine.Option(names = {"--layout"}, description = "Layout of the generated sources, `single` or " +
+            "`per-entity`")
+    private String layout = LAYOUT_SINGLE;
+
+    @CommandLine.Option(names = {"--profile"}, description = "Print the time taken by each phase of the generation")
+    private boolean profileFlag;
+
     @Override
     public void execute() {
         if (helpFlag) {
@@ -87,17 +130,25 @@ public class Generate implements BLauncherCmd {
             errStream.println(commandUsageInfo);
             return;
         }
-        Path projectPath = Paths.get(sourcePath);
+        if (jobs < 1) {
+            errStream.println("The value of the `--jobs` option should be a positive integer.");
+            return;
+        }
+        if (!LAYOUT_SINGLE.equals(layout) && !LAYOUT_PER_ENTITY.equals(layout)) {
+            errStream.printf("Unsupported layout `%s`. The supported layouts are `%s` and `%s`.%n", layout,
+                    LAYOUT_SINGLE, LAYOUT_PER_ENTITY);
+            return;
+        }
+        PhaseProfiler profiler = new PhaseProfiler(COMMAND_NAME, profileFlag);
+        ProjectContext context;
         try {
-            ProjectLoader.loadProject(projectPath);
+            context = ProjectContext.load(Paths.get(sourcePath), profiler);
         } catch (ProjectException e) {
             errStream.println("Not a Ballerina project (or any parent up to mount point)\n" +
                     "You should run this command inside a Ballerina project. ");
             return;
         }
-        BuildProject buildProject = BuildProject.load(projectPath.toAbsolutePath());
-        String packageName = buildProject.currentPackage().packageName().value();
-        Path persistDir = Paths.get(this.sourcePath, PERSIST_DIRECTORY);
+        Path persistDir = context.getPersistDirectory();
         if (!Files.isDirectory(persistDir, NOFOLLOW_LINKS)) {
             errStream.println("The persist directory inside the Ballerina project doesn't exist. " +
                     "Please run `bal persist init` to initiate the project before generation");
@@ -105,10 +156,8 @@ public class Generate implements BLauncherCmd {
         }
 
         List<Path> schemaFilePaths;
-        try (Stream<Path> stream = Files.list(persistDir)) {
-            schemaFilePaths = stream.filter(file -> !Files.isDirectory(file))
-                    .filter(file -> file.toString().toLowerCase(Locale.ENGLISH).endsWith(".bal"))
-                    .collect(Collectors.toList());
+        try {
+            schemaFilePaths = context.listModelFiles();
         } catch (IOException e) {
             errStream.println("Error while listing the persist model definition files in persist directory. "
                     + e.getMessage());
@@ -122,61 +171,331 @@ public class Generate implements BLauncherCmd {
             return;
         }
 
-        schemaFilePaths.forEach(file -> {
-            Module entityModule;
-            Path generatedSourceDirPath;
+        GenerationManifest manifest = GenerationManifest.load(context.getProjectPath());
+        generateModules(context, schemaFilePaths, manifest);
+        if (watchFlag) {
+            watchModels(context, manifest);
+        }
+    }
+
+    private void generateModules(ProjectContext context, List<Path> schemaFilePaths, GenerationManifest manifest) {
+        ParallelTaskRunner.run(schemaFilePaths, jobs, errStream,
+                (file, outStream) -> generateModule(context, file, manifest, outStream), (file, result) -> { });
+        if (manifest.isModified()) {
             try {
-                BalProjectUtils.validateSchemaFile(file);
-                entityModule = BalProjectUtils.getEntities(file);
-                if (entityModule.getEntityMap().isEmpty()) {
-                    errStream.printf("The model definition file(%s) doesn't contain any entity definition.%n",
-                            file.getFileName());
-                    return;
+                manifest.save();
+            } catch (BalException e) {
+                errStream.println(e.getMessage());
+            }
+        }
+        context.getProfiler().printTimings(errStream);
+    }
+
+    /**
+     * Keeps the command running and regenerates the data models whose definition files are changed. A change in the
+     * Ballerina.toml file triggers the generation of all the data models, out of which the models with unchanged
+     * configurations are skipped by the generation manifest.
+     */
+    private void watchModels(ProjectContext context, GenerationManifest manifest) {
+        Path persistDirPath = context.getPersistDirectory().toAbsolutePath();
+        Path projectDirPath = context.getProjectPath().toAbsolutePath();
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            persistDirPath.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            projectDirPath.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            errStream.println("Watching the persist directory for changes in the model definition files. " +
+                    "Press Ctrl+C to stop.");
+            while (true) {
+                Set<Path> changedFiles = new TreeSet<>();
+                boolean rescan = false;
+                WatchKey key = watchService.take();
+                // Editors usually emit several events for a single save, hence the events are collected until
+                // the directories are quiet for a short period.
+                while (key != null) {
+                    Path watchedDir = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == OVERFLOW) {
+                            rescan = true;
+                            continue;
+                        }
+                        Path changedFile = watchedDir.resolve((Path) event.context());
+                        if (watchedDir.equals(persistDirPath)) {
+                            if (ProjectContext.isModelFile(changedFile)) {
+                                changedFiles.add(changedFile);
+                            }
+                        } else if (changedFile.endsWith(BALLERINA_TOML)) {
+                            rescan = true;
+                        }
+                    }
+                    if (!key.reset() && watchedDir.equals(persistDirPath)) {
+                        errStream.println("The persist directory is no longer accessible. Stopping the watch mode.");
+                        return;
+                    }
+                    key = watchService.poll(WATCH_QUIET_PERIOD, TimeUnit.MILLISECONDS);
                 }
-                if (entityModule.getModuleName().equals(packageName)) {
-                    generatedSourceDirPath = Paths.get(this.sourcePath, BalSyntaxConstants.GENERATED_SOURCE_DIRECTORY);
-                } else {
-                    generatedSourceDirPath = Paths.get(this.sourcePath, BalSyntaxConstants.GENERATED_SOURCE_DIRECTORY,
-                            entityModule.getModuleName());
+                if (rescan) {
+                    changedFiles.addAll(context.listModelFiles());
                 }
-                generateDataTypes(entityModule, generatedSourceDirPath);
-                generateClientBalFile(entityModule, generatedSourceDirPath);
-            } catch (BalException e) {
-                errStream.printf("Error while generating types and client for the definition file(%s). %s%n",
-                        file.getFileName(), e.getMessage());
+                List<Path> modifiedFiles = new ArrayList<>();
+                for (Path changedFile : changedFiles) {
+                    if (Files.isRegularFile(changedFile)) {
+                        modifiedFiles.add(changedFile);
+                    } else {
+                        manifest.remove(getModuleName(changedFile));
+                        errStream.printf("The model definition file(%s) is removed. The generated sources of the " +
+                                "`%s` data model are not updated.%n", changedFile.getFileName(),
+                                getModuleName(changedFile));
+                    }
+                }
+                try {
+                    context.refresh();
+                } catch (ProjectException e) {
+                    errStream.println("Error while loading the Ballerina project. The data models are not " +
+                            "regenerated. " + e.getMessage());
+                    continue;
+                }
+                generateModules(context, modifiedFiles, manifest);
+            }
+        } catch (IOException e) {
+            errStream.println("Error while watching the persist directory for changes. " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Outcome of the generation of a data model.
+     */
+    enum ModuleResult {
+        /**
+         * The data model is not generated due to an error.
+         */
+        FAILED,
+        /**
+         * The data model is up to date or generated, and no generated source file is written or deleted.
+         */
+        UNCHANGED,
+        /**
+         * The data model is generated, and at least one generated source file is written or deleted.
+         */
+        CHANGED
+    }
+
+    /**
+     * Generates the sources of the given data model. The generated source files whose content is not changed are
+     * not written.
+     */
+    ModuleResult generateModule(ProjectContext context, Path file, GenerationManifest manifest,
+                                PrintStream outStream) {
+        boolean changed;
+        Module entityModule;
+        Path generatedSourceDirPath;
+        String moduleName = getModuleName(file);
+        String packageName = context.getPackageName();
+        PhaseProfiler profiler = context.getProfiler();
+        try {
+            String fingerprint = GenerationManifest.computeFingerprint(packageName, layout,
+                    context.getModelSource(file), TomlSyntaxGenerator.readPersistConfigurationSource(moduleName,
+                            context.getBallerinaToml()));
+            if (moduleName.equals(packageName)) {
+                generatedSourceDirPath = Paths.get(this.sourcePath, BalSyntaxConstants.GENERATED_SOURCE_DIRECTORY);
+            } else {
+                generatedSourceDirPath = Paths.get(this.sourcePath, BalSyntaxConstants.GENERATED_SOURCE_DIRECTORY,
+                        moduleName);
+            }
+            if (manifest.isUpToDate(moduleName, fingerprint) && isGenerated(generatedSourceDirPath,
+                    isPerEntityLayout())) {
+                outStream.printf("The `%s` data model is up to date. Skipping the generation.%n", moduleName);
+                return ModuleResult.UNCHANGED;
+            }
+            manifest.remove(moduleName);
+            entityModule = context.getEntities(file);
+            if (entityModule.getEntityMap().isEmpty()) {
+                outStream.printf("The model definition file(%s) doesn't contain any entity definition.%n",
+                        file.getFileName());
+                return ModuleResult.FAILED;
             }
-        });
+            if (isPerEntityLayout()) {
+                changed = generateEntityBalFiles(entityModule, generatedSourceDirPath, profiler, outStream);
+            } else {
+                changed = generateDataTypes(entityModule, generatedSourceDirPath, profiler, outStream);
+            }
+            try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.WRITE_FILES)) {
+                changed |= deleteStaleSourceFiles(entityModule, generatedSourceDirPath, isPerEntityLayout());
+            }
+            changed |= generateClientBalFile(entityModule, context.getProjectPath(), generatedSourceDirPath,
+                    isPerEntityLayout(), profiler, outStream);
+            manifest.update(moduleName, fingerprint);
+            return changed ? ModuleResult.CHANGED : ModuleResult.UNCHANGED;
+        } catch (BalException e) {
+            outStream.printf("Error while generating types and client for the definition file(%s). %s%n",
+                    file.getFileName(), e.getMessage());
+            return ModuleResult.FAILED;
+        }
+    }
+
+    private static String getModuleName(Path schemaFile) {
+        String fileName = Objects.requireNonNull(schemaFile.getFileName()).toString();
+        return fileName.substring(0, fileName.lastIndexOf('.'));
     }
 
-    private static void generateClientBalFile(Module entityModule, Path outputPath) throws BalException {
-        String clientPath = outputPath.resolve("generated_client.bal").toAbsolutePath().toString();
+    private boolean isPerEntityLayout() {
+        return LAYOUT_PER_ENTITY.equals(layout);
+    }
 
-        SyntaxTree balTree = generateClientSyntaxTree(entityModule);
+    private static boolean isGenerated(Path generatedSourceDirPath, boolean perEntityLayout) {
+        return (perEntityLayout || Files.isRegularFile(generatedSourceDirPath.resolve(GENERATED_TYPES_FILE))) &&
+                Files.isRegularFile(generatedSourceDirPath.resolve(GENERATED_CLIENT_FILE));
+    }
+
+    private static boolean generateClientBalFile(Module entityModule, Path projectPath, Path outputPath,
+                                              boolean perEntityLayout, PhaseProfiler profiler,
+                                              PrintStream outStream) throws BalException {
+        String clientPath = outputPath.resolve(GENERATED_CLIENT_FILE).toAbsolutePath().toString();
         try {
-            writeOutputFile(balTree, clientPath);
-            errStream.printf("Generated Ballerina client object for the `%s` data model" +
+            String content = generateFormattedClient(entityModule, projectPath, perEntityLayout, profiler);
+            boolean written;
+            try (PhaseProfiler.Phase phase = profiler.start(entityModule.getModuleName(),
+                    PhaseProfiler.WRITE_FILES)) {
+                written = FileUtils.writeIfChanged(Paths.get(clientPath), content + System.lineSeparator());
+            }
+            outStream.printf("Generated Ballerina client object for the `%s` data model" +
                     " inside the generated directory.%n", entityModule.getModuleName());
+            return written;
         } catch (IOException | FormatterException e) {
             throw new BalException(String.format("Failed to write the client code for the `%s` data model " +
                     "to the generated_types.bal file.", entityModule.getModuleName()) + e.getMessage());
         }
     }
 
+    /**
+     * Generates the formatted client source. Only the fragments of the entities changed after the last generation
+     * are generated and formatted, and spliced into the cached source of the client.
+     */
+    private static String generateFormattedClient(Module entityModule, Path projectPath, boolean perEntityLayout,
+                                                  PhaseProfiler profiler) throws BalException, FormatterException {
+        ClientSourceCache cache = ClientSourceCache.load(projectPath, entityModule, perEntityLayout);
+        String content = null;
+        if (cache.isUpToDate()) {
+            content = cache.getSource();
+        } else {
+            Optional<Module> partialModule = cache.getPartialModule();
+            if (partialModule.isPresent() && cache.splice(partialModule.get(),
+                    formatClient(partialModule.get(), perEntityLayout, profiler))) {
+                try (PhaseProfiler.Phase phase = profiler.start(entityModule.getModuleName(),
+                        PhaseProfiler.SPLICE_CLIENT)) {
+                    content = cache.getSource();
+                }
+            }
+        }
+        if (content == null) {
+            content = formatClient(entityModule, perEntityLayout, profiler);
+            cache.update(content);
+        }
+        cache.save();
+        return content;
+    }
+
+    private static String formatClient(Module entityModule, boolean perEntityLayout, PhaseProfiler profiler)
+            throws BalException, FormatterException {
+        String moduleName = entityModule.getModuleName();
+        SyntaxTree balTree;
+        try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.BUILD_SYNTAX_TREE)) {
+            balTree = generateClientSyntaxTree(entityModule, perEntityLayout);
+        }
+        try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.FORMAT)) {
+            return Formatter.format(balTree.toSourceCode());
+        }
+    }
+
+    private static boolean generateEntityBalFiles(Module entityModule, Path outputPath, PhaseProfiler profiler,
+                                                  PrintStream outStream) throws BalException {
+        boolean written = false;
+        for (Entity entity : entityModule.getEntityMap().values()) {
+            SyntaxTree entityTree;
+            try (PhaseProfiler.Phase phase = profiler.start(entityModule.getModuleName(),
+                    PhaseProfiler.BUILD_SYNTAX_TREE)) {
+                entityTree = BalSyntaxGenerator.generateEntitySyntaxTree(entityModule, entity);
+            }
+            Path entityPath = outputPath.resolve(getEntityFileName(entity)).toAbsolutePath();
+            try {
+                written |= writeOutputFile(entityTree, entityPath.toString(), profiler, entityModule.getModuleName(),
+                        true);
+            } catch (IOException | FormatterException e) {
+                throw new BalException(String.format("Failed to write the types of the " +
+                        "`%s` entity to the %s file. ", entity.getEntityName(), entityPath.getFileName()) +
+                        e.getMessage());
+            }
+        }
+        outStream.printf("Generated Ballerina types for the `%s` data model" +
+                " inside the generated directory.%n", entityModule.getModuleName());
+        return written;
+    }
+
+    /**
+     * Deletes the generated source files which are not part of the current layout, such as the files of removed
+     * entities or the files of the layout used in the previous generation.
+     */
+    private static boolean deleteStaleSourceFiles(Module entityModule, Path outputPath, boolean perEntityLayout)
+            throws BalException {
+        boolean deleted = false;
+        Set<String> entityFiles = new HashSet<>();
+        if (perEntityLayout) {
+            entityModule.getEntityMap().values().forEach(entity -> entityFiles.add(getEntityFileName(entity)));
+        }
+        try (Stream<Path> stream = Files.list(outputPath)) {
+            for (Path file : stream.collect(Collectors.toList())) {
+                String fileName = Objects.requireNonNull(file.getFileName()).toString();
+                boolean staleEntityFile = fileName.startsWith(GENERATED_ENTITY_FILE_PREFIX) &&
+                        fileName.endsWith(BalSyntaxConstants.BAL_EXTENTION) && !entityFiles.contains(fileName);
+                boolean staleTypesFile = perEntityLayout && fileName.equals(GENERATED_TYPES_FILE);
+                if (staleEntityFile || staleTypesFile) {
+                    Files.delete(file);
+                    deleted = true;
+                }
+            }
+        } catch (IOException e) {
+            throw new BalException(String.format("Failed to delete the outdated sources of the `%s` data model. ",
+                    entityModule.getModuleName()) + e.getMessage());
+        }
+        return deleted;
+    }
+
+    private static String getEntityFileName(Entity entity) {
+        String entityName = entity.getEntityName().startsWith("'") ? entity.getEntityName().substring(1) :
+                entity.getEntityName();
+        return GENERATED_ENTITY_FILE_PREFIX + String.join(BalSyntaxConstants.UNDERSCORE,
+                entityName.split(BalSyntaxConstants.REGEX_FOR_SPLIT_BY_CAPITOL_LETTER)).toLowerCase(Locale.ENGLISH) +
+                BalSyntaxConstants.BAL_EXTENTION;
+    }
+
     public static void generateDataTypes(Module entityModule, Path outputPath) throws BalException {
+        generateDataTypes(entityModule, outputPath, new PhaseProfiler(COMMAND_NAME, false), System.err);
+    }
+
+    private static boolean generateDataTypes(Module entityModule, Path outputPath, PhaseProfiler profiler,
+                                             PrintStream outStream) throws BalException {
         Collection<Entity> entityArray = entityModule.getEntityMap().values();
+        boolean written = false;
         if (entityArray.size() != 0) {
 
-            generateTypeBalFile(entityModule, outputPath);
-            errStream.printf("Generated Ballerina types for the `%s` data model" +
+            written = generateTypeBalFile(entityModule, outputPath, profiler);
+            outStream.printf("Generated Ballerina types for the `%s` data model" +
                     " inside the generated directory.%n", entityModule.getModuleName());
         }
+        return written;
     }
 
-    private static void generateTypeBalFile(Module entityModule, Path outputPath) throws BalException {
-        SyntaxTree generatedTypes =  BalSyntaxGenerator.generateTypeSyntaxTree(entityModule);
-        String generatedTypesPath = outputPath.resolve("generated_types.bal").toAbsolutePath().toString();
+    private static boolean generateTypeBalFile(Module entityModule, Path outputPath, PhaseProfiler profiler)
+            throws BalException {
+        SyntaxTree generatedTypes;
+        try (PhaseProfiler.Phase phase = profiler.start(entityModule.getModuleName(),
+                PhaseProfiler.BUILD_SYNTAX_TREE)) {
+            generatedTypes = BalSyntaxGenerator.generateTypeSyntaxTree(entityModule);
+        }
+        String generatedTypesPath = outputPath.resolve(GENERATED_TYPES_FILE).toAbsolutePath().toString();
         try {
-            writeOutputFile(generatedTypes, generatedTypesPath);
+            // The types are generated in the layout of the formatter, hence they are written without formatting.
+            return writeOutputFile(generatedTypes, generatedTypesPath, profiler, entityModule.getModuleName(), false);
         } catch (IOException | FormatterException e) {
             throw new BalException(String.format(
                     "Failed to write the types for the %s data model to the generated_types.bal file. ",
@@ -184,11 +503,16 @@ public class Generate implements BLauncherCmd {
         }
     }
 
-    private static void writeOutputFile(SyntaxTree syntaxTree, String outPath) throws IOException, FormatterException {
-        String content;
-        content = Formatter.format(syntaxTree.toSourceCode());
-        try (PrintWriter writer = new PrintWriter(outPath, StandardCharsets.UTF_8.name())) {
-            writer.println(content);
+    private static boolean writeOutputFile(SyntaxTree syntaxTree, String outPath, PhaseProfiler profiler,
+                                           String moduleName, boolean format) throws IOException, FormatterException {
+        String content = syntaxTree.toSourceCode();
+        if (format) {
+            try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.FORMAT)) {
+                content = Formatter.format(content);
+            }
+        }
+        try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.WRITE_FILES)) {
+            return FileUtils.writeIfChanged(Paths.get(outPath), content + System.lineSeparator());
         }
     }
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.persist.cmd;
+
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.utils.GenerationManifest;
+import io.ballerina.persist.utils.PhaseProfiler;
+import io.ballerina.persist.utils.ProjectContext;
+import io.ballerina.projects.Project;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Runs the `persist generate` pipeline inside a process which has already loaded the Ballerina project, such as a
+ * build tool or a compiler plugin of the Ballerina build. The loaded project is reused, and only the data models
+ * whose definition files or configurations are changed after the last generation are generated.
+ *
+ * @since 0.1.0
+ */
+public class GenerateTask {
+
+    private static final String TASK_NAME = "persist generate (build)";
+
+    private final Project project;
+    private final boolean profile;
+
+    public GenerateTask(Project project) {
+        this(project, false);
+    }
+
+    public GenerateTask(Project project, boolean profile) {
+        this.project = project;
+        this.profile = profile;
+    }
+
+    /**
+     * Generates the sources of the data models in the persist directory of the project. The projects without a
+     * persist directory are ignored. The errors of a data model are reported to the given stream, and do not stop
+     * the generation of the other data models.
+     *
+     * @return true if any generated source file is written or deleted, in which case the loaded project no longer
+     * reflects the generated sources and should be reloaded before it is compiled
+     */
+    public boolean execute(PrintStream outStream) throws BalException {
+        PhaseProfiler profiler = new PhaseProfiler(TASK_NAME, profile);
+        ProjectContext context = ProjectContext.from(project, profiler);
+        if (!Files.isDirectory(context.getPersistDirectory())) {
+            return false;
+        }
+        List<Path> schemaFilePaths;
+        try {
+            schemaFilePaths = context.listModelFiles();
+        } catch (IOException e) {
+            throw new BalException("Error while listing the persist model definition files in persist directory. "
+                    + e.getMessage());
+        }
+        GenerationManifest manifest = GenerationManifest.load(context.getProjectPath());
+        Generate generate = new Generate(context.getProjectPath().toString());
+        boolean changed = false;
+        for (Path file : schemaFilePaths) {
+            changed |= generate.generateModule(context, file, manifest, outStream) == Generate.ModuleResult.CHANGED;
+        }
+        if (manifest.isModified()) {
+            manifest.save();
+        }
+        profiler.printTimings(outStream);
+        return changed;
+    }
+}
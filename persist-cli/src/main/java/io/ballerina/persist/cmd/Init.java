@@ -21,17 +21,16 @@ import io.ballerina.cli.BLauncherCmd;
 import io.ballerina.persist.BalException;
 import io.ballerina.persist.nodegenerator.BalSyntaxGenerator;
 import io.ballerina.persist.nodegenerator.TomlSyntaxGenerator;
+import io.ballerina.persist.utils.FileUtils;
+import io.ballerina.persist.utils.PhaseProfiler;
+import io.ballerina.persist.utils.ProjectContext;
 import io.ballerina.projects.ProjectException;
-import io.ballerina.projects.directory.BuildProject;
-import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.toml.syntax.tree.SyntaxTree;
 import picocli.CommandLine;
 
 import java.io.IOException;
 import java.io.PrintStream;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -44,7 +43,6 @@ import java.util.stream.Stream;
 import static io.ballerina.persist.PersistToolsConstants.COMPONENT_IDENTIFIER;
 import static io.ballerina.persist.PersistToolsConstants.CONFIG_SCRIPT_FILE;
 import static io.ballerina.persist.PersistToolsConstants.GENERATED_DIRECTORY;
-import static io.ballerina.persist.PersistToolsConstants.PERSIST_DIRECTORY;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.BAL_EXTENTION;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.PATH_CONFIGURATION_BAL_FILE;
 import static io.ballerina.projects.util.ProjectConstants.BALLERINA_TOML;
@@ -63,11 +61,16 @@ public class Init implements BLauncherCmd {
 
     private final PrintStream errStream = System.err;
     private static final String COMMAND_IDENTIFIER = "persist-init";
+    private static final String COMMAND_NAME = "persist init";
     private final String sourcePath;
 
     @CommandLine.Option(names = {"-h", "--help"}, hidden = true)
     private boolean helpFlag;
 
+    @CommandLine.Option(names = {"--profile"}, description = "Print the time taken by each phase of the " +
+            "initialization")
+    private boolean profileFlag;
+
     public Init() {
         this("");
     }
@@ -83,17 +86,17 @@ public class Init implements BLauncherCmd {
             errStream.println(commandUsageInfo);
             return;
         }
-        Path projectPath = Paths.get(sourcePath);
-        try  {
-            ProjectLoader.loadProject(projectPath);
+        PhaseProfiler profiler = new PhaseProfiler(COMMAND_NAME, profileFlag);
+        ProjectContext context;
+        try {
+            context = ProjectContext.load(Paths.get(sourcePath), profiler);
         } catch (ProjectException e) {
             errStream.println("Not a Ballerina project (or any parent up to mount point)\n" +
                     "You should run this command inside a Ballerina project. ");
             return;
         }
-        BuildProject buildProject = BuildProject.load(projectPath.toAbsolutePath());
-        String packageName = buildProject.currentPackage().packageName().value();
-        Path persistDirPath = Paths.get(this.sourcePath, PERSIST_DIRECTORY);
+        String packageName = context.getPackageName();
+        Path persistDirPath = context.getPersistDirectory();
         if (!Files.exists(persistDirPath)) {
             try {
                 Files.createDirectory(persistDirPath.toAbsolutePath());
@@ -118,7 +121,7 @@ public class Init implements BLauncherCmd {
 
         if (schemaFiles.size() == 0) {
             schemaFiles.add(packageName);
-            try {
+            try (PhaseProfiler.Phase phase = profiler.start(packageName, PhaseProfiler.WRITE_FILES)) {
                 generateSchemaBalFile(persistDirPath, packageName);
                 errStream.printf("Created model definition file(%s) in persist directory.%n",
                         packageName + BAL_EXTENTION);
@@ -155,7 +158,7 @@ public class Init implements BLauncherCmd {
             }
             Path databaseConfigPath = schemaDirPath.resolve(PATH_CONFIGURATION_BAL_FILE);
             if (!Files.exists(databaseConfigPath)) {
-                try {
+                try (PhaseProfiler.Phase phase = profiler.start(file, PhaseProfiler.WRITE_FILES)) {
                     generateConfigurationBalFile(schemaDirPath);
                     errStream.printf(
                             "Created database_configurations.bal file inside `%s` module in generated directory.%n",
@@ -167,7 +170,7 @@ public class Init implements BLauncherCmd {
             }
         }
 
-        try {
+        try (PhaseProfiler.Phase phase = profiler.start(PhaseProfiler.PROJECT_MODEL, PhaseProfiler.WRITE_FILES)) {
             updateBallerinaToml(schemaFiles);
             if (!Files.exists(Paths.get(this.sourcePath, CONFIG_SCRIPT_FILE).toAbsolutePath())) {
                 createConfigTomlFile(schemaFiles, packageName);
@@ -177,6 +180,7 @@ public class Init implements BLauncherCmd {
         } catch (BalException e) {
             errStream.println("Error while adding database configurations. " + e.getMessage());
         }
+        profiler.printTimings(errStream);
     }
 
     private void generateConfigurationBalFile(Path generatedSourcePath) throws BalException {
@@ -248,9 +252,7 @@ public class Init implements BLauncherCmd {
                                 parentDirectory, e.getMessage()));
             }
             content = syntaxTree.toSourceCode();
-            try (PrintWriter writer = new PrintWriter(outPath, StandardCharsets.UTF_8.name())) {
-                writer.println(content);
-            }
+            FileUtils.writeIfChanged(pathToFile, content + System.lineSeparator());
         }
     }
     private void writeOutputString(String content, String outPath) throws Exception {
@@ -266,9 +268,7 @@ public class Init implements BLauncherCmd {
                                     parentDirectory, e.getMessage()));
                 }
             }
-            try (PrintWriter writer = new PrintWriter(outPath, StandardCharsets.UTF_8.name())) {
-                writer.println(content);
-            }
+            FileUtils.writeIfChanged(pathToFile, content + System.lineSeparator());
         }
     }
 
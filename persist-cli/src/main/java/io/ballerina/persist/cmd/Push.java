@@ -24,8 +24,10 @@ import io.ballerina.persist.configuration.PersistConfiguration;
 import io.ballerina.persist.models.Entity;
 import io.ballerina.persist.models.Module;
 import io.ballerina.persist.nodegenerator.TomlSyntaxGenerator;
-import io.ballerina.persist.utils.BalProjectUtils;
 import io.ballerina.persist.utils.JdbcDriverLoader;
+import io.ballerina.persist.utils.ParallelTaskRunner;
+import io.ballerina.persist.utils.PhaseProfiler;
+import io.ballerina.persist.utils.ProjectContext;
 import io.ballerina.persist.utils.ScriptRunner;
 import io.ballerina.persist.utils.SqlScriptGenerationUtils;
 import io.ballerina.projects.DependencyGraph;
@@ -33,8 +35,6 @@ import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.ResolvedPackageDependency;
-import io.ballerina.projects.directory.BuildProject;
-import io.ballerina.projects.directory.ProjectLoader;
 import picocli.CommandLine;
 
 import java.io.BufferedReader;
@@ -53,13 +53,10 @@ import java.sql.Driver;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static io.ballerina.persist.PersistToolsConstants.BALLERINA_MYSQL_DRIVER_NAME;
 import static io.ballerina.persist.PersistToolsConstants.COMPONENT_IDENTIFIER;
@@ -72,7 +69,6 @@ import static io.ballerina.persist.PersistToolsConstants.PROPERTY_KEY_PATH;
 import static io.ballerina.persist.PersistToolsConstants.USER;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.JDBC_URL_WITHOUT_DATABASE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.JDBC_URL_WITH_DATABASE;
-import static io.ballerina.projects.util.ProjectConstants.BALLERINA_TOML;
 import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 
 /**
@@ -89,10 +85,17 @@ public class Push implements BLauncherCmd {
     private static final String CREATE_DATABASE_SQL_FORMAT = "CREATE DATABASE IF NOT EXISTS %s";
     private final PrintStream errStream = System.err;
     private static final String COMMAND_IDENTIFIER = "persist-push";
+    private static final String COMMAND_NAME = "persist push";
     private final String sourcePath;
     @CommandLine.Option(names = {"-h", "--help"}, hidden = true)
     private boolean helpFlag;
 
+    @CommandLine.Option(names = {"--jobs"}, description = "Number of data models to process in parallel")
+    private int jobs = 1;
+
+    @CommandLine.Option(names = {"--profile"}, description = "Print the time taken by each phase of the push")
+    private boolean profileFlag;
+
     public Push() {
         this("");
     }
@@ -108,16 +111,22 @@ public class Push implements BLauncherCmd {
             errStream.println(commandUsageInfo);
             return;
         }
+        if (jobs < 1) {
+            errStream.println("The value of the `--jobs` option should be a positive integer.");
+            return;
+        }
 
+        PhaseProfiler profiler = new PhaseProfiler(COMMAND_NAME, profileFlag);
+        ProjectContext context;
         try {
-            ProjectLoader.loadProject(Paths.get(this.sourcePath));
+            context = ProjectContext.load(Paths.get(this.sourcePath), profiler);
         } catch (ProjectException e) {
             errStream.println("Not a Ballerina project (or any parent up to mount point)\n" +
                     "You should run this command inside a Ballerina project.");
             return;
         }
 
-        Path persistDir = Paths.get(this.sourcePath, PERSIST_DIRECTORY);
+        Path persistDir = context.getPersistDirectory();
         if (!Files.isDirectory(persistDir, NOFOLLOW_LINKS)) {
             errStream.println("The persist directory inside the Ballerina project doesn't exist. " +
                     "Please run `bal persist init` to initiate the project before generation");
@@ -125,10 +134,8 @@ public class Push implements BLauncherCmd {
         }
 
         List<Path> schemaFilePaths;
-        try (Stream<Path> stream = Files.list(persistDir)) {
-            schemaFilePaths = stream.filter(file -> !Files.isDirectory(file))
-                    .filter(file -> file.toString().toLowerCase(Locale.ENGLISH).endsWith(".bal"))
-                    .collect(Collectors.toList());
+        try {
+            schemaFilePaths = context.listModelFiles();
         } catch (IOException e) {
             errStream.println("Error while listing the persist model definition files in persist directory. "
                     + e.getMessage());
@@ -142,83 +149,102 @@ public class Push implements BLauncherCmd {
             return;
         }
 
-        // Load Ballerina project to get DB driver path.
-        Path projectPath = Paths.get(this.sourcePath).toAbsolutePath();
-        Project balProject = BuildProject.load(projectPath);
-
-        schemaFilePaths.forEach(file -> {
-            Module entityModule;
-            try {
-                BalProjectUtils.validateSchemaFile(file);
-                entityModule = BalProjectUtils.getEntities(file);
-                ArrayList<Entity> entityArray = new ArrayList<>(entityModule.getEntityMap().values());
-                if (entityArray.isEmpty()) {
-                    errStream.printf("The model definition file(%s) doesn't contain any valid entity%n",
-                            file.getFileName());
-                    return;
-                }
-                String[] sqlScripts = SqlScriptGenerationUtils.generateSqlScript(entityArray);
+        ParallelTaskRunner.run(schemaFilePaths, jobs, errStream,
+                (file, outStream) -> prepareModel(context, file, outStream), (file, preparedModel) -> {
+                    if (preparedModel != null) {
+                        pushModel(context, file, preparedModel);
+                    }
+                });
+        profiler.printTimings(errStream);
+    }
+
+    /**
+     * Generates the SQL script of the given data model and reads its database configurations.
+     *
+     * @return the data model to be pushed, or null if the data model cannot be pushed
+     */
+    PreparedModel prepareModel(ProjectContext context, Path file, PrintStream outStream) {
+        PhaseProfiler profiler = context.getProfiler();
+        Module entityModule;
+        try {
+            String fileName = Objects.requireNonNull(file.getFileName()).toString();
+            String moduleName = fileName.substring(0, fileName.lastIndexOf('.'));
+            entityModule = context.getEntities(file);
+            ArrayList<Entity> entityArray = new ArrayList<>(entityModule.getEntityMap().values());
+            if (entityArray.isEmpty()) {
+                outStream.printf("The model definition file(%s) doesn't contain any valid entity%n",
+                        file.getFileName());
+                return null;
+            }
+            String[] sqlScripts;
+            try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.GENERATE_SQL_SCRIPT)) {
+                sqlScripts = SqlScriptGenerationUtils.generateSqlScript(entityArray);
+            }
+            try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.WRITE_FILES)) {
                 SqlScriptGenerationUtils.writeScriptFile(entityModule.getModuleName(), sqlScripts,
                         Paths.get(this.sourcePath, PERSIST_DIRECTORY));
-            } catch (BalException e) {
-                errStream.printf("Error occurred while generating SQL schema for persist schema file, %s. "
-                                + e.getMessage() + "%n", file.getFileName());
-                return;
             }
+        } catch (BalException e) {
+            outStream.printf("Error occurred while generating SQL schema for persist schema file, %s. "
+                    + e.getMessage() + "%n", file.getFileName());
+            return null;
+        }
 
-            PersistConfiguration persistConfigurations;
-            try {
-                Path ballerinaTomlPath = Paths.get(this.sourcePath, BALLERINA_TOML);
-                persistConfigurations = TomlSyntaxGenerator.readPersistConfigurations(
-                        entityModule.getModuleName(), ballerinaTomlPath);
-            } catch (BalException e) {
-                errStream.printf("Error occurred while loading db configurations for the data model, %s. "
-                        + e.getMessage() + "%n", entityModule.getModuleName());
+        try {
+            return new PreparedModel(entityModule.getModuleName(), TomlSyntaxGenerator.readPersistConfigurations(
+                    entityModule.getModuleName(), context.getBallerinaToml()));
+        } catch (BalException e) {
+            outStream.printf("Error occurred while loading db configurations for the data model, %s. "
+                    + e.getMessage() + "%n", entityModule.getModuleName());
+            return null;
+        }
+    }
+
+    void pushModel(ProjectContext context, Path file, PreparedModel preparedModel) {
+        PhaseProfiler profiler = context.getProfiler();
+        PersistConfiguration persistConfigurations = preparedModel.persistConfigurations;
+        String moduleName = preparedModel.moduleName;
+        try (JdbcDriverLoader driverLoader = getJdbcDriverLoader(context, moduleName)) {
+            Driver driver = getJdbcDriver(driverLoader, profiler, moduleName);
+            String query = String.format(CREATE_DATABASE_SQL_FORMAT,
+                    persistConfigurations.getDbConfig().getDatabase());
+            try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.EXECUTE_DDL);
+                 Connection connection = getDBConnection(driver, persistConfigurations, false)) {
+                ScriptRunner sr = new ScriptRunner(connection);
+                sr.runQuery(query);
+            } catch (SQLException e) {
+                errStream.println("Error occurred while creating the database, " +
+                        persistConfigurations.getDbConfig().getDatabase() + "." + e.getMessage());
                 return;
             }
-
-            try (JdbcDriverLoader driverLoader = getJdbcDriverLoader(balProject)) {
-                Driver driver = getJdbcDriver(driverLoader);
-                String query = String.format(CREATE_DATABASE_SQL_FORMAT,
-                        persistConfigurations.getDbConfig().getDatabase());
-                try (Connection connection = getDBConnection(driver, persistConfigurations, false)) {
-                    ScriptRunner sr = new ScriptRunner(connection);
-                    sr.runQuery(query);
-                } catch (SQLException e) {
-                    errStream.println("Error occurred while creating the database, " +
-                            persistConfigurations.getDbConfig().getDatabase() + "." + e.getMessage());
-                    return;
-                }
-                errStream.println("Created database `" + persistConfigurations.getDbConfig().getDatabase() + "`.");
-
-                String sqlFilePath = Paths.get(this.sourcePath, PERSIST_DIRECTORY,
-                                String.format(PersistToolsConstants.SQL_SCHEMA_FILE, entityModule.getModuleName()))
-                        .toAbsolutePath().toString();
-                try (Connection connection = getDBConnection(driver, persistConfigurations, true);
-                     Reader fileReader = new BufferedReader(new FileReader(sqlFilePath,
-                             StandardCharsets.UTF_8))) {
-                    ScriptRunner sr = new ScriptRunner(connection);
-                    sr.runScript(fileReader);
-                } catch (IOException e) {
-                    errStream.println("Error occurred while reading SQL schema file, "
-                            + sqlFilePath + "." + e.getMessage());
-                    return;
-                } catch (Exception e) {
-                    errStream.println("Error occurred while executing SQL schema file, "
-                            + sqlFilePath + "." + e.getMessage());
-                    return;
-                }
-                errStream.println("Created tables for definition in " + file.getFileName() + " in the database `" +
-                        persistConfigurations.getDbConfig().getDatabase() + "`.");
-            } catch (BalException e) {
-                errStream.println("Error occurred while executing the SQL script for the persist schema file, "
-                        + file.getFileName() + "." + e.getMessage());
+            errStream.println("Created database `" + persistConfigurations.getDbConfig().getDatabase() + "`.");
+
+            String sqlFilePath = Paths.get(this.sourcePath, PERSIST_DIRECTORY,
+                            String.format(PersistToolsConstants.SQL_SCHEMA_FILE, preparedModel.moduleName))
+                    .toAbsolutePath().toString();
+            try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.EXECUTE_DDL);
+                 Connection connection = getDBConnection(driver, persistConfigurations, true);
+                 Reader fileReader = new BufferedReader(new FileReader(sqlFilePath,
+                         StandardCharsets.UTF_8))) {
+                ScriptRunner sr = new ScriptRunner(connection);
+                sr.runScript(fileReader);
             } catch (IOException e) {
-                errStream.println("Error occurred in database driver loader. " + e.getMessage());
+                errStream.println("Error occurred while reading SQL schema file, "
+                        + sqlFilePath + "." + e.getMessage());
+                return;
+            } catch (Exception e) {
+                errStream.println("Error occurred while executing SQL schema file, "
+                        + sqlFilePath + "." + e.getMessage());
+                return;
             }
-        });
-
-
+            errStream.println("Created tables for definition in " + file.getFileName() + " in the database `" +
+                    persistConfigurations.getDbConfig().getDatabase() + "`.");
+        } catch (BalException e) {
+            errStream.println("Error occurred while executing the SQL script for the persist schema file, "
+                    + file.getFileName() + "." + e.getMessage());
+        } catch (IOException e) {
+            errStream.println("Error occurred in database driver loader. " + e.getMessage());
+        }
     }
 
     private Connection getDBConnection(Driver driver, PersistConfiguration persistConfigurations, boolean withDB)
@@ -243,24 +269,27 @@ public class Push implements BLauncherCmd {
         return driver.connect(url, props);
     }
 
-    private JdbcDriverLoader getJdbcDriverLoader(Project balProject) throws BalException {
+    private JdbcDriverLoader getJdbcDriverLoader(ProjectContext context, String moduleName) throws BalException {
         JdbcDriverLoader driverLoader = null;
-        Path driverDirectoryPath = getDriverPath(balProject).getParent();
-        if (Objects.nonNull(driverDirectoryPath)) {
-            Path driverPath = driverDirectoryPath.toAbsolutePath();
-            URL[] urls = {};
-            try {
-                driverLoader = new JdbcDriverLoader(urls, driverPath);
-            } catch (IOException e) {
-                throw new BalException("Couldn't load the driver from the driver path. " + e.getMessage());
+        try (PhaseProfiler.Phase phase = context.getProfiler().start(moduleName, PhaseProfiler.LOAD_JDBC_DRIVER)) {
+            Path driverDirectoryPath = getDriverPath(context.getBuildProject()).getParent();
+            if (Objects.nonNull(driverDirectoryPath)) {
+                Path driverPath = driverDirectoryPath.toAbsolutePath();
+                URL[] urls = {};
+                try {
+                    driverLoader = new JdbcDriverLoader(urls, driverPath);
+                } catch (IOException e) {
+                    throw new BalException("Couldn't load the driver from the driver path. " + e.getMessage());
+                }
             }
         }
         return driverLoader;
     }
 
-    private Driver getJdbcDriver (JdbcDriverLoader driverLoader) throws BalException {
+    private Driver getJdbcDriver (JdbcDriverLoader driverLoader, PhaseProfiler profiler, String moduleName)
+            throws BalException {
         Driver driver;
-        try {
+        try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.LOAD_JDBC_DRIVER)) {
             Class<?> drvClass = driverLoader.loadClass(MYSQL_DRIVER_CLASS);
             driver = (Driver) drvClass.getDeclaredConstructor().newInstance();
         } catch (ClassNotFoundException e) {
@@ -324,4 +353,17 @@ public class Push implements BLauncherCmd {
         }
         throw new BalException("Failed to retrieve MySQL driver path in the local cache.");
     }
+
+    /**
+     * Data model which is ready to be pushed to the database.
+     */
+    static class PreparedModel {
+        private final String moduleName;
+        private final PersistConfiguration persistConfigurations;
+
+        PreparedModel(String moduleName, PersistConfiguration persistConfigurations) {
+            this.moduleName = moduleName;
+            this.persistConfigurations = persistConfigurations;
+        }
+    }
 }
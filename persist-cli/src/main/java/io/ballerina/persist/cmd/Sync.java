@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.cmd;
+
+import io.ballerina.cli.BLauncherCmd;
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.utils.GenerationManifest;
+import io.ballerina.persist.utils.ParallelTaskRunner;
+import io.ballerina.persist.utils.PhaseProfiler;
+import io.ballerina.persist.utils.ProjectContext;
+import io.ballerina.projects.ProjectException;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static io.ballerina.persist.PersistToolsConstants.COMPONENT_IDENTIFIER;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+
+/**
+ * This Class implements the `persist sync` command in Ballerina persist-tool. The command generates the sources and
+ * pushes the tables of each data model in a single pass, hence the project and the data models are loaded once.
+ *
+ * @since 0.1.0
+ */
+@CommandLine.Command(
+        name = "sync",
+        description = "Generate the client objects and create the database tables of the entities.")
+public class Sync implements BLauncherCmd {
+
+    private final PrintStream errStream = System.err;
+    private static final String COMMAND_IDENTIFIER = "persist-sync";
+    private static final String COMMAND_NAME = "persist sync";
+    private final String sourcePath;
+
+    @CommandLine.Option(names = {"-h", "--help"}, hidden = true)
+    private boolean helpFlag;
+
+    @CommandLine.Option(names = {"--jobs"}, description = "Number of data models to process in parallel")
+    private int jobs = 1;
+
+    @CommandLine.Option(names = {"--profile"}, description = "Print the time taken by each phase of the sync")
+    private boolean profileFlag;
+
+    public Sync() {
+        this("");
+    }
+
+    public Sync(String sourcePath) {
+        this.sourcePath = sourcePath;
+    }
+
+    @Override
+    public void execute() {
+        if (helpFlag) {
+            String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(COMMAND_IDENTIFIER);
+            errStream.println(commandUsageInfo);
+            return;
+        }
+        if (jobs < 1) {
+            errStream.println("The value of the `--jobs` option should be a positive integer.");
+            return;
+        }
+
+        PhaseProfiler profiler = new PhaseProfiler(COMMAND_NAME, profileFlag);
+        ProjectContext context;
+        try {
+            context = ProjectContext.load(Paths.get(this.sourcePath), profiler);
+        } catch (ProjectException e) {
+            errStream.println("Not a Ballerina project (or any parent up to mount point)\n" +
+                    "You should run this command inside a Ballerina project.");
+            return;
+        }
+
+        if (!Files.isDirectory(context.getPersistDirectory(), NOFOLLOW_LINKS)) {
+            errStream.println("The persist directory inside the Ballerina project doesn't exist. " +
+                    "Please run `bal persist init` to initiate the project before generation");
+            return;
+        }
+
+        List<Path> schemaFilePaths;
+        try {
+            schemaFilePaths = context.listModelFiles();
+        } catch (IOException e) {
+            errStream.println("Error while listing the persist model definition files in persist directory. "
+                    + e.getMessage());
+            return;
+        }
+
+        if (schemaFilePaths.isEmpty()) {
+            errStream.println("The persist directory doesn't contain any model definition file. " +
+                    "Please run `bal persist init` to initiate the project before generation or " +
+                    "manually add a model definition file to the persist directory");
+            return;
+        }
+
+        Generate generate = new Generate(this.sourcePath);
+        Push push = new Push(this.sourcePath);
+        GenerationManifest manifest = GenerationManifest.load(context.getProjectPath());
+        // The data models are generated and prepared in parallel, but pushed one at a time, as in `persist push`.
+        ParallelTaskRunner.run(schemaFilePaths, jobs, errStream, (file, outStream) -> {
+            if (generate.generateModule(context, file, manifest, outStream) == Generate.ModuleResult.FAILED) {
+                return null;
+            }
+            return push.prepareModel(context, file, outStream);
+        }, (file, preparedModel) -> {
+            if (preparedModel != null) {
+                push.pushModel(context, file, preparedModel);
+            }
+        });
+        try {
+            manifest.save();
+        } catch (BalException e) {
+            errStream.println(e.getMessage());
+        }
+        profiler.printTimings(errStream);
+    }
+
+    @Override
+    public void setParentCmdParser(CommandLine parentCmdParser) {
+    }
+
+    @Override
+    public String getName() {
+        return COMPONENT_IDENTIFIER;
+    }
+
+    @Override
+    public void printLongDesc(StringBuilder out) {
+        out.append("Generate the client objects and create the database tables of the entities defined in the " +
+                "Ballerina project").append(System.lineSeparator());
+        out.append(System.lineSeparator());
+    }
+
+    @Override
+    public void printUsage(StringBuilder stringBuilder) {
+        stringBuilder.append("  ballerina " + COMPONENT_IDENTIFIER + " sync").append(System.lineSeparator());
+    }
+}
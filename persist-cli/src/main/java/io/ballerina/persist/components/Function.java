@@ -20,6 +20,7 @@ package io.ballerina.persist.components;
 
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
@@ -153,6 +154,20 @@ public class Function {
                                                         NodeFactory.createEmptyMinutiaeList()))), close)));
     }
 
+    public void addDefaultableParameter(Node typeName, String name, ExpressionNode defaultValue) {
+        if (parameters.size() > 0) {
+            parameters.add(SyntaxTokenConstants.SYNTAX_TREE_COMMA);
+        }
+        NodeList<AnnotationNode> annotations = NodeFactory.createEmptyNodeList();
+        parameters.add(
+                NodeFactory.createDefaultableParameterNode(
+                        annotations,
+                        typeName,
+                        AbstractNodeFactory.createIdentifierToken(name),
+                        SyntaxTokenConstants.SYNTAX_TREE_EQUAL,
+                        defaultValue));
+    }
+
     public void addReturns(TypeDescriptorNode node) {
         returnTypeDescriptorNode = getReturnTypeDescriptorNode(node);
     }
@@ -38,48 +38,145 @@ public class BalSyntaxConstants {
     }
     public static final String RECORD_PLACEHOLDER = "{%s}";
     public static final String DOUBLE_QUOTE = "\"";
+    public static final String PIPE = "|";
     public static final String BACK_SLASH = "/";
     public static final String EMPTY_STRING = "";
     public static final String SPACE = " ";
     public static final String UNDERSCORE = "_";
     public static final String COMMA_SPACE = ", ";
     public static final String COLON = ":";
-    public static final String SEMICOLON = ";";
     public static final String VALUE = "value";
-    public static final String RETURN_NEXT_RECORD = "return nextRecord;";
     public static final String PERSIST_MODULE = "persist";
     public static final String PERSIST_ERROR = "persist:Error";
     public static final String GENERIC_ERROR = "error";
-    public static final String CREATE_SQL_RESULTS = "_ = check " +
-            "self.persistClients.get(%s).runBatchInsertQuery(data);";
-    public static final String RETURN_CREATED_KEY = "return from  %s inserted in data" + System.lineSeparator();
-    public static final String SELECT_WITH_SPACE = "\t\t\tselect ";
-    public static final String READ_BY_KEY_RETURN = "%s|error result = (check self.persistClients.get(%s)." +
-            "runReadByKeyQuery(%s, %s)).cloneWithType(%s);";
-    public static final String READ_RUN_READ_QUERY = "stream<record{}, sql:Error?>|persist:Error result" +
-            " = self.persistClients.get(%s).runReadQuery(%s);";
-    public static final String READ_RETURN_STREAM_WHEN_ERROR = "return new stream<%s, persist:Error?>" +
-            "(new %sStream((), result));";
-    public static final String READ_RETURN_STREAM_WHEN_NOT_ERROR = "return new stream<%s, persist:Error?>" +
-            "(new %sStream(result));";
+    public static final String INSERT_ROWS_STREAM = "stream<%1$s, error?> rows = data is %1$s[] ? data.toStream() " +
+            ": data;";
+    public static final String INSERT_KEYS = "%s[] keys = [];";
+    public static final String INSERT_BATCH = "%s[] batch = [];";
+    public static final String INSERT_NEXT_ROW = "record {|%s value;|}|error? row = rows.next();";
+    public static final String INSERT_BATCHES = "while row is record {|%1$s value;|} {" + System.lineSeparator() +
+            "%2$s" + System.lineSeparator() +
+            "if %3$s.length() == self.batchSize {" + System.lineSeparator() +
+            "%4$s" + System.lineSeparator() +
+            "%3$s = [];" + System.lineSeparator() +
+            "}" + System.lineSeparator() +
+            "row = rows.next();" + System.lineSeparator() +
+            "}";
+    public static final String INSERT_LAST_BATCH = "if %s.length() > 0 {" + System.lineSeparator() +
+            "%s" + System.lineSeparator() +
+            "}";
+    public static final String BATCH = "batch";
+    public static final String INSERT_BATCH_PUSH = "batch.push(row.value);";
+    public static final String INSERT_BATCH_QUERY = "_ = check self.persistClients.get(%2$s)." +
+            "runBatchInsertQuery(batch);" + System.lineSeparator() +
+            "%3$s[] batchKeys = from %1$s inserted in batch select %4$s;" + System.lineSeparator() +
+            "if onBatch is () {" + System.lineSeparator() +
+            "keys.push(...batchKeys);" + System.lineSeparator() +
+            "} else {" + System.lineSeparator() +
+            "error? batchResult = onBatch(batchKeys);" + System.lineSeparator() +
+            "if batchResult is error {" + System.lineSeparator() +
+            "return <persist:Error>error(batchResult.message());" + System.lineSeparator() +
+            "}" + System.lineSeparator() +
+            "}";
+    public static final String ON_BATCH = "onBatch";
+    public static final String ON_BATCH_TYPE = "(isolated function (%s[] keys) returns error?)? ";
+    public static final String RETURN_KEYS = "return keys;";
+    public static final String UPSERT_VALUES = "values";
+    public static final String UPSERT_VALUES_DECLARATION = "sql:ParameterizedQuery[] values = [];";
+    public static final String UPSERT_VALUES_PUSH = "values.push(values.length() == 0 ? `(%2$s)` : `, (%2$s)`);";
+    public static final String UPSERT_VALUE = "${row.value.%s}";
+    public static final String UPSERT_COLUMN = "%1$s = new.%1$s";
+    public static final String UPSERT_BATCH_QUERY = "sql:ExecutionResult|sql:Error result = self.dbClient->execute(" +
+            "sql:queryConcat(`INSERT INTO %3$s (%4$s) VALUES `, sql:queryConcat(...values), " +
+            "` AS new ON DUPLICATE KEY UPDATE %5$s`));" + System.lineSeparator() +
+            "if result is sql:Error {" + System.lineSeparator() +
+            "return <persist:Error>error(result.message());" + System.lineSeparator() +
+            "}";
+    public static final String ROW = "row";
+    public static final String READ_BY_KEY_RETURN = "%s|sql:Error result = self.dbClient->queryRow(" +
+            "`SELECT %s FROM %s WHERE %s`);";
+    public static final String READ_BY_KEY_CONDITION = "%s = ${%s}";
+    public static final String SQL_AND = " AND ";
+    public static final String RESULT_IS_NO_ROWS_ERROR = "%s is sql:NoRowsError";
+    public static final String RETURN_INVALID_KEY_ERROR = "return <persist:InvalidKeyError>error(string " +
+            "`A record does not exist for '%s' for key ${%s.toBalString()}.`);";
+    public static final String FILTER = "filter";
+    public static final String ORDER_BY = "orderBy";
+    public static final String SORT_DESCENDING = "sortDescending";
+    public static final String MAX_ROWS = "maxRows";
+    public static final String BOOLEAN = "boolean";
+    public static final String OPTIONAL_INT = "int? ";
+    public static final String EMPTY_MAPPING = "{}";
+    public static final String EMPTY_LIST = "[]";
+    public static final String FALSE = "false";
+    public static final String NIL = "()";
+    public static final String READ_QUERY = "sql:ParameterizedQuery query = `SELECT %s FROM %s WHERE TRUE`;";
+    public static final String READ_FILTER_CONDITION = "if filter.hasKey(\"%1$s\") {" + System.lineSeparator() +
+            "query = sql:queryConcat(query, ` AND %1$s <=> ${filter?.%2$s}`);" + System.lineSeparator() +
+            "}";
+    public static final String READ_ORDER_BY = "if orderBy.length() > 0 {" + System.lineSeparator() +
+            "map<sql:ParameterizedQuery> columns = {%s};" + System.lineSeparator() +
+            "query = sql:queryConcat(query, ` ORDER BY `, ...from int i in 0 ..< orderBy.length() " +
+            "select sql:queryConcat(i == 0 ? `` : `, `, columns.get(orderBy[i]), sortDescending ? ` DESC` : ``));" +
+            System.lineSeparator() + "}";
+    public static final String READ_LIMIT = "if maxRows is int && maxRows >= 0 {" + System.lineSeparator() +
+            "query = sql:queryConcat(query, ` LIMIT ${maxRows}`);" + System.lineSeparator() +
+            "}";
+    public static final String READ_RUN_READ_QUERY = "return self.dbClient->query(query);";
+    public static final String COUNT = "count";
+    public static final String COUNT_QUERY = "sql:ParameterizedQuery query = `SELECT COUNT(*) FROM %s WHERE TRUE`;";
+    public static final String COUNT_RUN_QUERY = "int|sql:Error result = self.dbClient->queryRow(query);";
+    public static final String EXISTS = "exists";
+    public static final String EXISTS_QUERY = "int|sql:Error result = self.dbClient->queryRow(" +
+            "`SELECT EXISTS(SELECT 1 FROM %s WHERE %s LIMIT 1)`);";
+    public static final String RETURN_EXISTS = "return result == 1;";
+    public static final String PAGE = "page";
+    public static final String PAGE_SIZE = "pageSize";
+    public static final String CURSOR = "cursor";
+    public static final String OPTIONAL_STRING = "string? ";
+    public static final String PAGE_RETURN_TYPE = "record {|%s[] records; string? next;|}|persist:Error";
+    public static final String PAGE_INVALID_SIZE = "if pageSize < 1 {" + System.lineSeparator() +
+            "return <persist:Error>error(string `The page size should be a positive integer, found ${pageSize}.`);" +
+            System.lineSeparator() + "}";
+    public static final String PAGE_QUERY = "sql:ParameterizedQuery query = `SELECT %s FROM %s`;";
+    public static final String PAGE_AFTER_CURSOR = "if cursor is string {" + System.lineSeparator() +
+            "%s|error after = cursor.fromJsonStringWithType();" + System.lineSeparator() +
+            "if after is error {" + System.lineSeparator() +
+            "return <persist:Error>error(after.message());" + System.lineSeparator() +
+            "}" + System.lineSeparator() +
+            "query = sql:queryConcat(query, ` WHERE %s > %s`);" + System.lineSeparator() +
+            "}";
+    public static final String PAGE_AFTER_KEY = "${after}";
+    public static final String PAGE_AFTER_KEY_ELEMENT = "${after[%d]}";
+    public static final String PAGE_ORDER_BY = "query = sql:queryConcat(query, ` ORDER BY %s LIMIT ${pageSize}`);";
+    public static final String PAGE_ROWS = "stream<%s, sql:Error?> rows = self.dbClient->query(query);";
+    public static final String PAGE_RECORDS = "%1$s[]|sql:Error records = from %1$s item in rows select item;";
+    public static final String PAGE_RECORDS_VARIABLE = "records";
+    public static final String PAGE_LAST = "if records.length() < pageSize {" +
+            System.lineSeparator() + "return {records, next: ()};" + System.lineSeparator() + "}";
+    public static final String PAGE_LAST_RECORD = "%s last = records[records.length() - 1];";
+    public static final String PAGE_NEXT = "return {records, next: %s.toJsonString()};";
+    public static final String PAGE_LAST_KEY = "last.%s";
+    public static final String PROJECT = "project";
+    public static final String PROJECT_FIELDS_TYPE = "(%s)[] ";
+    public static final String PROJECT_RETURN_TYPE = "stream<record {}, sql:Error?>|persist:Error";
+    public static final String PROJECT_NO_FIELDS = "if fields.length() == 0 {" + System.lineSeparator() +
+            "return <persist:Error>error(\"At least one field should be selected.\");" + System.lineSeparator() + "}";
+    public static final String PROJECT_COLUMN = "\"%1$s\": `%1$s`";
+    public static final String PROJECT_COLUMNS = "map<sql:ParameterizedQuery> columns = {%s};";
+    public static final String PROJECT_SELECTED_COLUMNS = "sql:ParameterizedQuery[] selected = from int i in " +
+            "0 ..< fields.length() select i == 0 ? columns.get(fields[i]) : sql:queryConcat(`, `, " +
+            "columns.get(fields[i]));";
+    public static final String PROJECT_RUN_READ_QUERY = "return self.dbClient->query(sql:queryConcat(`SELECT `, " +
+            "sql:queryConcat(...selected), ` FROM %s`));";
+    public static final String FIELDS = "fields";
     public static final String UPDATE_RUN_UPDATE_QUERY = "_ = check self.persistClients.get(%s).runUpdateQuery" +
             "(%s, value);";
-    public static final String UPDATE_RETURN_UPDATE_QUERY = "return self->%s.get();";
+    public static final String UPDATE_RETURN_UPDATE_QUERY = "return self->/%s.get();";
     public static final String DELETE_RUN_DELETE_QUERY = "_ = check self.persistClients.get(%s)." +
             "runDeleteQuery(%s);";
     public static final String RETURN_DELETED_OBJECT = "return result;";
-    public static final String GET_OBJECT_QUERY = "%s result = check self->%s.get();";
-    public static final String INIT_STREAM_STATEMENT = "self.anydataStream = anydataStream;";
-    public static final String NEXT_STREAM_RETURN_TYPE = "record {|%s value;|}|persist:Error?";
-
-    public static final String NEXT_STREAM_IF_STATEMENT = "streamValue is ()";
-    public static final String NEXT_STREAM_ELSE_IF_STATEMENT = "(streamValue is sql:Error)";
-    public static final String NEXT_STREAM_RETURN_STREAM_VALUE = "return streamValue;";
-    public static final String NEXT_STREAM_RETURN_STREAM_VALUE_ERROR =
-            "return <persist:Error>error(streamValue.message());";
-    public static final String STREAM_VALUE =
-            "%s|error value = streamValue.value.cloneWithType(%s);";
-    public static final String NEXT_STREAM_ELSE_STATEMENT = "record {|%s value;|} nextRecord = {value: value};";
+    public static final String GET_OBJECT_QUERY = "%s result = check self->/%s.get();";
 
     public static final String CONFIGURABLE_PORT = "configurable int port = ?;";
     public static final String CONFIGURABLE_HOST = "configurable string host = ?;";
@@ -93,15 +190,16 @@ public class BalSyntaxConstants {
     public static final String DELETE = "delete";
     public static final String PUT = "put";
     public static final String CLOSE = "close";
-    public static final String NEXT = "next";
     public static final String INSERT_RECORD = "%sInsert";
     public static final String UPDATE_RECORD = "%sUpdate";
+    public static final String INSERT_TYPE_TEMPLATE = "public type %sInsert %s;";
     public static final String SPECIFIC_ERROR = "Error";
-    public static final String RETURN_NILL = "return ();";
     public static final String KEYWORD_BALLERINA = "ballerina";
+    public static final String IMPORT_TEMPLATE = "import %s/%s;";
+    public static final String RECORD_TYPE_START = "public type %s record {|";
+    public static final String RECORD_TYPE_FIELD = "    %s;";
+    public static final String RECORD_TYPE_END = "|};";
     public static final String KEYWORD_VALUE = "data";
-    public static final String KEYWORD_STREAM = "Stream";
-    public static final String KEYWORD_ERR = "err";
     public static final String KEYWORD_SQL = "sql";
     public static final String KEYWORD_PERSIST = "persist";
     public static final String KEYWORD_BALLERINAX = "ballerinax";
@@ -117,26 +215,21 @@ public class BalSyntaxConstants {
     public static final String CONSTANT_DECLARATION_TEMPLATE = "const %s = \"%s\";";
     public static final String JDBC_URL_WITHOUT_DATABASE = "jdbc:%s://%s:%s";
     public static final String JDBC_URL_WITH_DATABASE = "jdbc:%s://%s:%s/%s";
-    public static final String ANYDATA_STREAM_STATEMENT = "private stream<anydata, sql:Error?>? anydataStream;";
-    public static final String NULLABLE_ERROR_STATEMENT = "private persist:Error? err;";
-    public static final String SELF_ERR = "self.err = err;";
-
-    public static final String ANYDATA_KEYWORD = "anydataStream";
 
-    public static final String ERR_IS_ERROR = "self.err is persist:Error";
-    public static final String RETURN_CASTED_ERROR = "return <persist:Error>self.err;";
-    public static final String ANYDATASTREAM_IS_STREAM_TYPE = "self.anydataStream is stream<anydata, sql:Error?>";
-    public static final String CAST_ANYDATA_STREAM = "var anydataStream = <stream<anydata, " +
-            "sql:Error?>>self.anydataStream;";
-    public static final String ANYDATA_STREAM_NEXT = "var streamValue = anydataStream.next();";
-    public static final String RESULT_IS_ERROR = "result is persist:Error";
     public static final String RESULT_IS_BALLERINA_ERROR = "%s is error";
     public static final String RESULT = "result";
     public static final String DB_CLIENT = "dbClient";
     public static final String RETURN_ERROR = "return <persist:Error>error(%s.message());";
     public static final String RETURN_RESULT = "return result;";
     public static final String ADD_CLIENT = "self.dbClient = dbClient;";
-    public static final String NULLABLE_ANYDATA_STREAM_TYPE = "stream<anydata, sql:Error?>?";
+    public static final String ADD_BATCH_SIZE = "self.batchSize = batchSize;";
+    public static final String BATCH_SIZE = "batchSize";
+    public static final String DEFAULT_BATCH_SIZE = "1000";
+    public static final String INVALID_BATCH_SIZE = "if batchSize < 1 {" + System.lineSeparator() +
+            "return <persist:Error>error(string `The batch size should be a positive integer, found ${batchSize}.`);" +
+            System.lineSeparator() + "}";
+    public static final String INT = "int";
+    public static final String INSERT_DATA_TYPE = "%1$s[]|stream<%1$s, error?> ";
     public static final String AUTOGENERATED_FILE_COMMENT = "// AUTO-GENERATED FILE. DO NOT MODIFY.";
 
     public static final String AUTO_GENERATED_COMMENT =
@@ -152,6 +245,7 @@ public class BalSyntaxConstants {
     public static final String BAL_EXTENTION = ".bal";
     public static final String INIT_DB_CLIENT = "private final mysql:Client dbClient;";
     public static final String INIT_PERSIST_CLIENT_MAP = "private final map<persist:SQLClient> persistClients;";
+    public static final String INIT_BATCH_SIZE = "private final int batchSize;";
     public static final String METADATARECORD_ENTITY_NAME_TEMPLATE = "entityName: \"%s\", " + System.lineSeparator();
     public static final String METADATARECORD_TABLE_NAME_TEMPLATE = "tableName: `%s`, " + System.lineSeparator();
     public static final String METADATARECORD_FIELD_TEMPLATE = "%s: {columnName: \"%s\", 'type: %s}";
@@ -165,7 +259,6 @@ public class BalSyntaxConstants {
     public static final String PERSIST_CLIENT_MAP_ELEMENT = "%s: check new (self.dbClient, self.metadata.get(%s))";
     public static final String PERSIST_CLIENT_TEMPLATE = "self.persistClients = {%s};";
     public static final String PERSIST_CLIENT_CLOSE_STATEMENT = "error? result = self.dbClient.close();";
-    public static final String CLOSE_ENTITY_STREAM = "check persist:closeEntityStream(self.anydataStream);";
     public static final String PLACEHOLDER_FOR_MAP_FIELD = "%s:%s";
     public static final String PLACEHOLDER_FOR_TYPE_DEFINITION = "%s %s";
     public static final String REGEX_FOR_SPLIT_BY_CAPITOL_LETTER = "(?=\\p{Upper})";
@@ -173,6 +266,8 @@ public class BalSyntaxConstants {
     public static final String CLOSE_BRACE = "}";
     public static final String OPEN_BRACKET = "[";
     public static final String CLOSE_BRACKET = "]";
+    public static final String OPEN_PARENTHESIS = "(";
+    public static final String CLOSE_PARENTHESIS = ")";
     public static final String COMMA_WITH_NEWLINE = "," + System.lineSeparator();
 
 }
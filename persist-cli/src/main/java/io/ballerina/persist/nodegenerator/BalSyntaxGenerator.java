@@ -22,6 +22,7 @@ import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.ArrayDimensionNode;
 import io.ballerina.compiler.syntax.tree.ArrayTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ImportOrgNameNode;
@@ -40,6 +41,7 @@ import io.ballerina.compiler.syntax.tree.RecordFieldWithDefaultValueNode;
 import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
@@ -63,26 +65,21 @@ import org.ballerinalang.formatter.core.FormatterException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.QUALIFIED_NAME_REFERENCE;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.ANYDATASTREAM_IS_STREAM_TYPE;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.ANYDATA_KEYWORD;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.ANYDATA_STREAM_NEXT;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.ANYDATA_STREAM_STATEMENT;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.AUTOGENERATED_FILE_COMMENT;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.AUTO_GENERATED_COMMENT;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.AUTO_GENERATED_COMMENT_WITH_REASON;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.BACK_SLASH;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.CAST_ANYDATA_STREAM;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.CLOSE_BRACE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.CLOSE_BRACKET;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.CLOSE_ENTITY_STREAM;
+import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.CLOSE_PARENTHESIS;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.COLON;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.COMMA_SPACE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.COMMA_WITH_NEWLINE;
@@ -92,19 +89,17 @@ import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.DB_CLIENT;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.DOUBLE_QUOTE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.EMPTY_STRING;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.ERROR;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.ERR_IS_ERROR;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.FIELD_METADATA_TEMPLATE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.INIT_DBCLIENT;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.INIT_DB_CLIENT;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.INIT_PERSIST_CLIENT_MAP;
+import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.INSERT_TYPE_TEMPLATE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.INSERT_RECORD;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.KEYWORD_BALLERINA;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.KEYWORD_BALLERINAX;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.KEYWORD_ERR;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.KEYWORD_ISOLATED;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.KEYWORD_PERSIST;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.KEYWORD_SQL;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.KEYWORD_STREAM;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.KEYWORD_VALUE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.METADATARECORD_ELEMENT_TEMPLATE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.METADATARECORD_ENTITY_NAME_TEMPLATE;
@@ -113,10 +108,9 @@ import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.METADATARECO
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.METADATARECORD_TABLE_NAME_TEMPLATE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.METADATARECORD_TEMPLATE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.MYSQL_DRIVER;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.NULLABLE_ANYDATA_STREAM_TYPE;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.NULLABLE_ERROR_STATEMENT;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.OPEN_BRACE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.OPEN_BRACKET;
+import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.OPEN_PARENTHESIS;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.PERSIST_CLIENT_CLOSE_STATEMENT;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.PERSIST_CLIENT_MAP_ELEMENT;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.PERSIST_CLIENT_TEMPLATE;
@@ -127,15 +121,8 @@ import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.READ_BY_KEY_
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.REGEX_FOR_SPLIT_BY_CAPITOL_LETTER;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.RESULT;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.RESULT_IS_BALLERINA_ERROR;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.RESULT_IS_ERROR;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.RETURN_CASTED_ERROR;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.RETURN_NILL;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.SELECT_WITH_SPACE;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.SELF_ERR;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.SEMICOLON;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.SPACE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.SPECIFIC_ERROR;
-import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.STREAM_VALUE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.UNDERSCORE;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.UPDATE_RECORD;
 import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.VALUE;
@@ -148,6 +135,151 @@ import static io.ballerina.persist.nodegenerator.SyntaxTokenConstants.SYNTAX_TRE
  */
 public class BalSyntaxGenerator {
 
+    // Templates of the generated statements are parsed once and reused for all the entities.
+    private static final NodeTemplate<ModuleMemberDeclarationNode> ENTITY_NAME_CONSTANT =
+            NodeTemplate.moduleMember(CONSTANT_DECLARATION_TEMPLATE, 2);
+    private static final NodeTemplate<ModuleMemberDeclarationNode> INSERT_TYPE_DEFINITION =
+            NodeTemplate.moduleMember(INSERT_TYPE_TEMPLATE, 2);
+    private static final NodeTemplate<ModuleMemberDeclarationNode> CONFIGURABLE_PORT_DECLARATION =
+            NodeTemplate.moduleMember(BalSyntaxConstants.CONFIGURABLE_PORT, 0);
+    private static final NodeTemplate<ModuleMemberDeclarationNode> CONFIGURABLE_HOST_DECLARATION =
+            NodeTemplate.moduleMember(BalSyntaxConstants.CONFIGURABLE_HOST, 0);
+    private static final NodeTemplate<ModuleMemberDeclarationNode> CONFIGURABLE_USER_DECLARATION =
+            NodeTemplate.moduleMember(BalSyntaxConstants.CONFIGURABLE_USER, 0);
+    private static final NodeTemplate<ModuleMemberDeclarationNode> CONFIGURABLE_DATABASE_DECLARATION =
+            NodeTemplate.moduleMember(BalSyntaxConstants.CONFIGURABLE_DATABASE, 0);
+    private static final NodeTemplate<ModuleMemberDeclarationNode> CONFIGURABLE_PASSWORD_DECLARATION =
+            NodeTemplate.moduleMember(BalSyntaxConstants.CONFIGURABLE_PASSWORD, 0);
+    private static final NodeTemplate<Node> DB_CLIENT_FIELD = NodeTemplate.objectMember(INIT_DB_CLIENT, 0);
+    private static final NodeTemplate<Node> PERSIST_CLIENTS_FIELD =
+            NodeTemplate.objectMember(INIT_PERSIST_CLIENT_MAP, 0);
+    private static final NodeTemplate<Node> BATCH_SIZE_FIELD =
+            NodeTemplate.objectMember(BalSyntaxConstants.INIT_BATCH_SIZE, 0);
+    private static final NodeTemplate<ExpressionNode> IS_ERROR_CONDITION =
+            NodeTemplate.expression(RESULT_IS_BALLERINA_ERROR, 1);
+    private static final NodeTemplate<ExpressionNode> NO_ROWS_CONDITION =
+            NodeTemplate.expression(BalSyntaxConstants.RESULT_IS_NO_ROWS_ERROR, 1);
+    private static final NodeTemplate<StatementNode> RETURN_ERROR_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.RETURN_ERROR, 1);
+    private static final NodeTemplate<StatementNode> INIT_DB_CLIENT_STATEMENT =
+            NodeTemplate.statement(INIT_DBCLIENT, 0);
+    private static final NodeTemplate<StatementNode> ADD_CLIENT_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.ADD_CLIENT, 0);
+    private static final NodeTemplate<StatementNode> ADD_BATCH_SIZE_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.ADD_BATCH_SIZE, 0);
+    private static final NodeTemplate<StatementNode> CLOSE_DB_CLIENT_STATEMENT =
+            NodeTemplate.statement(PERSIST_CLIENT_CLOSE_STATEMENT, 0);
+    private static final NodeTemplate<StatementNode> RETURN_RESULT_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.RETURN_RESULT, 0);
+    private static final NodeTemplate<TypeDescriptorNode> INSERT_DATA_TYPE =
+            NodeTemplate.typeDescriptor(BalSyntaxConstants.INSERT_DATA_TYPE, 1);
+    private static final NodeTemplate<TypeDescriptorNode> ON_BATCH_TYPE =
+            NodeTemplate.typeDescriptor(BalSyntaxConstants.ON_BATCH_TYPE, 1);
+    private static final NodeTemplate<ExpressionNode> NIL_EXPRESSION =
+            NodeTemplate.expression(BalSyntaxConstants.NIL, 0);
+    private static final NodeTemplate<StatementNode> INSERT_ROWS_STREAM_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.INSERT_ROWS_STREAM, 1);
+    private static final NodeTemplate<StatementNode> INSERT_KEYS_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.INSERT_KEYS, 1);
+    private static final NodeTemplate<StatementNode> INSERT_BATCH_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.INSERT_BATCH, 1);
+    private static final NodeTemplate<StatementNode> INSERT_NEXT_ROW_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.INSERT_NEXT_ROW, 1);
+    // The post batches take the insert type, the entity name constant, the key type and the key selection.
+    private static final NodeTemplate<StatementNode> INSERT_BATCHES_STATEMENT =
+            NodeTemplate.statement(String.format(BalSyntaxConstants.INSERT_BATCHES, "%1$s",
+                    BalSyntaxConstants.INSERT_BATCH_PUSH, BalSyntaxConstants.BATCH,
+                    BalSyntaxConstants.INSERT_BATCH_QUERY), 4);
+    private static final NodeTemplate<StatementNode> INSERT_LAST_BATCH_STATEMENT =
+            NodeTemplate.statement(String.format(BalSyntaxConstants.INSERT_LAST_BATCH, BalSyntaxConstants.BATCH,
+                    BalSyntaxConstants.INSERT_BATCH_QUERY), 4);
+    private static final NodeTemplate<StatementNode> UPSERT_VALUES_DECLARATION_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.UPSERT_VALUES_DECLARATION, 0);
+    // The upsert batches take the insert type, the row values, the entity name, the columns and the updated columns.
+    private static final NodeTemplate<StatementNode> UPSERT_BATCHES_STATEMENT =
+            NodeTemplate.statement(String.format(BalSyntaxConstants.INSERT_BATCHES, "%1$s",
+                    BalSyntaxConstants.UPSERT_VALUES_PUSH, BalSyntaxConstants.UPSERT_VALUES,
+                    BalSyntaxConstants.UPSERT_BATCH_QUERY), 5);
+    private static final NodeTemplate<StatementNode> UPSERT_LAST_BATCH_STATEMENT =
+            NodeTemplate.statement(String.format(BalSyntaxConstants.INSERT_LAST_BATCH, BalSyntaxConstants.UPSERT_VALUES,
+                    BalSyntaxConstants.UPSERT_BATCH_QUERY), 5);
+    private static final NodeTemplate<TypeDescriptorNode> PROJECT_FIELDS_TYPE =
+            NodeTemplate.typeDescriptor(BalSyntaxConstants.PROJECT_FIELDS_TYPE, 1);
+    private static final NodeTemplate<TypeDescriptorNode> PROJECT_RETURN_TYPE =
+            NodeTemplate.typeDescriptor(BalSyntaxConstants.PROJECT_RETURN_TYPE, 0);
+    private static final NodeTemplate<StatementNode> PROJECT_NO_FIELDS_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.PROJECT_NO_FIELDS, 0);
+    private static final NodeTemplate<StatementNode> PROJECT_COLUMNS_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.PROJECT_COLUMNS, 1);
+    private static final NodeTemplate<StatementNode> PROJECT_SELECTED_COLUMNS_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.PROJECT_SELECTED_COLUMNS, 0);
+    private static final NodeTemplate<StatementNode> PROJECT_RUN_READ_QUERY_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.PROJECT_RUN_READ_QUERY, 1);
+    private static final NodeTemplate<TypeDescriptorNode> OPTIONAL_INT_TYPE =
+            NodeTemplate.typeDescriptor(BalSyntaxConstants.OPTIONAL_INT, 0);
+    private static final NodeTemplate<ExpressionNode> EMPTY_MAPPING_EXPRESSION =
+            NodeTemplate.expression(BalSyntaxConstants.EMPTY_MAPPING, 0);
+    private static final NodeTemplate<ExpressionNode> EMPTY_LIST_EXPRESSION =
+            NodeTemplate.expression(BalSyntaxConstants.EMPTY_LIST, 0);
+    private static final NodeTemplate<ExpressionNode> FALSE_EXPRESSION =
+            NodeTemplate.expression(BalSyntaxConstants.FALSE, 0);
+    private static final NodeTemplate<StatementNode> READ_QUERY_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.READ_QUERY, 2);
+    private static final NodeTemplate<StatementNode> READ_FILTER_CONDITION_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.READ_FILTER_CONDITION, 2);
+    private static final NodeTemplate<StatementNode> READ_ORDER_BY_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.READ_ORDER_BY, 1);
+    private static final NodeTemplate<StatementNode> READ_LIMIT_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.READ_LIMIT, 0);
+    private static final NodeTemplate<StatementNode> READ_RUN_READ_QUERY_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.READ_RUN_READ_QUERY, 0);
+    private static final NodeTemplate<StatementNode> COUNT_QUERY_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.COUNT_QUERY, 1);
+    private static final NodeTemplate<StatementNode> COUNT_RUN_QUERY_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.COUNT_RUN_QUERY, 0);
+    private static final NodeTemplate<StatementNode> EXISTS_QUERY_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.EXISTS_QUERY, 2);
+    private static final NodeTemplate<StatementNode> RETURN_EXISTS_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.RETURN_EXISTS, 0);
+    private static final NodeTemplate<TypeDescriptorNode> OPTIONAL_STRING_TYPE =
+            NodeTemplate.typeDescriptor(BalSyntaxConstants.OPTIONAL_STRING, 0);
+    private static final NodeTemplate<TypeDescriptorNode> PAGE_RETURN_TYPE =
+            NodeTemplate.typeDescriptor(BalSyntaxConstants.PAGE_RETURN_TYPE, 1);
+    private static final NodeTemplate<StatementNode> PAGE_INVALID_SIZE_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.PAGE_INVALID_SIZE, 0);
+    private static final NodeTemplate<StatementNode> PAGE_QUERY_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.PAGE_QUERY, 2);
+    private static final NodeTemplate<StatementNode> PAGE_AFTER_CURSOR_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.PAGE_AFTER_CURSOR, 3);
+    private static final NodeTemplate<StatementNode> PAGE_ORDER_BY_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.PAGE_ORDER_BY, 1);
+    private static final NodeTemplate<StatementNode> PAGE_ROWS_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.PAGE_ROWS, 1);
+    private static final NodeTemplate<StatementNode> PAGE_RECORDS_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.PAGE_RECORDS, 1);
+    private static final NodeTemplate<StatementNode> PAGE_LAST_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.PAGE_LAST, 0);
+    private static final NodeTemplate<StatementNode> PAGE_LAST_RECORD_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.PAGE_LAST_RECORD, 1);
+    private static final NodeTemplate<StatementNode> PAGE_NEXT_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.PAGE_NEXT, 1);
+    private static final NodeTemplate<StatementNode> READ_BY_KEY_STATEMENT =
+            NodeTemplate.statement(READ_BY_KEY_RETURN, 4);
+    private static final NodeTemplate<StatementNode> RETURN_INVALID_KEY_ERROR_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.RETURN_INVALID_KEY_ERROR, 2);
+    private static final NodeTemplate<StatementNode> RETURN_KEYS_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.RETURN_KEYS, 0);
+    private static final NodeTemplate<StatementNode> UPDATE_QUERY_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.UPDATE_RUN_UPDATE_QUERY, 2);
+    private static final NodeTemplate<StatementNode> DELETE_QUERY_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.DELETE_RUN_DELETE_QUERY, 2);
+    private static final NodeTemplate<StatementNode> RETURN_DELETED_OBJECT_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.RETURN_DELETED_OBJECT, 0);
+    private static final NodeTemplate<StatementNode> RETURN_UPDATED_OBJECT_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.UPDATE_RETURN_UPDATE_QUERY, 1);
+    private static final NodeTemplate<StatementNode> GET_OBJECT_STATEMENT =
+            NodeTemplate.statement(BalSyntaxConstants.GET_OBJECT_QUERY, 2);
+
     private BalSyntaxGenerator() {
     }
 
@@ -262,116 +394,148 @@ public class BalSyntaxGenerator {
         }
     }
 
+    /**
+     * Infers the relations between the entities. The fields of each entity are indexed by their type and the key
+     * columns of each entity are computed once, so that the inference is linear in the size of the model.
+     */
     public static void inferRelationDetails(Module entityModule) {
         Map<String, Entity> entityMap = entityModule.getEntityMap();
+        Map<String, EntityIndex> entityIndexes = new HashMap<>();
+        for (Map.Entry<String, Entity> entity : entityMap.entrySet()) {
+            entityIndexes.put(entity.getKey(), new EntityIndex(entity.getValue()));
+        }
         for (Entity entity : entityMap.values()) {
-            List<EntityField> fields = entity.getFields();
-            fields.stream().filter(field -> entityMap.get(field.getFieldType()) != null)
-                    .forEach(field -> {
-                        String fieldType = field.getFieldType();
-                        Entity assocEntity = entityMap.get(fieldType);
-                        if (field.getRelation() == null) {
-                            // this branch only handles one-to-many or many-to-many with no relation annotations
-                            assocEntity.getFields().stream().filter(assocfield -> assocfield.getFieldType()
-                                            .equals(entity.getEntityName()))
-                                    .filter(assocfield -> assocfield.getRelation() == null).forEach(assocfield -> {
-                                        // one-to-many or many-to-many with no relation annotations
-                                        if (field.isArrayType() && assocfield.isArrayType()) {
-                                            throw new RuntimeException("Unsupported many to many relation between " +
-                                                    entity.getEntityName() + " and " + assocEntity.getEntityName());
-                                        }
-                                        if (field.isArrayType() || field.isOptionalType()) {
-                                            // one-to-many relation. associated entity is the owner.
-                                            field.setRelation(computeRelation(entity, assocEntity, false));
-                                            assocfield.setRelation(computeRelation(assocEntity, entity, true));
-                                        } else {
-                                            // one-to-many relation. entity is the owner.
-                                            // one-to-one relation. entity is the owner.
-                                            field.setRelation(computeRelation(entity, assocEntity, true));
-                                            assocfield.setRelation(computeRelation(assocEntity, entity, false));
-                                        }
-                                    });
-                        } else if (field.getRelation() != null && field.getRelation().isOwner()) {
-                            field.getRelation().setRelationType(field.isArrayType() ?
-                                    Relation.RelationType.MANY : Relation.RelationType.ONE);
-                            field.getRelation().setAssocEntity(assocEntity);
-                            List<Relation.Key> keyColumns = field.getRelation().getKeyColumns();
-                            if (keyColumns == null || keyColumns.size() == 0) {
-                                keyColumns = assocEntity.getKeys().stream().map(key ->
-                                        new Relation.Key(assocEntity.getEntityName().toLowerCase(Locale.ENGLISH)
-                                                + stripEscapeCharacter(key.getFieldName()).substring(0, 1)
-                                                .toUpperCase(Locale.ENGLISH)
-                                                + stripEscapeCharacter(key.getFieldName()).substring(1),
-                                                key.getFieldName(), key.getFieldType())).collect(Collectors.toList());
-                                field.getRelation().setKeyColumns(keyColumns);
-                            }
-                            List<String> references = field.getRelation().getReferences();
-                            if (references == null || references.size() == 0) {
-                                field.getRelation().setReferences(assocEntity.getKeys().stream()
-                                        .map(EntityField::getFieldName)
-                                        .collect(Collectors.toList()));
-                            }
-
-                            // create bidirectional mapping for associated entity
-                            Relation.Builder assocRelBuilder = Relation.newBuilder();
-                            assocRelBuilder.setOwner(false);
-                            assocRelBuilder.setAssocEntity(entity);
-
-                            List<Relation.Key> assockeyColumns = assocEntity.getKeys().stream().map(key ->
-                                    new Relation.Key(key.getFieldName(),
-                                            assocEntity.getEntityName().toLowerCase(Locale.ENGLISH)
-                                                    + stripEscapeCharacter(key.getFieldName()).substring(0, 1)
-                                                    .toUpperCase(Locale.ENGLISH)
-                                                    + stripEscapeCharacter(key.getFieldName()).substring(1),
-                                            key.getFieldType()))
-                                    .collect(Collectors.toList());
-                            assocRelBuilder.setKeys(assockeyColumns);
-                            assocRelBuilder.setReferences(assockeyColumns.stream().map(Relation.Key::getReference)
-                                    .collect(Collectors.toList()));
-                            assocEntity.getFields().stream().filter(assocfield -> assocfield.getFieldType()
-                                    .equals(entity.getEntityName())).forEach(
-                                    assocField -> {
-                                        assocRelBuilder.setRelationType(assocField.isArrayType() ?
-                                                Relation.RelationType.MANY : Relation.RelationType.ONE);
-                                        assocField.setRelation(assocRelBuilder.build());
-                                    });
+            EntityIndex entityIndex = entityIndexes.get(entity.getEntityName());
+            for (EntityField field : entity.getFields()) {
+                Entity assocEntity = entityMap.get(field.getFieldType());
+                if (assocEntity == null) {
+                    continue;
+                }
+                EntityIndex assocIndex = entityIndexes.get(field.getFieldType());
+                List<EntityField> backReferences = assocIndex.getFieldsOfType(entity.getEntityName());
+                if (field.getRelation() == null) {
+                    // this branch only handles one-to-many or many-to-many with no relation annotations
+                    for (EntityField assocfield : backReferences) {
+                        if (assocfield.getRelation() != null) {
+                            continue;
                         }
-                    });
+                        // one-to-many or many-to-many with no relation annotations
+                        if (field.isArrayType() && assocfield.isArrayType()) {
+                            throw new RuntimeException("Unsupported many to many relation between " +
+                                    entity.getEntityName() + " and " + assocEntity.getEntityName());
+                        }
+                        if (field.isArrayType() || field.isOptionalType()) {
+                            // one-to-many relation. associated entity is the owner.
+                            field.setRelation(computeRelation(entityIndex, assocIndex, false));
+                            assocfield.setRelation(computeRelation(assocIndex, entityIndex, true));
+                        } else {
+                            // one-to-many relation. entity is the owner.
+                            // one-to-one relation. entity is the owner.
+                            field.setRelation(computeRelation(entityIndex, assocIndex, true));
+                            assocfield.setRelation(computeRelation(assocIndex, entityIndex, false));
+                        }
+                    }
+                } else if (field.getRelation().isOwner()) {
+                    field.getRelation().setRelationType(field.isArrayType() ?
+                            Relation.RelationType.MANY : Relation.RelationType.ONE);
+                    field.getRelation().setAssocEntity(assocEntity);
+                    List<Relation.Key> keyColumns = field.getRelation().getKeyColumns();
+                    if (keyColumns == null || keyColumns.size() == 0) {
+                        field.getRelation().setKeyColumns(assocIndex.foreignKeyColumns);
+                    }
+                    List<String> references = field.getRelation().getReferences();
+                    if (references == null || references.size() == 0) {
+                        field.getRelation().setReferences(assocIndex.keyNames);
+                    }
+
+                    // create bidirectional mapping for associated entity
+                    Relation.Builder assocRelBuilder = Relation.newBuilder();
+                    assocRelBuilder.setOwner(false);
+                    assocRelBuilder.setAssocEntity(entity);
+                    assocRelBuilder.setKeys(assocIndex.referencedKeyColumns);
+                    assocRelBuilder.setReferences(assocIndex.referencedKeyReferences);
+                    for (EntityField assocField : backReferences) {
+                        assocRelBuilder.setRelationType(assocField.isArrayType() ?
+                                Relation.RelationType.MANY : Relation.RelationType.ONE);
+                        assocField.setRelation(assocRelBuilder.build());
+                    }
+                }
+            }
         }
     }
 
-    private static Relation computeRelation(Entity entity, Entity assocEntity, boolean isOwner) {
+    private static Relation computeRelation(EntityIndex entityIndex, EntityIndex assocIndex, boolean isOwner) {
         Relation.Builder relBuilder = new Relation.Builder();
-        relBuilder.setAssocEntity(assocEntity);
+        relBuilder.setAssocEntity(assocIndex.entity);
         if (isOwner) {
-            List<Relation.Key> keyColumns = assocEntity.getKeys().stream().map(key ->
-                    new Relation.Key(assocEntity.getEntityName().toLowerCase(Locale.ENGLISH)
-                            + stripEscapeCharacter(key.getFieldName()).substring(0, 1).toUpperCase(Locale.ENGLISH)
-                            + stripEscapeCharacter(key.getFieldName()).substring(1), key.getFieldName(),
-                            key.getFieldType())).collect(Collectors.toList());
             relBuilder.setOwner(true);
             relBuilder.setRelationType(Relation.RelationType.ONE);
-            relBuilder.setKeys(keyColumns);
-            relBuilder.setReferences(assocEntity.getKeys().stream().map(EntityField::getFieldName)
-                    .collect(Collectors.toList()));
+            relBuilder.setKeys(assocIndex.foreignKeyColumns);
+            relBuilder.setReferences(assocIndex.keyNames);
         } else {
-            List<Relation.Key> keyColumns = entity.getKeys().stream().map(key ->
-                    new Relation.Key(key.getFieldName(),
-                            entity.getEntityName().toLowerCase(Locale.ENGLISH)
-                            + stripEscapeCharacter(key.getFieldName()).substring(0, 1).toUpperCase(Locale.ENGLISH)
-                            + stripEscapeCharacter(key.getFieldName()).substring(1), key.getFieldType()))
-                    .collect(Collectors.toList());
             relBuilder.setOwner(false);
             relBuilder.setRelationType(Relation.RelationType.MANY);
-            relBuilder.setKeys(keyColumns);
-            relBuilder.setReferences(keyColumns.stream().map(Relation.Key::getReference).collect(Collectors.toList()));
+            relBuilder.setKeys(entityIndex.referencedKeyColumns);
+            relBuilder.setReferences(entityIndex.referencedKeyReferences);
         }
         return relBuilder.build();
     }
 
+    /**
+     * Fields of an entity indexed by their type, along with the key columns used by the relations to the entity.
+     * The key column lists are immutable, hence they are shared by all the relations to the entity.
+     */
+    private static class EntityIndex {
+
+        private final Entity entity;
+        private final Map<String, List<EntityField>> fieldsByType = new HashMap<>();
+        // Key columns of the owner of a relation, which refer to the keys of this entity.
+        private final List<Relation.Key> foreignKeyColumns;
+        private final List<String> keyNames;
+        // Key columns of this entity, referred by the owner of a relation.
+        private final List<Relation.Key> referencedKeyColumns;
+        private final List<String> referencedKeyReferences;
+
+        EntityIndex(Entity entity) {
+            this.entity = entity;
+            for (EntityField field : entity.getFields()) {
+                fieldsByType.computeIfAbsent(field.getFieldType(), type -> new ArrayList<>()).add(field);
+            }
+            List<Relation.Key> foreignKeys = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            List<Relation.Key> referencedKeys = new ArrayList<>();
+            List<String> references = new ArrayList<>();
+            String entityPrefix = entity.getEntityName().toLowerCase(Locale.ENGLISH);
+            for (EntityField key : entity.getKeys()) {
+                String keyName = stripEscapeCharacter(key.getFieldName());
+                String foreignKeyName = entityPrefix + keyName.substring(0, 1).toUpperCase(Locale.ENGLISH) +
+                        keyName.substring(1);
+                foreignKeys.add(new Relation.Key(foreignKeyName, key.getFieldName(), key.getFieldType()));
+                names.add(key.getFieldName());
+                referencedKeys.add(new Relation.Key(key.getFieldName(), foreignKeyName, key.getFieldType()));
+                references.add(foreignKeyName);
+            }
+            this.foreignKeyColumns = Collections.unmodifiableList(foreignKeys);
+            this.keyNames = Collections.unmodifiableList(names);
+            this.referencedKeyColumns = Collections.unmodifiableList(referencedKeys);
+            this.referencedKeyReferences = Collections.unmodifiableList(references);
+        }
 
+        List<EntityField> getFieldsOfType(String type) {
+            return fieldsByType.getOrDefault(type, Collections.emptyList());
+        }
+    }
 
     public static SyntaxTree generateClientSyntaxTree(Module entityModule) throws BalException {
+        return generateClientSyntaxTree(entityModule, false);
+    }
+
+    /**
+     * Method to generate the client syntax tree. In the per entity layout, the entity name constants are generated
+     * in the entity source files, so that only the client object remains here.
+     */
+    public static SyntaxTree generateClientSyntaxTree(Module entityModule, boolean perEntityLayout)
+            throws BalException {
         Set<String> importsArray = entityModule.getImportModulePrefixes();
         NodeList<ImportDeclarationNode> imports = AbstractNodeFactory.createEmptyNodeList();
         NodeList<ModuleMemberDeclarationNode> moduleMembers = AbstractNodeFactory.createEmptyNodeList();
@@ -389,20 +553,16 @@ public class BalSyntaxGenerator {
         imports = imports.add(getImportDeclarationNode(BalSyntaxConstants.KEYWORD_BALLERINAX,
                 BalSyntaxConstants.KEYWORD_MYSQL, null));
 
-        for (Entity entity : entityModule.getEntityMap().values()) {
-            moduleMembers = moduleMembers.add(NodeParser.parseModuleMemberDeclaration(String.format(
-                    CONSTANT_DECLARATION_TEMPLATE, getEntityNameConstant(entity.getEntityName()),
-                    entity.getResourceName())));
+        if (!perEntityLayout) {
+            for (Entity entity : entityModule.getEntityMap().values()) {
+                moduleMembers = moduleMembers.add(ENTITY_NAME_CONSTANT.apply(
+                        getEntityNameConstant(entity.getEntityName()), entity.getResourceName()));
+            }
         }
 
         Client clientObject = createClient(entityModule);
         moduleMembers = moduleMembers.add(clientObject.getClassDefinitionNode());
 
-        for (Entity entity : entityModule.getEntityMap().values()) {
-            Client clientStream = createClientStreamClass(entity, entity.getEntityName());
-            moduleMembers = moduleMembers.add(clientStream.getClassDefinitionNode());
-        }
-
         Token eofToken = AbstractNodeFactory.createIdentifierToken(EMPTY_STRING);
         ModulePartNode modulePartNode = NodeFactory.createModulePartNode(imports, moduleMembers, eofToken);
         TextDocument textDocument = TextDocuments.from(EMPTY_STRING);
@@ -423,9 +583,9 @@ public class BalSyntaxGenerator {
                                 BalSyntaxConstants.InheritedTypeReferenceConstants.ABSTRACT_PERSIST_CLIENT)
                 ),
                 AbstractNodeFactory.createToken(SyntaxKind.SEMICOLON_TOKEN)), false);
-        clientObject.addMember(NodeParser.parseObjectMember(INIT_DB_CLIENT), true);
-        clientObject.addMember(NodeParser.parseObjectMember(INIT_PERSIST_CLIENT_MAP)
-                , true);
+        clientObject.addMember(DB_CLIENT_FIELD.apply(), true);
+        clientObject.addMember(PERSIST_CLIENTS_FIELD.apply(), true);
+        clientObject.addMember(BATCH_SIZE_FIELD.apply(), true);
         clientObject.addMember(generateMetadataRecord(entityModule), true);
 
         Collection<Entity> entityArray = entityModule.getEntityMap().values();
@@ -479,7 +639,7 @@ public class BalSyntaxGenerator {
                     }
                     fieldMetaData.append(String.format(METADATARECORD_FIELD_TEMPLATE,
                             field.getFieldName(), stripEscapeCharacter(field.getFieldName()),
-                            field.getFieldType()));
+                            getFieldTypeName(field)));
                 }
             }
             entityMetaData.append(String.format(FIELD_METADATA_TEMPLATE, fieldMetaData));
@@ -507,98 +667,56 @@ public class BalSyntaxGenerator {
             keys.put(field.getFieldName(), field.getFieldType());
         }
 
-        Function read = createGetFunction(entity);
+        RecordTypeDescriptorNode filterType = createFilterType(entity);
+        List<StatementNode> filterConditions = createFilterConditions(entity);
+
+        Function read = createGetFunction(entity, filterType, filterConditions);
         resource.addFunction(read.getFunctionDefinitionNode(), true);
 
+        Function project = createProjectFunction(entity);
+        resource.addFunction(project.getFunctionDefinitionNode(), true);
+
+        Function page = createPageFunction(entity);
+        resource.addFunction(page.getFunctionDefinitionNode(), true);
+
+        Function count = createCountFunction(entity, filterType, filterConditions);
+        resource.addFunction(count.getFunctionDefinitionNode(), true);
+
         Function readByKey = createGetByKeyFunction(entity, keys);
         resource.addFunction(readByKey.getFunctionDefinitionNode(), true);
 
+        Function exists = createExistsFunction(entity, keys);
+        resource.addFunction(exists.getFunctionDefinitionNode(), true);
+
         Function create = createPostFunction(entity);
         resource.addFunction(create.getFunctionDefinitionNode(), true);
 
         Function update = createPutFunction(entity, keys);
         resource.addFunction(update.getFunctionDefinitionNode(), true);
 
+        Function upsert = createUpsertFunction(entity);
+        resource.addFunction(upsert.getFunctionDefinitionNode(), true);
+
         Function delete = createDeleteFunction(entity, keys);
         resource.addFunction(delete.getFunctionDefinitionNode(), true);
 
         return resource;
     }
 
-    private static Client createClientStreamClass(Entity entity, String className) {
-        Client clientStream = new Client(className + KEYWORD_STREAM, true);
-
-        clientStream.addMember(NodeFactory.createBasicLiteralNode(SyntaxKind.STRING_LITERAL,
-                AbstractNodeFactory.createLiteralValueToken(SyntaxKind.STRING_LITERAL, SPACE,
-                        NodeFactory.createEmptyMinutiaeList(), NodeFactory.createEmptyMinutiaeList())), true);
-
-        clientStream.addMember(NodeParser.parseStatement(ANYDATA_STREAM_STATEMENT), false);
-        clientStream.addMember(NodeParser.parseStatement(NULLABLE_ERROR_STATEMENT), false);
-
-        Function initStream = new Function(BalSyntaxConstants.INIT, SyntaxKind.OBJECT_METHOD_DEFINITION);
-        initStream.addQualifiers(new String[]{BalSyntaxConstants.KEYWORD_PUBLIC, KEYWORD_ISOLATED});
-        initStream.addStatement(NodeParser.parseStatement(BalSyntaxConstants.INIT_STREAM_STATEMENT));
-        initStream.addStatement(NodeParser.parseStatement(SELF_ERR));
-        initStream.addRequiredParameter(NodeParser.parseTypeDescriptor(NULLABLE_ANYDATA_STREAM_TYPE), ANYDATA_KEYWORD);
-        initStream.addRequiredParameterWithDefault(TypeDescriptor.getOptionalTypeDescriptorNode(EMPTY_STRING,
-                PERSIST_ERROR), KEYWORD_ERR, Function.Bracket.PAREN);
-        clientStream.addMember(initStream.getFunctionDefinitionNode(), true);
-
-        Function nextStream = new Function(BalSyntaxConstants.NEXT, SyntaxKind.OBJECT_METHOD_DEFINITION);
-        nextStream.addQualifiers(new String[]{BalSyntaxConstants.KEYWORD_PUBLIC, KEYWORD_ISOLATED});
-        nextStream.addReturns(NodeParser.parseTypeDescriptor(String.format(
-                BalSyntaxConstants.NEXT_STREAM_RETURN_TYPE, entity.getEntityName())));
-
-        IfElse errorCheck = new IfElse(NodeParser.parseExpression(ERR_IS_ERROR));
-        errorCheck.addIfStatement(NodeParser.parseStatement(RETURN_CASTED_ERROR));
-        IfElse streamCheck = new IfElse(NodeParser.parseExpression(ANYDATASTREAM_IS_STREAM_TYPE));
-
-        streamCheck.addIfStatement(NodeParser.parseStatement(CAST_ANYDATA_STREAM));
-        streamCheck.addIfStatement(NodeParser.parseStatement(ANYDATA_STREAM_NEXT));
-
-        IfElse streamValueNilCheck = new IfElse(NodeParser.parseExpression(
-                BalSyntaxConstants.NEXT_STREAM_IF_STATEMENT));
-        streamValueNilCheck.addIfStatement(NodeParser.parseStatement(
-                BalSyntaxConstants.NEXT_STREAM_RETURN_STREAM_VALUE));
-        IfElse streamValueErrorCheck = new IfElse(NodeParser.parseExpression(
-                BalSyntaxConstants.NEXT_STREAM_ELSE_IF_STATEMENT));
-        streamValueErrorCheck.addIfStatement(NodeParser.parseStatement(
-                BalSyntaxConstants.NEXT_STREAM_RETURN_STREAM_VALUE_ERROR));
-        String entityName = entity.getEntityName();
-        streamValueErrorCheck.addElseStatement(NodeParser.parseStatement(
-                String.format(STREAM_VALUE, entityName, entityName)));
-        IfElse errCheck = new IfElse(NodeParser.parseExpression(String.format(RESULT_IS_BALLERINA_ERROR, VALUE)));
-        errCheck.addIfStatement(NodeParser.parseStatement(String.format(BalSyntaxConstants.RETURN_ERROR, VALUE)));
-        streamValueErrorCheck.addElseStatement(errCheck.getIfElseStatementNode());
-        streamValueErrorCheck.addElseStatement(NodeParser.parseStatement(String.format(
-                BalSyntaxConstants.NEXT_STREAM_ELSE_STATEMENT, entityName)));
-        streamValueErrorCheck.addElseStatement(NodeParser.parseStatement(BalSyntaxConstants.RETURN_NEXT_RECORD));
-        streamValueNilCheck.addElseBody(streamValueErrorCheck);
-        streamCheck.addIfStatement(streamValueNilCheck.getIfElseStatementNode());
-        streamCheck.addElseStatement(NodeParser.parseStatement(RETURN_NILL));
-        errorCheck.addElseBody(streamCheck);
-        nextStream.addIfElseStatement(errorCheck.getIfElseStatementNode());
-        clientStream.addMember(nextStream.getFunctionDefinitionNode(), true);
-
-        Function closeStream = new Function(BalSyntaxConstants.CLOSE, SyntaxKind.OBJECT_METHOD_DEFINITION);
-        closeStream.addQualifiers(new String[]{BalSyntaxConstants.KEYWORD_PUBLIC, KEYWORD_ISOLATED});
-        closeStream.addReturns(TypeDescriptor.getOptionalTypeDescriptorNode(EMPTY_STRING,
-                PERSIST_ERROR));
-        closeStream.addStatement(NodeParser.parseStatement(CLOSE_ENTITY_STREAM));
-        clientStream.addMember(closeStream.getFunctionDefinitionNode(), true);
-        return clientStream;
-    }
-
     private static Function createInitFunction(Collection<Entity> entityArray) {
         Function init = new Function(BalSyntaxConstants.INIT, SyntaxKind.OBJECT_METHOD_DEFINITION);
         init.addQualifiers(new String[]{BalSyntaxConstants.KEYWORD_PUBLIC});
+        init.addDefaultableParameter(TypeDescriptor.getBuiltinSimpleNameReferenceNode(BalSyntaxConstants.INT),
+                BalSyntaxConstants.BATCH_SIZE, NodeParser.parseExpression(BalSyntaxConstants.DEFAULT_BATCH_SIZE));
         init.addReturns(TypeDescriptor.getOptionalTypeDescriptorNode(EMPTY_STRING,
                 PERSIST_ERROR));
-        init.addStatement(NodeParser.parseStatement(INIT_DBCLIENT));
-        IfElse errorCheck = new IfElse(NodeParser.parseExpression(String.format(RESULT_IS_BALLERINA_ERROR, DB_CLIENT)));
-        errorCheck.addIfStatement(NodeParser.parseStatement(String.format(BalSyntaxConstants.RETURN_ERROR, DB_CLIENT)));
+        init.addStatement(NodeParser.parseStatement(BalSyntaxConstants.INVALID_BATCH_SIZE));
+        init.addStatement(INIT_DB_CLIENT_STATEMENT.apply());
+        IfElse errorCheck = new IfElse(IS_ERROR_CONDITION.apply(DB_CLIENT));
+        errorCheck.addIfStatement(RETURN_ERROR_STATEMENT.apply(DB_CLIENT));
         init.addIfElseStatement(errorCheck.getIfElseStatementNode());
-        init.addStatement(NodeParser.parseStatement(BalSyntaxConstants.ADD_CLIENT));
+        init.addStatement(ADD_CLIENT_STATEMENT.apply());
+        init.addStatement(ADD_BATCH_SIZE_STATEMENT.apply());
         StringBuilder persistClientMap = new StringBuilder();
         for (Entity entity : entityArray) {
             if (persistClientMap.length() != 0) {
@@ -616,11 +734,11 @@ public class BalSyntaxGenerator {
         close.addQualifiers(new String[]{BalSyntaxConstants.KEYWORD_PUBLIC});
         close.addReturns(TypeDescriptor.getOptionalTypeDescriptorNode(EMPTY_STRING,
                 PERSIST_ERROR));
-        close.addStatement(NodeParser.parseStatement(PERSIST_CLIENT_CLOSE_STATEMENT));
-        IfElse errorCheck = new IfElse(NodeParser.parseExpression(String.format(RESULT_IS_BALLERINA_ERROR, RESULT)));
-        errorCheck.addIfStatement(NodeParser.parseStatement(String.format(BalSyntaxConstants.RETURN_ERROR, RESULT)));
+        close.addStatement(CLOSE_DB_CLIENT_STATEMENT.apply());
+        IfElse errorCheck = new IfElse(IS_ERROR_CONDITION.apply(RESULT));
+        errorCheck.addIfStatement(RETURN_ERROR_STATEMENT.apply(RESULT));
         close.addIfElseStatement(errorCheck.getIfElseStatementNode());
-        close.addStatement(NodeParser.parseStatement(BalSyntaxConstants.RETURN_RESULT));
+        close.addStatement(RETURN_RESULT_STATEMENT.apply());
         return close;
     }
 
@@ -632,8 +750,7 @@ public class BalSyntaxGenerator {
         NodeList<Node> resourcePaths = AbstractNodeFactory.createEmptyNodeList();
         resourcePaths = resourcePaths.add(AbstractNodeFactory.createIdentifierToken(entity.getResourceName()));
         create.addRelativeResourcePaths(resourcePaths);
-        create.addRequiredParameter(
-                TypeDescriptor.getArrayTypeDescriptorNode(parameterType), KEYWORD_VALUE);
+        create.addRequiredParameter(INSERT_DATA_TYPE.apply(parameterType), KEYWORD_VALUE);
         create.addQualifiers(new String[]{KEYWORD_ISOLATED, BalSyntaxConstants.KEYWORD_RESOURCE});
         addReturnsToPostResourceSignature(create, primaryKeys);
         addFunctionBodyToPostResource(create, primaryKeys,
@@ -671,27 +788,107 @@ public class BalSyntaxGenerator {
         }
     }
 
+    /**
+     * Adds the body of the resource function which inserts the records of the entity. The records are read one by
+     * one from the given array or stream, and inserted in batches of the batch size of the client, so that the
+     * memory used for the batch is bounded by the batch size instead of the number of records.
+     * <p>
+     * The keys of the inserted records are returned at the end, unless a function is given to receive the keys of
+     * each batch once it is inserted, in which case the keys are not collected and an empty array is returned.
+     */
     private static void addFunctionBodyToPostResource(Function create, List<EntityField> primaryKeys,
                                                       String tableName, String parameterType) {
-        create.addStatement(NodeParser.parseStatement(String.format(BalSyntaxConstants.CREATE_SQL_RESULTS,
-                tableName)));
-        create.addStatement(NodeParser.parseStatement(String.format(BalSyntaxConstants.RETURN_CREATED_KEY,
-                parameterType)));
+        StringBuilder keyType = new StringBuilder();
         StringBuilder filterKeys = new StringBuilder();
-        for (int i = 0;  i < primaryKeys.size(); i++) {
-            filterKeys.append("inserted.").append(primaryKeys.get(i).getFieldName());
-            if (i < primaryKeys.size() - 1) {
-                filterKeys.append(",");
+        for (EntityField primaryKey : primaryKeys) {
+            if (filterKeys.length() != 0) {
+                keyType.append(COMMA_SPACE);
+                filterKeys.append(COMMA_SPACE);
             }
+            keyType.append(primaryKey.getFieldType());
+            filterKeys.append("inserted.").append(primaryKey.getFieldName());
         }
-        if (primaryKeys.size() == 1) {
-            filterKeys = new StringBuilder(SELECT_WITH_SPACE + filterKeys + SEMICOLON);
-        } else {
-            filterKeys = new StringBuilder(SELECT_WITH_SPACE + OPEN_BRACKET + filterKeys + CLOSE_BRACKET + SEMICOLON);
+        if (primaryKeys.size() > 1) {
+            keyType = new StringBuilder(OPEN_BRACKET + keyType + CLOSE_BRACKET);
+            filterKeys = new StringBuilder(OPEN_BRACKET + filterKeys + CLOSE_BRACKET);
+        }
+        create.addDefaultableParameter(ON_BATCH_TYPE.apply(keyType.toString()), BalSyntaxConstants.ON_BATCH,
+                NIL_EXPRESSION.apply());
+        create.addStatement(INSERT_ROWS_STREAM_STATEMENT.apply(parameterType));
+        create.addStatement(INSERT_KEYS_STATEMENT.apply(keyType.toString()));
+        create.addStatement(INSERT_BATCH_STATEMENT.apply(parameterType));
+        create.addStatement(INSERT_NEXT_ROW_STATEMENT.apply(parameterType));
+        addBatchStatements(create, INSERT_BATCHES_STATEMENT, INSERT_LAST_BATCH_STATEMENT, parameterType, tableName,
+                keyType.toString(), filterKeys.toString());
+        create.addStatement(RETURN_KEYS_STATEMENT.apply());
+    }
+
+    /**
+     * Generates the resource function which inserts the records of the entity, or updates the records which already
+     * exist with the same key. The records are written in batches of the batch size of the client, each batch as a
+     * single multi-row INSERT ... AS new ON DUPLICATE KEY UPDATE statement. The updated columns refer to the inserted
+     * row through the row alias, since the VALUES() function is deprecated as of MySQL 8.0.20.
+     */
+    private static Function createUpsertFunction(Entity entity) {
+        String parameterType = String.format(INSERT_RECORD, entity.getEntityName());
+        Function upsert = new Function(BalSyntaxConstants.PUT, SyntaxKind.RESOURCE_ACCESSOR_DEFINITION);
+        NodeList<Node> resourcePaths = AbstractNodeFactory.createEmptyNodeList();
+        resourcePaths = resourcePaths.add(AbstractNodeFactory.createIdentifierToken(entity.getResourceName()));
+        upsert.addRelativeResourcePaths(resourcePaths);
+        upsert.addRequiredParameter(INSERT_DATA_TYPE.apply(parameterType), KEYWORD_VALUE);
+        upsert.addQualifiers(new String[]{KEYWORD_ISOLATED, BalSyntaxConstants.KEYWORD_RESOURCE});
+        upsert.addReturns(TypeDescriptor.getOptionalTypeDescriptorNode(EMPTY_STRING, PERSIST_ERROR));
+
+        List<String> keyColumns = new ArrayList<>();
+        for (EntityField key : entity.getKeys()) {
+            keyColumns.add(stripEscapeCharacter(key.getFieldName()));
+        }
+        StringBuilder values = new StringBuilder();
+        StringBuilder updates = new StringBuilder();
+        List<String> columnNames = getColumnNames(entity);
+        List<String> columnFields = getColumnFields(entity);
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (values.length() != 0) {
+                values.append(COMMA_SPACE);
+            }
+            values.append(String.format(BalSyntaxConstants.UPSERT_VALUE, columnFields.get(i)));
+            if (!keyColumns.contains(columnNames.get(i))) {
+                if (updates.length() != 0) {
+                    updates.append(COMMA_SPACE);
+                }
+                updates.append(String.format(BalSyntaxConstants.UPSERT_COLUMN, columnNames.get(i)));
+            }
+        }
+        if (updates.length() == 0) {
+            // The entity has only the key columns, hence the existing records are left as they are.
+            updates.append(String.format(BalSyntaxConstants.UPSERT_COLUMN, keyColumns.get(0)));
         }
-        create.addStatement(NodeParser.parseStatement(filterKeys.toString()));
+        upsert.addStatement(INSERT_ROWS_STREAM_STATEMENT.apply(parameterType));
+        upsert.addStatement(UPSERT_VALUES_DECLARATION_STATEMENT.apply());
+        upsert.addStatement(INSERT_NEXT_ROW_STATEMENT.apply(parameterType));
+        addBatchStatements(upsert, UPSERT_BATCHES_STATEMENT, UPSERT_LAST_BATCH_STATEMENT, parameterType,
+                values.toString(), entity.getEntityName(), String.join(COMMA_SPACE, columnNames), updates.toString());
+        return upsert;
     }
 
+    /**
+     * Adds the statements which read the records from the rows stream into the batch, and write the batch whenever it
+     * reaches the batch size of the client and once more for the remaining records. Both templates take the same
+     * arguments, the first of which is the record type of the rows.
+     */
+    private static void addBatchStatements(Function function, NodeTemplate<StatementNode> batches,
+                                           NodeTemplate<StatementNode> lastBatch, String... arguments) {
+        function.addStatement(batches.apply(arguments));
+        IfElse errorCheck = new IfElse(IS_ERROR_CONDITION.apply(BalSyntaxConstants.ROW));
+        errorCheck.addIfStatement(RETURN_ERROR_STATEMENT.apply(BalSyntaxConstants.ROW));
+        function.addIfElseStatement(errorCheck.getIfElseStatementNode());
+        function.addStatement(lastBatch.apply(arguments));
+    }
+
+    /**
+     * Generates the resource function which reads a record of the entity by its key. The row is mapped straight into
+     * the entity record by the SQL client, and a missing row is returned as an invalid key error.
+     */
     private static Function createGetByKeyFunction(Entity entity, HashMap<String, String> keys) {
         Function readByKey = new Function(BalSyntaxConstants.GET, SyntaxKind.RESOURCE_ACCESSOR_DEFINITION);
         NodeList<Node> resourcePaths = AbstractNodeFactory.createEmptyNodeList();
@@ -716,31 +913,40 @@ public class BalSyntaxGenerator {
                 TypeDescriptor.getSimpleNameReferenceNode(entity.getEntityName()),
                 TypeDescriptor.getQualifiedNameReferenceNode(PERSIST_MODULE, SPECIFIC_ERROR)));
         String entityName = entity.getEntityName();
-        if (keys.size() > 1) {
-            StringBuilder keyString = new StringBuilder();
-            for (Map.Entry<String, String> entry : keys.entrySet()) {
-                if (keyString.length() != 0) {
-                    keyString.append(COMMA_SPACE);
-                }
-                keyString.append(String.format(PLACEHOLDER_FOR_MAP_FIELD, entry.getKey(), entry.getKey()));
+        StringBuilder keyString = new StringBuilder();
+        StringBuilder keyConditions = new StringBuilder();
+        for (Map.Entry<String, String> entry : keys.entrySet()) {
+            if (keyString.length() != 0) {
+                keyString.append(COMMA_SPACE);
+                keyConditions.append(BalSyntaxConstants.SQL_AND);
             }
-            readByKey.addStatement(NodeParser.parseStatement(String.format(READ_BY_KEY_RETURN, entityName,
-                    getEntityNameConstant(entityName), entityName,
-                    String.format(BalSyntaxConstants.RECORD_PLACEHOLDER, keyString),
-                    entityName)));
-        } else {
-            readByKey.addStatement(NodeParser.parseStatement(String.format(READ_BY_KEY_RETURN, entityName,
-                    getEntityNameConstant(entityName), entityName,
-                    keys.keySet().stream().findFirst().get(), entityName)));
+            keyString.append(String.format(PLACEHOLDER_FOR_MAP_FIELD, entry.getKey(), entry.getKey()));
+            keyConditions.append(String.format(BalSyntaxConstants.READ_BY_KEY_CONDITION,
+                    stripEscapeCharacter(entry.getKey()), entry.getKey()));
         }
-        IfElse errorCheck = new IfElse(NodeParser.parseExpression(String.format(RESULT_IS_BALLERINA_ERROR, RESULT)));
-        errorCheck.addIfStatement(NodeParser.parseStatement(String.format(BalSyntaxConstants.RETURN_ERROR, RESULT)));
+        String key = keys.size() > 1 ? String.format(BalSyntaxConstants.RECORD_PLACEHOLDER, keyString) :
+                keys.keySet().stream().findFirst().get();
+        readByKey.addStatement(READ_BY_KEY_STATEMENT.apply(entityName,
+                String.join(COMMA_SPACE, getColumnNames(entity)), entityName, keyConditions.toString()));
+        IfElse noRowsCheck = new IfElse(NO_ROWS_CONDITION.apply(RESULT));
+        noRowsCheck.addIfStatement(RETURN_INVALID_KEY_ERROR_STATEMENT.apply(entityName, key));
+        readByKey.addIfElseStatement(noRowsCheck.getIfElseStatementNode());
+        IfElse errorCheck = new IfElse(IS_ERROR_CONDITION.apply(RESULT));
+        errorCheck.addIfStatement(RETURN_ERROR_STATEMENT.apply(RESULT));
         readByKey.addIfElseStatement(errorCheck.getIfElseStatementNode());
-        readByKey.addStatement(NodeParser.parseStatement(BalSyntaxConstants.RETURN_RESULT));
+        readByKey.addStatement(RETURN_RESULT_STATEMENT.apply());
         return readByKey;
     }
 
-    private static Function createGetFunction(Entity entity) {
+    /**
+     * Generates the resource function which streams the records of the entity. The optional filter, sort and limit
+     * parameters are compiled into a parameterized SQL query, so that the records are filtered, sorted and limited by
+     * the database. The rows are mapped straight into the entity record by the SQL client, without converting each row
+     * from a generic record. A negative row limit is treated the same as no limit, since the limit of a MySQL query
+     * cannot be negative.
+     */
+    private static Function createGetFunction(Entity entity, RecordTypeDescriptorNode filterType,
+                                              List<StatementNode> filterConditions) {
         Function read = new Function(BalSyntaxConstants.GET, SyntaxKind.RESOURCE_ACCESSOR_DEFINITION);
         read.addQualifiers(new String[]{KEYWORD_ISOLATED, BalSyntaxConstants.KEYWORD_RESOURCE});
         NodeList<Node> resourcePaths = AbstractNodeFactory.createEmptyNodeList();
@@ -751,23 +957,277 @@ public class BalSyntaxGenerator {
                         entity.getEntityName())),
                 NodeFactory.createOptionalTypeDescriptorNode(
                         NodeFactory.createQualifiedNameReferenceNode(
-                                AbstractNodeFactory.createIdentifierToken(PERSIST_MODULE),
+                                AbstractNodeFactory.createIdentifierToken(KEYWORD_SQL),
                                 AbstractNodeFactory.createToken(SyntaxKind.COLON_TOKEN),
                                 AbstractNodeFactory.createIdentifierToken(ERROR)),
                                 AbstractNodeFactory.createToken(SyntaxKind.QUESTION_MARK_TOKEN)
                 )));
-        read.addStatement(NodeParser.parseStatement(String.format(BalSyntaxConstants.READ_RUN_READ_QUERY,
-                getEntityNameConstant(entity.getEntityName()), entity.getEntityName())));
-        IfElse errorCheck = new IfElse(NodeParser.parseExpression(RESULT_IS_ERROR));
-        errorCheck.addIfStatement(NodeParser.parseStatement(String.format(
-                BalSyntaxConstants.READ_RETURN_STREAM_WHEN_ERROR, entity.getEntityName(), entity.getEntityName())));
-        errorCheck.addElseStatement(NodeParser.parseStatement(String.format(
-                BalSyntaxConstants.READ_RETURN_STREAM_WHEN_NOT_ERROR, entity.getEntityName(), entity.getEntityName())));
-
-        read.addIfElseStatement(errorCheck.getIfElseStatementNode());
+        List<String> columnNames = getColumnNames(entity);
+        read.addDefaultableParameter(filterType, BalSyntaxConstants.FILTER, EMPTY_MAPPING_EXPRESSION.apply());
+        read.addDefaultableParameter(PROJECT_FIELDS_TYPE.apply(getColumnNamesType(columnNames)),
+                BalSyntaxConstants.ORDER_BY, EMPTY_LIST_EXPRESSION.apply());
+        read.addDefaultableParameter(TypeDescriptor.getBuiltinSimpleNameReferenceNode(BalSyntaxConstants.BOOLEAN),
+                BalSyntaxConstants.SORT_DESCENDING, FALSE_EXPRESSION.apply());
+        read.addDefaultableParameter(OPTIONAL_INT_TYPE.apply(), BalSyntaxConstants.MAX_ROWS, NIL_EXPRESSION.apply());
+
+        read.addStatement(READ_QUERY_STATEMENT.apply(String.join(COMMA_SPACE, columnNames), entity.getEntityName()));
+        filterConditions.forEach(read::addStatement);
+        read.addStatement(READ_ORDER_BY_STATEMENT.apply(getColumnFragments(columnNames)));
+        read.addStatement(READ_LIMIT_STATEMENT.apply());
+        read.addStatement(READ_RUN_READ_QUERY_STATEMENT.apply());
         return read;
     }
 
+    /**
+     * Creates the type of the optional filter parameter, which is a record of the columns of the entity table to be
+     * matched. The type is shared by the get and count resources of the entity.
+     */
+    private static RecordTypeDescriptorNode createFilterType(Entity entity) {
+        List<String> columnFields = getColumnFields(entity);
+        List<String> columnTypes = getColumnTypes(entity);
+        NodeList<Node> filterFields = AbstractNodeFactory.createEmptyNodeList();
+        for (int i = 0; i < columnFields.size(); i++) {
+            filterFields = filterFields.add(NodeFactory.createRecordFieldNode(null, null,
+                    TypeDescriptor.getSimpleNameReferenceNode(columnTypes.get(i)),
+                    AbstractNodeFactory.createIdentifierToken(columnFields.get(i)),
+                    SyntaxTokenConstants.SYNTAX_TREE_QUESTION_MARK, SyntaxTokenConstants.SYNTAX_TREE_SEMICOLON));
+        }
+        return NodeFactory.createRecordTypeDescriptorNode(SyntaxTokenConstants.SYNTAX_TREE_KEYWORD_RECORD,
+                AbstractNodeFactory.createToken(SyntaxKind.OPEN_BRACE_PIPE_TOKEN), filterFields, null,
+                AbstractNodeFactory.createToken(SyntaxKind.CLOSE_BRACE_PIPE_TOKEN,
+                        AbstractNodeFactory.createEmptyMinutiaeList(),
+                        NodeFactory.createMinutiaeList(AbstractNodeFactory.createWhitespaceMinutiae(SPACE))));
+    }
+
+    /**
+     * Creates the statements which append a condition to the query for each column given in the filter parameter.
+     * The statements are shared by the get and count resources of the entity.
+     */
+    private static List<StatementNode> createFilterConditions(Entity entity) {
+        List<String> columnNames = getColumnNames(entity);
+        List<String> columnFields = getColumnFields(entity);
+        List<StatementNode> filterConditions = new ArrayList<>();
+        for (int i = 0; i < columnFields.size(); i++) {
+            filterConditions.add(READ_FILTER_CONDITION_STATEMENT.apply(columnNames.get(i), columnFields.get(i)));
+        }
+        return filterConditions;
+    }
+
+    /**
+     * Generates the resource function which counts the records of the entity matching the optional filter. The
+     * records are counted by the database, and only the count is returned.
+     */
+    private static Function createCountFunction(Entity entity, RecordTypeDescriptorNode filterType,
+                                                List<StatementNode> filterConditions) {
+        Function count = new Function(BalSyntaxConstants.COUNT, SyntaxKind.RESOURCE_ACCESSOR_DEFINITION);
+        count.addQualifiers(new String[]{KEYWORD_ISOLATED, BalSyntaxConstants.KEYWORD_RESOURCE});
+        NodeList<Node> resourcePaths = AbstractNodeFactory.createEmptyNodeList();
+        resourcePaths = resourcePaths.add(AbstractNodeFactory.createIdentifierToken(entity.getResourceName()));
+        count.addRelativeResourcePaths(resourcePaths);
+        count.addDefaultableParameter(filterType, BalSyntaxConstants.FILTER, EMPTY_MAPPING_EXPRESSION.apply());
+        count.addReturns(TypeDescriptor.getUnionTypeDescriptorNode(
+                TypeDescriptor.getBuiltinSimpleNameReferenceNode(BalSyntaxConstants.INT),
+                TypeDescriptor.getQualifiedNameReferenceNode(PERSIST_MODULE, SPECIFIC_ERROR)));
+        count.addStatement(COUNT_QUERY_STATEMENT.apply(entity.getEntityName()));
+        filterConditions.forEach(count::addStatement);
+        count.addStatement(COUNT_RUN_QUERY_STATEMENT.apply());
+        IfElse errorCheck = new IfElse(IS_ERROR_CONDITION.apply(RESULT));
+        errorCheck.addIfStatement(RETURN_ERROR_STATEMENT.apply(RESULT));
+        count.addIfElseStatement(errorCheck.getIfElseStatementNode());
+        count.addStatement(RETURN_RESULT_STATEMENT.apply());
+        return count;
+    }
+
+    /**
+     * Generates the resource function which checks whether a record of the entity exists with the given key. The
+     * check is evaluated by the database, which always returns a single row, hence no row is mapped and no error is
+     * created for a missing record.
+     */
+    private static Function createExistsFunction(Entity entity, HashMap<String, String> keys) {
+        Function exists = new Function(BalSyntaxConstants.EXISTS, SyntaxKind.RESOURCE_ACCESSOR_DEFINITION);
+        exists.addQualifiers(new String[]{KEYWORD_ISOLATED, BalSyntaxConstants.KEYWORD_RESOURCE});
+        NodeList<Node> resourcePaths = AbstractNodeFactory.createEmptyNodeList();
+        resourcePaths = getResourcePath(resourcePaths, keys, new StringBuilder(), new StringBuilder(),
+                entity.getResourceName());
+        exists.addRelativeResourcePaths(resourcePaths);
+        exists.addReturns(TypeDescriptor.getUnionTypeDescriptorNode(
+                TypeDescriptor.getBuiltinSimpleNameReferenceNode(BalSyntaxConstants.BOOLEAN),
+                TypeDescriptor.getQualifiedNameReferenceNode(PERSIST_MODULE, SPECIFIC_ERROR)));
+        StringBuilder keyConditions = new StringBuilder();
+        for (Map.Entry<String, String> entry : keys.entrySet()) {
+            if (keyConditions.length() != 0) {
+                keyConditions.append(BalSyntaxConstants.SQL_AND);
+            }
+            keyConditions.append(String.format(BalSyntaxConstants.READ_BY_KEY_CONDITION,
+                    stripEscapeCharacter(entry.getKey()), entry.getKey()));
+        }
+        exists.addStatement(EXISTS_QUERY_STATEMENT.apply(entity.getEntityName(), keyConditions.toString()));
+        IfElse errorCheck = new IfElse(IS_ERROR_CONDITION.apply(RESULT));
+        errorCheck.addIfStatement(RETURN_ERROR_STATEMENT.apply(RESULT));
+        exists.addIfElseStatement(errorCheck.getIfElseStatementNode());
+        exists.addStatement(RETURN_EXISTS_STATEMENT.apply());
+        return exists;
+    }
+
+    /**
+     * Returns the union of the column names of the entity table as singleton types.
+     */
+    private static String getColumnNamesType(List<String> columnNames) {
+        StringBuilder columnNamesType = new StringBuilder();
+        for (String columnName : columnNames) {
+            if (columnNamesType.length() != 0) {
+                columnNamesType.append(BalSyntaxConstants.PIPE);
+            }
+            columnNamesType.append(DOUBLE_QUOTE).append(columnName).append(DOUBLE_QUOTE);
+        }
+        return columnNamesType.toString();
+    }
+
+    /**
+     * Returns the fields of a mapping which holds the query fragment of each column of the entity table, keyed by the
+     * column name.
+     */
+    private static String getColumnFragments(List<String> columnNames) {
+        StringBuilder columnFragments = new StringBuilder();
+        for (String columnName : columnNames) {
+            if (columnFragments.length() != 0) {
+                columnFragments.append(COMMA_SPACE);
+            }
+            columnFragments.append(String.format(BalSyntaxConstants.PROJECT_COLUMN, columnName));
+        }
+        return columnFragments.toString();
+    }
+
+    /**
+     * Generates the resource function which reads a page of the records of the entity, in the order of the key. The
+     * page starts after the key in the given cursor, and the cursor of the next page is the key of the last record
+     * of the page. Since the records are sought by the key instead of being skipped, a page deep in the table costs
+     * the same as the first page. A page size below one is returned as an error, the same as the batch size of the
+     * client, since such a page never reaches the end of the table.
+     */
+    private static Function createPageFunction(Entity entity) {
+        Function page = new Function(BalSyntaxConstants.PAGE, SyntaxKind.RESOURCE_ACCESSOR_DEFINITION);
+        page.addQualifiers(new String[]{KEYWORD_ISOLATED, BalSyntaxConstants.KEYWORD_RESOURCE});
+        NodeList<Node> resourcePaths = AbstractNodeFactory.createEmptyNodeList();
+        resourcePaths = resourcePaths.add(AbstractNodeFactory.createIdentifierToken(entity.getResourceName()));
+        page.addRelativeResourcePaths(resourcePaths);
+        page.addRequiredParameter(TypeDescriptor.getBuiltinSimpleNameReferenceNode(BalSyntaxConstants.INT),
+                BalSyntaxConstants.PAGE_SIZE);
+        page.addDefaultableParameter(OPTIONAL_STRING_TYPE.apply(), BalSyntaxConstants.CURSOR, NIL_EXPRESSION.apply());
+        page.addReturns(PAGE_RETURN_TYPE.apply(entity.getEntityName()));
+
+        List<EntityField> keys = entity.getKeys();
+        StringBuilder keyType = new StringBuilder();
+        StringBuilder keyColumns = new StringBuilder();
+        StringBuilder afterKey = new StringBuilder();
+        StringBuilder lastKey = new StringBuilder();
+        for (int i = 0; i < keys.size(); i++) {
+            if (i != 0) {
+                keyType.append(COMMA_SPACE);
+                keyColumns.append(COMMA_SPACE);
+                afterKey.append(COMMA_SPACE);
+                lastKey.append(COMMA_SPACE);
+            }
+            keyType.append(keys.get(i).getFieldType());
+            keyColumns.append(stripEscapeCharacter(keys.get(i).getFieldName()));
+            afterKey.append(keys.size() > 1 ? String.format(BalSyntaxConstants.PAGE_AFTER_KEY_ELEMENT, i) :
+                    BalSyntaxConstants.PAGE_AFTER_KEY);
+            lastKey.append(String.format(BalSyntaxConstants.PAGE_LAST_KEY, keys.get(i).getFieldName()));
+        }
+        String orderBy = keyColumns.toString();
+        if (keys.size() > 1) {
+            keyType = new StringBuilder(OPEN_BRACKET + keyType + CLOSE_BRACKET);
+            keyColumns = new StringBuilder(OPEN_PARENTHESIS + keyColumns + CLOSE_PARENTHESIS);
+            afterKey = new StringBuilder(OPEN_PARENTHESIS + afterKey + CLOSE_PARENTHESIS);
+            lastKey = new StringBuilder(OPEN_BRACKET + lastKey + CLOSE_BRACKET);
+        }
+        page.addStatement(PAGE_INVALID_SIZE_STATEMENT.apply());
+        page.addStatement(PAGE_QUERY_STATEMENT.apply(String.join(COMMA_SPACE, getColumnNames(entity)),
+                entity.getEntityName()));
+        page.addStatement(PAGE_AFTER_CURSOR_STATEMENT.apply(keyType.toString(), keyColumns.toString(),
+                afterKey.toString()));
+        page.addStatement(PAGE_ORDER_BY_STATEMENT.apply(orderBy));
+        page.addStatement(PAGE_ROWS_STATEMENT.apply(entity.getEntityName()));
+        page.addStatement(PAGE_RECORDS_STATEMENT.apply(entity.getEntityName()));
+        IfElse errorCheck = new IfElse(IS_ERROR_CONDITION.apply(BalSyntaxConstants.PAGE_RECORDS_VARIABLE));
+        errorCheck.addIfStatement(RETURN_ERROR_STATEMENT.apply(BalSyntaxConstants.PAGE_RECORDS_VARIABLE));
+        page.addIfElseStatement(errorCheck.getIfElseStatementNode());
+        page.addStatement(PAGE_LAST_STATEMENT.apply());
+        page.addStatement(PAGE_LAST_RECORD_STATEMENT.apply(entity.getEntityName()));
+        page.addStatement(PAGE_NEXT_STATEMENT.apply(lastKey.toString()));
+        return page;
+    }
+
+    /**
+     * Generates the resource function which streams only the given columns of all the records of the entity. The
+     * columns are limited to the columns of the entity table by the type of the parameter, and each column is taken
+     * from a query fragment of the generated code, so that the column names are never read from the caller. An empty
+     * selection is returned as an error, as it does not make a valid query.
+     */
+    private static Function createProjectFunction(Entity entity) {
+        Function project = new Function(BalSyntaxConstants.PROJECT, SyntaxKind.RESOURCE_ACCESSOR_DEFINITION);
+        project.addQualifiers(new String[]{KEYWORD_ISOLATED, BalSyntaxConstants.KEYWORD_RESOURCE});
+        NodeList<Node> resourcePaths = AbstractNodeFactory.createEmptyNodeList();
+        resourcePaths = resourcePaths.add(AbstractNodeFactory.createIdentifierToken(entity.getResourceName()));
+        project.addRelativeResourcePaths(resourcePaths);
+        List<String> columnNames = getColumnNames(entity);
+        project.addRequiredParameter(PROJECT_FIELDS_TYPE.apply(getColumnNamesType(columnNames)),
+                BalSyntaxConstants.FIELDS);
+        project.addReturns(PROJECT_RETURN_TYPE.apply());
+        project.addStatement(PROJECT_NO_FIELDS_STATEMENT.apply());
+        project.addStatement(PROJECT_COLUMNS_STATEMENT.apply(getColumnFragments(columnNames)));
+        project.addStatement(PROJECT_SELECTED_COLUMNS_STATEMENT.apply());
+        project.addStatement(PROJECT_RUN_READ_QUERY_STATEMENT.apply(entity.getEntityName()));
+        return project;
+    }
+
+    /**
+     * Returns the fields of the entity record which hold the columns of the entity table, in the order of the columns.
+     */
+    private static List<String> getColumnFields(Entity entity) {
+        List<String> columnFields = new ArrayList<>();
+        for (EntityField field : entity.getFields()) {
+            if (field.getRelation() == null) {
+                columnFields.add(field.getFieldName());
+            } else if (field.getRelation().isOwner()) {
+                for (Relation.Key key : field.getRelation().getKeyColumns()) {
+                    columnFields.add(key.getField());
+                }
+            }
+        }
+        return columnFields;
+    }
+
+    /**
+     * Returns the types of the fields of the entity record which hold the columns of the entity table, in the order of
+     * the columns. The types of the optional fields are nilable.
+     */
+    private static List<String> getColumnTypes(Entity entity) {
+        List<String> columnTypes = new ArrayList<>();
+        for (EntityField field : entity.getFields()) {
+            if (field.getRelation() == null) {
+                String columnType = getFieldTypeName(field);
+                columnTypes.add(field.isOptionalType() ? columnType + "?" : columnType);
+            } else if (field.getRelation().isOwner()) {
+                for (Relation.Key key : field.getRelation().getKeyColumns()) {
+                    columnTypes.add(key.getType());
+                }
+            }
+        }
+        return columnTypes;
+    }
+
+    /**
+     * Returns the columns of the entity table, in the order of the fields of the entity record.
+     */
+    private static List<String> getColumnNames(Entity entity) {
+        List<String> columnNames = new ArrayList<>();
+        for (String columnField : getColumnFields(entity)) {
+            columnNames.add(stripEscapeCharacter(columnField));
+        }
+        return columnNames;
+    }
+
     private static Function createPutFunction(Entity entity, HashMap<String, String> keys) {
         Function update = new Function(BalSyntaxConstants.PUT, SyntaxKind.RESOURCE_ACCESSOR_DEFINITION);
         update.addQualifiers(new String[]{KEYWORD_ISOLATED, BalSyntaxConstants.KEYWORD_RESOURCE});
@@ -775,23 +1235,15 @@ public class BalSyntaxGenerator {
                 String.format(UPDATE_RECORD, entity.getEntityName())), VALUE);
         NodeList<Node> resourcePaths = AbstractNodeFactory.createEmptyNodeList();
         StringBuilder filterKeys = new StringBuilder(OPEN_BRACE);
-        StringBuilder path = new StringBuilder(BACK_SLASH + entity.getResourceName());
+        StringBuilder path = new StringBuilder(entity.getResourceName());
         resourcePaths = getResourcePath(resourcePaths, keys, filterKeys, path, entity.getResourceName());
         update.addRelativeResourcePaths(resourcePaths);
         update.addReturns(TypeDescriptor.getUnionTypeDescriptorNode(
                 TypeDescriptor.getSimpleNameReferenceNode(entity.getEntityName()),
                 TypeDescriptor.getQualifiedNameReferenceNode(PERSIST_MODULE, SPECIFIC_ERROR)));
-        if (entity.getKeys().size() > 1) {
-            update.addStatement(NodeParser.parseStatement(String.format(BalSyntaxConstants.UPDATE_RUN_UPDATE_QUERY,
-                    getEntityNameConstant(entity.getEntityName()),
-                    filterKeys.substring(0, filterKeys.length() - 2).concat(CLOSE_BRACE))));
-        } else {
-            update.addStatement(NodeParser.parseStatement(String.format(BalSyntaxConstants.UPDATE_RUN_UPDATE_QUERY,
-                    getEntityNameConstant(entity.getEntityName()), entity.getKeys().stream().findFirst().get()
-                            .getFieldName())));
-        }
-        update.addStatement(NodeParser.parseStatement(String.format(BalSyntaxConstants.UPDATE_RETURN_UPDATE_QUERY,
-                path)));
+        update.addStatement(UPDATE_QUERY_STATEMENT.apply(getEntityNameConstant(entity.getEntityName()),
+                getKeyFilter(entity, filterKeys)));
+        update.addStatement(RETURN_UPDATED_OBJECT_STATEMENT.apply(path.toString()));
         return update;
     }
 
@@ -799,26 +1251,29 @@ public class BalSyntaxGenerator {
         Function delete = new Function(BalSyntaxConstants.DELETE, SyntaxKind.RESOURCE_ACCESSOR_DEFINITION);
         delete.addQualifiers(new String[]{KEYWORD_ISOLATED, BalSyntaxConstants.KEYWORD_RESOURCE});
         NodeList<Node> resourcePaths = AbstractNodeFactory.createEmptyNodeList();
-        StringBuilder path = new StringBuilder(BACK_SLASH + entity.getResourceName());
+        StringBuilder path = new StringBuilder(entity.getResourceName());
         StringBuilder filterKeys = new StringBuilder(OPEN_BRACE);
         resourcePaths = getResourcePath(resourcePaths, keys, filterKeys, path, entity.getResourceName());
         delete.addRelativeResourcePaths(resourcePaths);
         delete.addReturns(TypeDescriptor.getUnionTypeDescriptorNode(
                 TypeDescriptor.getSimpleNameReferenceNode(entity.getEntityName()),
                 TypeDescriptor.getQualifiedNameReferenceNode(PERSIST_MODULE, SPECIFIC_ERROR)));
-        delete.addStatement(NodeParser.parseStatement(String.format(BalSyntaxConstants.GET_OBJECT_QUERY,
-                entity.getEntityName(), path)));
+        delete.addStatement(GET_OBJECT_STATEMENT.apply(entity.getEntityName(), path.toString()));
+        delete.addStatement(DELETE_QUERY_STATEMENT.apply(getEntityNameConstant(entity.getEntityName()),
+                getKeyFilter(entity, filterKeys)));
+        delete.addStatement(RETURN_DELETED_OBJECT_STATEMENT.apply());
+        return delete;
+    }
+
+    /**
+     * Returns the key of the entity as passed to the persist client, which is the key field for a single key and the
+     * mapping of the key columns to the key fields otherwise.
+     */
+    private static String getKeyFilter(Entity entity, StringBuilder filterKeys) {
         if (entity.getKeys().size() > 1) {
-            delete.addStatement(NodeParser.parseStatement(String.format(BalSyntaxConstants.DELETE_RUN_DELETE_QUERY,
-                    getEntityNameConstant(entity.getEntityName()),
-                    filterKeys.substring(0, filterKeys.length() - 2).concat(CLOSE_BRACE))));
-        } else {
-            delete.addStatement(NodeParser.parseStatement(String.format(BalSyntaxConstants.DELETE_RUN_DELETE_QUERY,
-                    getEntityNameConstant(entity.getEntityName()), entity.getKeys().stream().findFirst().get()
-                            .getFieldName())));
+            return filterKeys.substring(0, filterKeys.length() - 2).concat(CLOSE_BRACE);
         }
-        delete.addStatement(NodeParser.parseStatement(BalSyntaxConstants.RETURN_DELETED_OBJECT));
-        return delete;
+        return entity.getKeys().stream().findFirst().get().getFieldName();
     }
 
     private static NodeList<Node> getResourcePath(NodeList<Node> resourcePaths, HashMap<String, String> keys,
@@ -851,16 +1306,11 @@ public class BalSyntaxGenerator {
                 AbstractNodeFactory.createToken(SyntaxKind.UNDERSCORE_KEYWORD));
         imports = imports.add(getImportDeclarationNodeWithAutogeneratedComment(KEYWORD_BALLERINAX, MYSQL_DRIVER,
                 commentMinutiaeList, prefix));
-        moduleMembers = moduleMembers.add(NodeParser.parseModuleMemberDeclaration(
-                BalSyntaxConstants.CONFIGURABLE_PORT));
-        moduleMembers = moduleMembers.add(NodeParser.parseModuleMemberDeclaration(
-                BalSyntaxConstants.CONFIGURABLE_HOST));
-        moduleMembers = moduleMembers.add(NodeParser.parseModuleMemberDeclaration(
-                BalSyntaxConstants.CONFIGURABLE_USER));
-        moduleMembers = moduleMembers.add(NodeParser.parseModuleMemberDeclaration(
-                BalSyntaxConstants.CONFIGURABLE_DATABASE));
-        moduleMembers = moduleMembers.add(NodeParser.parseModuleMemberDeclaration(
-                BalSyntaxConstants.CONFIGURABLE_PASSWORD));
+        moduleMembers = moduleMembers.add(CONFIGURABLE_PORT_DECLARATION.apply());
+        moduleMembers = moduleMembers.add(CONFIGURABLE_HOST_DECLARATION.apply());
+        moduleMembers = moduleMembers.add(CONFIGURABLE_USER_DECLARATION.apply());
+        moduleMembers = moduleMembers.add(CONFIGURABLE_DATABASE_DECLARATION.apply());
+        moduleMembers = moduleMembers.add(CONFIGURABLE_PASSWORD_DECLARATION.apply());
 
         Token eofToken = AbstractNodeFactory.createIdentifierToken(EMPTY_STRING);
         ModulePartNode modulePartNode = NodeFactory.createModulePartNode(imports, moduleMembers, eofToken);
@@ -939,113 +1389,155 @@ public class BalSyntaxGenerator {
         );
     }
 
+    /**
+     * Generates the types of the entities of the module. The source is emitted in the layout of the Ballerina
+     * formatter, so that the types file is written as it is instead of being formatted again.
+     */
     public static SyntaxTree generateTypeSyntaxTree(Module entityModule) {
+        StringBuilder source = new StringBuilder(getAutoGeneratedComment(entityModule.getModuleName()));
+        Set<String> modulePrefixes = entityModule.getImportModulePrefixes();
+        for (String modulePrefix : modulePrefixes) {
+            source.append(String.format(BalSyntaxConstants.IMPORT_TEMPLATE, KEYWORD_BALLERINA, modulePrefix))
+                    .append(System.lineSeparator());
+        }
+        if (!modulePrefixes.isEmpty()) {
+            source.append(System.lineSeparator());
+        }
+        List<String> moduleMembers = new ArrayList<>();
+        for (Entity entity : entityModule.getEntityMap().values()) {
+            String entityName = entity.getEntityName().trim();
+            moduleMembers.add(getEntityRecordSource(entity));
+            moduleMembers.add(String.format(INSERT_TYPE_TEMPLATE, entityName, entityName));
+            moduleMembers.add(getUpdateRecordSource(entity));
+        }
+        source.append(String.join(System.lineSeparator() + System.lineSeparator(), moduleMembers))
+                .append(System.lineSeparator());
+        return SyntaxTree.from(TextDocuments.from(source.toString()));
+    }
+
+    public static SyntaxTree generateEntitySyntaxTree(Module entityModule, Entity entity) {
         NodeList<ImportDeclarationNode> imports = AbstractNodeFactory.createEmptyNodeList();
         NodeList<ModuleMemberDeclarationNode> moduleMembers = AbstractNodeFactory.createEmptyNodeList();
         MinutiaeList commentMinutiaeList = createCommentMinutiaeList(String.format(
                 AUTO_GENERATED_COMMENT_WITH_REASON, entityModule.getModuleName()));
-
         for (String modulePrefix : entityModule.getImportModulePrefixes()) {
+            if (!isModulePrefixUsed(entity, modulePrefix)) {
+                continue;
+            }
             if (imports.isEmpty()) {
-                imports = imports.add(getImportDeclarationNodeWithAutogeneratedComment(
-                        KEYWORD_BALLERINA, modulePrefix,
-                        commentMinutiaeList, null));
+                imports = imports.add(getImportDeclarationNodeWithAutogeneratedComment(KEYWORD_BALLERINA,
+                        modulePrefix, commentMinutiaeList, null));
             } else {
-                imports.add(getImportDeclarationNode(KEYWORD_BALLERINA, modulePrefix, null));
+                imports = imports.add(getImportDeclarationNode(KEYWORD_BALLERINA, modulePrefix, null));
             }
         }
-        boolean includeAutoGeneratedComment = imports.isEmpty();
-        for (Entity entity : entityModule.getEntityMap().values()) {
-            if (includeAutoGeneratedComment) {
-                moduleMembers = moduleMembers.add(createEntityRecord(entity, includeAutoGeneratedComment,
-                        entityModule.getModuleName()));
-                includeAutoGeneratedComment = false;
-            } else {
-                moduleMembers = moduleMembers.add(createEntityRecord(entity, includeAutoGeneratedComment,
-                        entityModule.getModuleName()));
-            }
 
-            moduleMembers = moduleMembers.add(NodeParser.parseModuleMemberDeclaration(
-                    String.format("public type %sInsert %s;", entity.getEntityName(),
-                            entity.getEntityName())));
-            moduleMembers = moduleMembers.add(createUpdateRecord(entity));
-        }
+        moduleMembers = moduleMembers.add(createEntityRecord(entity, imports.isEmpty(),
+                entityModule.getModuleName()));
+        moduleMembers = moduleMembers.add(INSERT_TYPE_DEFINITION.apply(entity.getEntityName(),
+                entity.getEntityName()));
+        moduleMembers = moduleMembers.add(createUpdateRecord(entity));
+        moduleMembers = moduleMembers.add(ENTITY_NAME_CONSTANT.apply(
+                getEntityNameConstant(entity.getEntityName()), entity.getResourceName()));
+
         Token eofToken = AbstractNodeFactory.createIdentifierToken(EMPTY_STRING);
         ModulePartNode modulePartNode = NodeFactory.createModulePartNode(imports, moduleMembers, eofToken);
         TextDocument textDocument = TextDocuments.from(EMPTY_STRING);
         SyntaxTree balTree = SyntaxTree.from(textDocument);
-
         return balTree.modifyWith(modulePartNode);
     }
 
+    private static boolean isModulePrefixUsed(Entity entity, String modulePrefix) {
+        String qualifier = modulePrefix + COLON;
+        for (EntityField field : entity.getFields()) {
+            if (field.getRelation() == null) {
+                if (field.getFieldType().startsWith(qualifier)) {
+                    return true;
+                }
+            } else if (field.getRelation().isOwner()) {
+                for (Relation.Key key : field.getRelation().getKeyColumns()) {
+                    if (key.getType().startsWith(qualifier)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     private static ModuleMemberDeclarationNode createEntityRecord(Entity entity, boolean includeAutogeneratedComment,
                                                                   String moduleName) {
-        StringBuilder recordFields = new StringBuilder();
+        String entityRecord = getEntityRecordSource(entity);
+        if (includeAutogeneratedComment) {
+            return NodeParser.parseModuleMemberDeclaration(getAutoGeneratedComment(moduleName) + entityRecord);
+        }
+        return NodeParser.parseModuleMemberDeclaration(entityRecord);
+    }
+
+    private static ModuleMemberDeclarationNode createUpdateRecord(Entity entity) {
+        return NodeParser.parseModuleMemberDeclaration(getUpdateRecordSource(entity));
+    }
+
+    private static String getEntityRecordSource(Entity entity) {
+        List<String> recordFields = new ArrayList<>();
         for (EntityField field : entity.getFields()) {
             if (entity.getKeys().stream().anyMatch(key -> key == field)) {
-                recordFields.append("readonly ");
-                recordFields.append(" ");
-                recordFields.append(field.getFieldType());
-                recordFields.append(" ");
-                recordFields.append(field.getFieldName());
-                recordFields.append("; ");
+                recordFields.add("readonly " + getFieldTypeName(field) + SPACE + field.getFieldName());
             } else if (field.getRelation() != null) {
                 if (field.getRelation().isOwner()) {
                     for (Relation.Key key : field.getRelation().getKeyColumns()) {
-                        recordFields.append(key.getType());
-                        recordFields.append(" ");
-                        recordFields.append(key.getField());
-                        recordFields.append("; ");
+                        recordFields.add(key.getType() + SPACE + key.getField());
                     }
                 }
             } else {
-                recordFields.append(field.isOptionalType() ? field.getFieldType() + "?" : field.getFieldType());
-                recordFields.append(" ");
-                recordFields.append(field.getFieldName());
-                recordFields.append("; ");
+                recordFields.add(getOptionalFieldTypeName(field) + SPACE + field.getFieldName());
             }
-
-        }
-        if (includeAutogeneratedComment) {
-            StringBuilder commentBuilder = new StringBuilder();
-            commentBuilder.append(AUTOGENERATED_FILE_COMMENT);
-            commentBuilder.append("\n\n");
-            commentBuilder.append(String.format(AUTO_GENERATED_COMMENT_WITH_REASON, moduleName));
-            commentBuilder.append("\n");
-            commentBuilder.append(COMMENT_SHOULD_NOT_BE_MODIFIED);
-            commentBuilder.append("\n\n");
-            commentBuilder.append("public type %s record {| %s |};");
-            return NodeParser.parseModuleMemberDeclaration(String.format(commentBuilder.toString(),
-                    entity.getEntityName().trim(), recordFields));
         }
-        return NodeParser.parseModuleMemberDeclaration(String.format("public type %s record {| %s |};",
-                entity.getEntityName().trim(), recordFields));
+        return getRecordSource(entity.getEntityName().trim(), recordFields);
     }
 
-    private static ModuleMemberDeclarationNode createUpdateRecord(Entity entity) {
-        StringBuilder recordFields = new StringBuilder();
+    private static String getUpdateRecordSource(Entity entity) {
+        List<String> recordFields = new ArrayList<>();
         for (EntityField field : entity.getFields()) {
             if (entity.getKeys().stream().noneMatch(key -> key == field)) {
                 if (field.getRelation() != null) {
                     if (field.getRelation().isOwner()) {
                         for (Relation.Key key : field.getRelation().getKeyColumns()) {
-                            recordFields.append(key.getType());
-                            recordFields.append(" ");
-                            recordFields.append(key.getField());
-                            recordFields.append("?; ");
+                            recordFields.add(key.getType() + SPACE + key.getField() + "?");
                         }
                     }
                 } else {
-                    recordFields.append(field.isOptionalType() ? field.getFieldType() + "?" : field.getFieldType());
-                    recordFields.append(" ");
-                    recordFields.append(field.getFieldName());
-                    recordFields.append("?; ");
+                    recordFields.add(getOptionalFieldTypeName(field) + SPACE + field.getFieldName() + "?");
                 }
             }
+        }
+        return getRecordSource(entity.getEntityName().trim() + "Update", recordFields);
+    }
 
+    /**
+     * Returns the closed record type definition with the given fields, in the layout of the Ballerina formatter.
+     */
+    private static String getRecordSource(String typeName, List<String> recordFields) {
+        StringBuilder recordSource = new StringBuilder(String.format(BalSyntaxConstants.RECORD_TYPE_START, typeName))
+                .append(System.lineSeparator());
+        for (String recordField : recordFields) {
+            recordSource.append(String.format(BalSyntaxConstants.RECORD_TYPE_FIELD, recordField))
+                    .append(System.lineSeparator());
         }
-        return NodeParser.parseModuleMemberDeclaration(String.format("public type %sUpdate record {| %s |};",
-                entity.getEntityName().trim(), recordFields));
+        return recordSource.append(BalSyntaxConstants.RECORD_TYPE_END).toString();
+    }
+
+    /**
+     * Returns the auto-generated file comment of the module, followed by a blank line as laid out by the formatter.
+     */
+    private static String getAutoGeneratedComment(String moduleName) {
+        return AUTOGENERATED_FILE_COMMENT + System.lineSeparator() + System.lineSeparator() +
+                String.format(AUTO_GENERATED_COMMENT_WITH_REASON, moduleName) + System.lineSeparator() +
+                COMMENT_SHOULD_NOT_BE_MODIFIED + System.lineSeparator() + System.lineSeparator();
+    }
+
+    private static String getOptionalFieldTypeName(EntityField field) {
+        return field.isOptionalType() ? getFieldTypeName(field) + "?" : getFieldTypeName(field);
     }
 
     private static String getEntityNameConstant(String entityName) {
@@ -1060,6 +1552,13 @@ public class BalSyntaxGenerator {
         return outputString.toString();
     }
 
+    /**
+     * Returns the type of the field as declared in the entity record, including the array dimension.
+     */
+    private static String getFieldTypeName(EntityField field) {
+        return field.isArrayType() ? field.getFieldType() + BalSyntaxConstants.EMPTY_LIST : field.getFieldType();
+    }
+
     private static String stripEscapeCharacter(String fieldName) {
         return fieldName.startsWith("'") ? fieldName.substring(1) : fieldName;
     }
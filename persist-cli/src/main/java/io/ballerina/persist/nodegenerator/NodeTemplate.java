@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.nodegenerator;
+
+import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TreeModifier;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+
+import java.util.function.Function;
+
+/**
+ * Syntax node parsed once from a {@link BalSyntaxConstants} template. The arguments of the template are parsed as
+ * placeholder identifiers, which are replaced with the actual values on each use instead of parsing the formatted
+ * template again. The placeholders are replaced in identifiers, string literals and the content of string templates.
+ * As the generated syntax tree is formatted from its source code, an argument may also be a source fragment such as a
+ * column list or a record literal, which takes the place of the placeholder identifier in the generated source.
+ *
+ * @param <T> type of the template node
+ * @since 0.1.0
+ */
+public class NodeTemplate<T extends Node> {
+
+    private static final String PLACEHOLDER_FORMAT = "__persist_arg_%d__";
+
+    private final T node;
+    private final String[] placeholders;
+
+    private NodeTemplate(String template, int argumentCount, Function<String, T> parser) {
+        this.placeholders = new String[argumentCount];
+        for (int i = 0; i < argumentCount; i++) {
+            this.placeholders[i] = String.format(PLACEHOLDER_FORMAT, i);
+        }
+        this.node = parser.apply(String.format(template, (Object[]) placeholders));
+    }
+
+    public static NodeTemplate<StatementNode> statement(String template, int argumentCount) {
+        return new NodeTemplate<>(template, argumentCount, NodeParser::parseStatement);
+    }
+
+    public static NodeTemplate<ExpressionNode> expression(String template, int argumentCount) {
+        return new NodeTemplate<>(template, argumentCount, NodeParser::parseExpression);
+    }
+
+    public static NodeTemplate<TypeDescriptorNode> typeDescriptor(String template, int argumentCount) {
+        return new NodeTemplate<>(template, argumentCount, NodeParser::parseTypeDescriptor);
+    }
+
+    public static NodeTemplate<Node> objectMember(String template, int argumentCount) {
+        return new NodeTemplate<>(template, argumentCount, NodeParser::parseObjectMember);
+    }
+
+    public static NodeTemplate<ModuleMemberDeclarationNode> moduleMember(String template, int argumentCount) {
+        return new NodeTemplate<>(template, argumentCount, NodeParser::parseModuleMemberDeclaration);
+    }
+
+    /**
+     * Returns the template node with the placeholders replaced by the given values.
+     */
+    @SuppressWarnings("unchecked")
+    public T apply(String... values) {
+        if (values.length != placeholders.length) {
+            throw new IllegalArgumentException(String.format("Expected %d template arguments, but found %d.",
+                    placeholders.length, values.length));
+        }
+        if (values.length == 0) {
+            return node;
+        }
+        return (T) node.apply(new PlaceholderModifier(placeholders, values));
+    }
+
+    private static class PlaceholderModifier extends TreeModifier {
+
+        private final String[] placeholders;
+        private final String[] values;
+
+        PlaceholderModifier(String[] placeholders, String[] values) {
+            this.placeholders = placeholders;
+            this.values = values;
+        }
+
+        @Override
+        public IdentifierToken transform(IdentifierToken identifier) {
+            String text = replacePlaceholders(identifier.text());
+            if (text.equals(identifier.text())) {
+                return identifier;
+            }
+            return AbstractNodeFactory.createIdentifierToken(text, identifier.leadingMinutiae(),
+                    identifier.trailingMinutiae());
+        }
+
+        @Override
+        public Token transform(Token token) {
+            if (token.kind() != SyntaxKind.STRING_LITERAL_TOKEN && token.kind() != SyntaxKind.TEMPLATE_STRING) {
+                return token;
+            }
+            String text = replacePlaceholders(token.text());
+            if (text.equals(token.text())) {
+                return token;
+            }
+            return AbstractNodeFactory.createLiteralValueToken(token.kind(), text, token.leadingMinutiae(),
+                    token.trailingMinutiae());
+        }
+
+        private String replacePlaceholders(String text) {
+            String replacedText = text;
+            for (int i = 0; i < placeholders.length; i++) {
+                replacedText = replacedText.replace(placeholders[i], values[i]);
+            }
+            return replacedText;
+        }
+    }
+}
@@ -41,6 +41,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static io.ballerina.persist.PersistToolsConstants.DEFAULT_DATABASE;
 import static io.ballerina.persist.PersistToolsConstants.DEFAULT_HOST;
@@ -65,6 +66,8 @@ import static io.ballerina.persist.PersistToolsConstants.SUPPORTED_DB_PROVIDERS;
 public class TomlSyntaxGenerator {
 
     public static final String REGEX_TOML_TABLE_NAME_SPLITTER = "\\.";
+    private static final String PACKAGE_TABLE = "package";
+    private static final String KEY_NAME = "name";
 
     private TomlSyntaxGenerator() {
     }
@@ -94,42 +97,95 @@ public class TomlSyntaxGenerator {
             throws BalException {
         try {
             TextDocument configDocument = TextDocuments.from(Files.readString(configPath));
-            SyntaxTree syntaxTree = SyntaxTree.from(configDocument);
-            DocumentNode rootNote = syntaxTree.rootNode();
-            NodeList<DocumentMemberDeclarationNode> nodeList = rootNote.members();
-            PersistConfiguration configuration = new PersistConfiguration();
-            boolean dbConfigExists = false;
-            for (DocumentMemberDeclarationNode member : nodeList) {
-                if (member instanceof TableNode) {
-                    TableNode node = (TableNode) member;
-                    String tableName = node.identifier().toSourceCode().trim();
-                    if (tableName.startsWith(String.format(PERSIST_CONFIG_PATTERN, schemaName))) {
-                        String[] nameParts = tableName.split(REGEX_TOML_TABLE_NAME_SPLITTER);
-                        if (nameParts.length > 3 && SUPPORTED_DB_PROVIDERS.contains(nameParts[3])) {
-                            configuration.setProvider(nameParts[3]);
-                            dbConfigExists = true;
-                            DatabaseConfiguration databaseConfiguration = new DatabaseConfiguration(
-                                    schemaName, node.fields());
-                            configuration.setDbConfig(databaseConfiguration);
-                        } else {
-                            throw new BalException("Database is not configured properly\n" +
-                                    "You should give the correct database configurations " +
-                                    "with database name to create tables.");
-                        }
-                    }
+            return readPersistConfigurations(schemaName, SyntaxTree.from(configDocument));
+        } catch (IOException e) {
+            throw new BalException("Error while reading configurations. " + e.getMessage());
+        }
+    }
 
+    /**
+     * Method to read the persist configurations of the given data model from the parsed Ballerina.toml.
+     */
+    public static PersistConfiguration readPersistConfigurations(String schemaName, SyntaxTree syntaxTree)
+            throws BalException {
+        DocumentNode rootNote = syntaxTree.rootNode();
+        NodeList<DocumentMemberDeclarationNode> nodeList = rootNote.members();
+        PersistConfiguration configuration = new PersistConfiguration();
+        boolean dbConfigExists = false;
+        for (DocumentMemberDeclarationNode member : nodeList) {
+            if (member instanceof TableNode) {
+                TableNode node = (TableNode) member;
+                String tableName = node.identifier().toSourceCode().trim();
+                if (tableName.startsWith(String.format(PERSIST_CONFIG_PATTERN, schemaName))) {
+                    String[] nameParts = tableName.split(REGEX_TOML_TABLE_NAME_SPLITTER);
+                    if (nameParts.length > 3 && SUPPORTED_DB_PROVIDERS.contains(nameParts[3])) {
+                        configuration.setProvider(nameParts[3]);
+                        dbConfigExists = true;
+                        DatabaseConfiguration databaseConfiguration = new DatabaseConfiguration(
+                                schemaName, node.fields());
+                        configuration.setDbConfig(databaseConfiguration);
+                    } else {
+                        throw new BalException("Database is not configured properly\n" +
+                                "You should give the correct database configurations " +
+                                "with database name to create tables.");
+                    }
                 }
+
             }
-            if (!dbConfigExists) {
-                throw new BalException("The persist tool config doesn't exist in the Ballerina.toml.\n" +
-                        "You should add [persist.<model_name>.storage.<provider>] table with db configurations.");
+        }
+        if (!dbConfigExists) {
+            throw new BalException("The persist tool config doesn't exist in the Ballerina.toml.\n" +
+                    "You should add [persist.<model_name>.storage.<provider>] table with db configurations.");
+        }
+        return configuration;
+    }
+
+    /**
+     * Method to read the package name from the parsed Ballerina.toml.
+     */
+    public static Optional<String> readPackageName(SyntaxTree syntaxTree) {
+        for (DocumentMemberDeclarationNode member : syntaxTree.rootNode().members()) {
+            if (member instanceof TableNode) {
+                TableNode node = (TableNode) member;
+                if (!node.identifier().toSourceCode().trim().equals(PACKAGE_TABLE)) {
+                    continue;
+                }
+                for (KeyValueNode field : node.fields()) {
+                    if (field.identifier().toSourceCode().trim().equals(KEY_NAME)) {
+                        return Optional.of(field.value().toSourceCode().replaceAll("\"", "").trim());
+                    }
+                }
             }
-            return configuration;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Method to read the source of the persist configuration tables of the given data model in Ballerina.toml.
+     */
+    public static String readPersistConfigurationSource(String schemaName, Path configPath) throws BalException {
+        try {
+            TextDocument configDocument = TextDocuments.from(Files.readString(configPath));
+            return readPersistConfigurationSource(schemaName, SyntaxTree.from(configDocument));
         } catch (IOException e) {
             throw new BalException("Error while reading configurations. " + e.getMessage());
         }
     }
 
+    public static String readPersistConfigurationSource(String schemaName, SyntaxTree syntaxTree) {
+        StringBuilder configSource = new StringBuilder();
+        for (DocumentMemberDeclarationNode member : syntaxTree.rootNode().members()) {
+            if (member instanceof TableNode) {
+                TableNode node = (TableNode) member;
+                String tableName = node.identifier().toSourceCode().trim();
+                if (tableName.startsWith(String.format(PERSIST_CONFIG_PATTERN, schemaName))) {
+                    configSource.append(node.toSourceCode());
+                }
+            }
+        }
+        return configSource.toString();
+    }
+
     /**
      * Method to update the Config.toml with database configurations.
      */
@@ -20,6 +20,7 @@ package io.ballerina.persist.utils;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.persist.BalException;
+import io.ballerina.persist.PersistToolsConstants;
 import io.ballerina.persist.models.Module;
 import io.ballerina.persist.nodegenerator.BalSyntaxGenerator;
 import io.ballerina.projects.DiagnosticResult;
@@ -32,6 +33,8 @@ import io.ballerina.tools.text.TextDocuments;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import static io.ballerina.persist.nodegenerator.BalSyntaxGenerator.inferRelationDetails;
 
@@ -46,30 +49,96 @@ public class BalProjectUtils {
     private BalProjectUtils() {}
 
     public static Module getEntities(Path schemaFile) throws BalException {
-        Path schemaFilename = schemaFile.getFileName();
-        String moduleName;
-        if (schemaFilename != null) {
-            moduleName = schemaFilename.toString().substring(0, schemaFilename.toString().lastIndexOf('.'));
-        } else {
-            throw new BalException("The model definition file name is invalid.");
+        return getEntities(schemaFile, new PhaseProfiler(PersistToolsConstants.COMPONENT_IDENTIFIER, false));
+    }
+
+    public static Module getEntities(Path schemaFile, PhaseProfiler profiler) throws BalException {
+        String schemaSource;
+        try {
+            schemaSource = Files.readString(schemaFile);
+        } catch (IOException e) {
+            throw new BalException(e.getMessage());
         }
-        Module.Builder moduleBuilder = Module.newBuilder(moduleName);
+        String moduleName = getModuleName(schemaFile);
+        SyntaxTree balSyntaxTree;
+        try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.POPULATE_ENTITIES)) {
+            balSyntaxTree = SyntaxTree.from(TextDocuments.from(schemaSource));
+        }
+        return getEntities(moduleName, balSyntaxTree, profiler);
+    }
 
+    private static Module getEntities(String moduleName, SyntaxTree balSyntaxTree, PhaseProfiler profiler)
+            throws BalException {
+        Module.Builder moduleBuilder = Module.newBuilder(moduleName);
         try {
-            SyntaxTree balSyntaxTree = SyntaxTree.from(TextDocuments.from(Files.readString(schemaFile)));
-            BalSyntaxGenerator.populateEntities(moduleBuilder, balSyntaxTree);
-            Module entityModule = moduleBuilder.build();
-            inferRelationDetails(entityModule);
+            Module entityModule;
+            try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.POPULATE_ENTITIES)) {
+                BalSyntaxGenerator.populateEntities(moduleBuilder, balSyntaxTree);
+                entityModule = moduleBuilder.build();
+            }
+            try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.INFER_RELATIONS)) {
+                inferRelationDetails(entityModule);
+            }
             return entityModule;
         } catch (IOException | BalException | RuntimeException e) {
             throw new BalException(e.getMessage());
         }
     }
 
+    /**
+     * Returns the validated entities of the model definition file. The entities are loaded from the model snapshot
+     * if the model definition file is not changed since the snapshot is written. Otherwise, the model definition file
+     * is parsed and validated, and the snapshot is updated. The model definition file is validated with the
+     * {@link ModelValidator}, and compiled only if it has errors, to report the diagnostics of the compiler, or if it
+     * has parts which can't be validated on the syntax tree.
+     */
+    public static Module loadEntities(ProjectContext context, Path schemaFile, String schemaSource)
+            throws BalException {
+        Path projectPath = context.getProjectPath();
+        PhaseProfiler profiler = context.getProfiler();
+        String moduleName = getModuleName(schemaFile);
+        String fingerprint = ModelSnapshot.computeFingerprint(schemaSource);
+        Optional<Module> snapshot;
+        try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.LOAD_SNAPSHOT)) {
+            snapshot = ModelSnapshot.load(projectPath, moduleName, fingerprint);
+        }
+        if (snapshot.isPresent()) {
+            return snapshot.get();
+        }
+        SyntaxTree balSyntaxTree;
+        try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.VALIDATE_MODEL)) {
+            balSyntaxTree = SyntaxTree.from(TextDocuments.from(schemaSource));
+            String fileName = String.valueOf(schemaFile.getFileName());
+            ModelValidator validator = ModelValidator.validate(balSyntaxTree, fileName);
+            List<String> errors = validator.getErrors();
+            if (!errors.isEmpty()) {
+                validateCompilation(schemaFile, context.compileModel(schemaFile, schemaSource));
+                StringBuilder errorMessage = new StringBuilder();
+                errorMessage.append(String.format("The model definition file(%s) has errors.", fileName));
+                for (String error : errors) {
+                    errorMessage.append(System.lineSeparator());
+                    errorMessage.append(error);
+                }
+                throw new BalException(errorMessage.toString());
+            }
+            if (validator.isCompilationRequired()) {
+                validateCompilation(schemaFile, context.compileModel(schemaFile, schemaSource));
+            }
+        }
+        Module entityModule = getEntities(moduleName, balSyntaxTree, profiler);
+        try (PhaseProfiler.Phase phase = profiler.start(moduleName, PhaseProfiler.WRITE_FILES)) {
+            ModelSnapshot.save(projectPath, entityModule, fingerprint);
+        }
+        return entityModule;
+    }
+
     public static void validateSchemaFile(Path schemaPath) throws BalException {
         SingleFileProject buildProject = SingleFileProject.load(schemaPath.toAbsolutePath());
         Package currentPackage = buildProject.currentPackage();
-        PackageCompilation compilation = currentPackage.getCompilation();
+        validateCompilation(schemaPath, currentPackage.getCompilation());
+    }
+
+    private static void validateCompilation(Path schemaPath, PackageCompilation compilation) throws BalException {
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
         if (diagnosticResult.hasErrors()) {
             StringBuilder errorMessage = new StringBuilder();
@@ -85,4 +154,12 @@ public class BalProjectUtils {
             }
         }
     }
+
+    private static String getModuleName(Path schemaFile) throws BalException {
+        Path schemaFilename = schemaFile.getFileName();
+        if (schemaFilename == null) {
+            throw new BalException("The model definition file name is invalid.");
+        }
+        return schemaFilename.toString().substring(0, schemaFilename.toString().lastIndexOf('.'));
+    }
 }
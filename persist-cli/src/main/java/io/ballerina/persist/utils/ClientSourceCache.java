@@ -0,0 +1,509 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.compiler.syntax.tree.AssignmentStatementNode;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
+import io.ballerina.compiler.syntax.tree.MappingFieldNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.ObjectFieldNode;
+import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.models.Entity;
+import io.ballerina.persist.models.EntityField;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.models.Relation;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import static io.ballerina.persist.PersistToolsConstants.PERSIST_DIRECTORY;
+import static io.ballerina.projects.util.ProjectConstants.TARGET_DIR_NAME;
+
+/**
+ * Cache of the formatted client source of a data model, kept inside the target directory of the project. The source
+ * is split into the fragments generated for each entity, such as the entity name constant, the metadata and the
+ * resource functions of the entity, and the text in between them. The fragments of an entity are keyed by the hash
+ * of the entity and the keys of its relations, so that only the fragments of the changed entities are generated and
+ * formatted again, and spliced into the cached source.
+ * <p>
+ * Each fragment is mapped to its entity by the resource name of the entity, which is the value of the entity name
+ * constant, the key of the metadata and client map fields, and the first segment of the resource path. If a fragment
+ * can't be mapped to an entity, the source is not cached and the whole client is generated.
+ *
+ * @since 0.1.0
+ */
+public class ClientSourceCache {
+
+    private static final int MAGIC = 0x50434C53;
+    private static final int FORMAT_VERSION = 1;
+    private static final String CACHE_FILE_EXTENSION = ".client";
+    private static final String METADATA_FIELD = "metadata";
+    private static final String INIT_FUNCTION = "init";
+
+    private final Path cachePath;
+    private final Module entityModule;
+    private final List<Entity> entities;
+    private final String moduleKey;
+    private final List<String> entityKeys;
+    private List<String> separators = new ArrayList<>();
+    private List<Integer> slots = new ArrayList<>();
+    private List<String> cachedKeys = new ArrayList<>();
+    private List<List<String>> fragments = new ArrayList<>();
+
+    private ClientSourceCache(Path cachePath, Module entityModule, String moduleKey, List<String> entityKeys) {
+        this.cachePath = cachePath;
+        this.entityModule = entityModule;
+        this.entities = new ArrayList<>(entityModule.getEntityMap().values());
+        this.moduleKey = moduleKey;
+        this.entityKeys = entityKeys;
+    }
+
+    /**
+     * Loads the cached client source of the given data model. The cache is discarded if the entities of the data
+     * model are added, removed or reordered, or if the client is generated with a different layout.
+     */
+    public static ClientSourceCache load(Path projectPath, Module entityModule, boolean perEntityLayout)
+            throws BalException {
+        List<String> entityNames = new ArrayList<>();
+        List<String> entityKeys = new ArrayList<>();
+        for (Entity entity : entityModule.getEntityMap().values()) {
+            entityNames.add(entity.getEntityName());
+            entityKeys.add(GenerationManifest.computeFingerprint(describeEntity(entity)));
+        }
+        String moduleKey = GenerationManifest.computeFingerprint(Integer.toString(FORMAT_VERSION),
+                entityModule.getModuleName(), entityModule.getClientName(), String.valueOf(perEntityLayout),
+                String.join(",", new TreeSet<>(entityModule.getImportModulePrefixes())),
+                String.join(",", entityNames));
+        Path cachePath = projectPath.toAbsolutePath().resolve(TARGET_DIR_NAME).resolve(PERSIST_DIRECTORY)
+                .resolve(entityModule.getModuleName() + CACHE_FILE_EXTENSION);
+        ClientSourceCache cache = new ClientSourceCache(cachePath, entityModule, moduleKey, entityKeys);
+        if (Files.isRegularFile(cachePath)) {
+            try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(
+                    cachePath)))) {
+                if (input.readInt() == MAGIC && input.readInt() == FORMAT_VERSION &&
+                        input.readUTF().equals(moduleKey)) {
+                    cache.read(input);
+                }
+            } catch (IOException | RuntimeException e) {
+                cache.clear();
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the data model to generate the client from, so that the fragments of the changed entities can be
+     * spliced into the cached source. The data model contains the changed entities and, if there is only one,
+     * another entity, so that the fragments are formatted the same way as in the client of all the entities. An
+     * empty value is returned if the whole client has to be generated.
+     */
+    public Optional<Module> getPartialModule() {
+        if (fragments.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Integer> changedEntities = getChangedEntities();
+        if (changedEntities.size() == entities.size()) {
+            return Optional.empty();
+        }
+        Module.Builder moduleBuilder = Module.newBuilder(entityModule.getModuleName());
+        entityModule.getImportModulePrefixes().forEach(moduleBuilder::addImportModulePrefix);
+        int paddingEntity = changedEntities.size() == 1 ? (changedEntities.get(0) == 0 ? 1 : 0) : -1;
+        for (int i = 0; i < entities.size(); i++) {
+            if (i == paddingEntity || changedEntities.contains(i)) {
+                moduleBuilder.addEntity(entities.get(i).getEntityName(), entities.get(i));
+            }
+        }
+        return Optional.of(moduleBuilder.build());
+    }
+
+    /**
+     * Returns true if the fragments of all the entities are cached.
+     */
+    public boolean isUpToDate() {
+        return !fragments.isEmpty() && getChangedEntities().isEmpty();
+    }
+
+    /**
+     * Replaces the fragments of the changed entities with the fragments of the given client source, which is
+     * generated from the partial data model.
+     *
+     * @return false if the fragments cannot be found in the given source
+     */
+    public boolean splice(Module partialModule, String partialSource) {
+        List<Entity> partialEntities = new ArrayList<>(partialModule.getEntityMap().values());
+        Optional<List<Fragment>> partialFragments = findFragments(partialSource, partialModule);
+        if (!partialFragments.isPresent()) {
+            return false;
+        }
+        List<List<String>> entityFragments = groupFragments(partialSource, partialFragments.get(),
+                partialEntities.size());
+        List<Integer> changedEntities = getChangedEntities();
+        for (int i = 0; i < partialEntities.size(); i++) {
+            int entityIndex = entities.indexOf(partialEntities.get(i));
+            if (changedEntities.contains(entityIndex)) {
+                if (entityFragments.get(i).size() != fragments.get(entityIndex).size()) {
+                    return false;
+                }
+                fragments.set(entityIndex, entityFragments.get(i));
+                cachedKeys.set(entityIndex, entityKeys.get(entityIndex));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the cached source with the given client source, which is generated from the whole data model.
+     */
+    public void update(String source) {
+        Optional<List<Fragment>> sourceFragments = findFragments(source, entityModule);
+        if (!sourceFragments.isPresent()) {
+            clear();
+            return;
+        }
+        separators = new ArrayList<>();
+        slots = new ArrayList<>();
+        int position = 0;
+        for (Fragment fragment : sourceFragments.get()) {
+            separators.add(source.substring(position, fragment.start));
+            slots.add(fragment.entity);
+            position = fragment.end;
+        }
+        separators.add(source.substring(position));
+        fragments = groupFragments(source, sourceFragments.get(), entities.size());
+        cachedKeys = new ArrayList<>(entityKeys);
+    }
+
+    /**
+     * Returns the client source assembled from the cached fragments.
+     */
+    public String getSource() {
+        StringBuilder source = new StringBuilder(separators.get(0));
+        int[] positions = new int[entities.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            int entity = slots.get(i);
+            source.append(fragments.get(entity).get(positions[entity]++));
+            source.append(separators.get(i + 1));
+        }
+        return source.toString();
+    }
+
+    /**
+     * Writes the cache. The cache is only used to speed up the generation, hence a failure to write it is ignored.
+     */
+    public void save() {
+        try {
+            if (fragments.isEmpty()) {
+                Files.deleteIfExists(cachePath);
+                return;
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (DataOutputStream output = new DataOutputStream(buffer)) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(moduleKey);
+                output.writeInt(separators.size());
+                for (String separator : separators) {
+                    writeString(output, separator);
+                }
+                output.writeInt(slots.size());
+                for (int slot : slots) {
+                    output.writeInt(slot);
+                }
+                for (int i = 0; i < entities.size(); i++) {
+                    output.writeUTF(cachedKeys.get(i));
+                    output.writeInt(fragments.get(i).size());
+                    for (String fragment : fragments.get(i)) {
+                        writeString(output, fragment);
+                    }
+                }
+            }
+            Files.createDirectories(cachePath.getParent());
+            FileUtils.writeIfChanged(cachePath, buffer.toByteArray());
+        } catch (IOException e) {
+            // The whole client is generated in the next generation.
+        }
+    }
+
+    private void read(DataInputStream input) throws IOException {
+        int separatorCount = input.readInt();
+        for (int i = 0; i < separatorCount; i++) {
+            separators.add(readString(input));
+        }
+        int slotCount = input.readInt();
+        for (int i = 0; i < slotCount; i++) {
+            int slot = input.readInt();
+            if (slot < 0 || slot >= entities.size()) {
+                throw new IOException("Invalid fragment of the entity " + slot);
+            }
+            slots.add(slot);
+        }
+        for (int i = 0; i < entities.size(); i++) {
+            cachedKeys.add(input.readUTF());
+            int fragmentCount = input.readInt();
+            List<String> entityFragments = new ArrayList<>(fragmentCount);
+            for (int j = 0; j < fragmentCount; j++) {
+                entityFragments.add(readString(input));
+            }
+            fragments.add(entityFragments);
+        }
+        if (separatorCount != slotCount + 1) {
+            throw new IOException("Invalid number of fragments");
+        }
+    }
+
+    private void clear() {
+        separators = new ArrayList<>();
+        slots = new ArrayList<>();
+        cachedKeys = new ArrayList<>();
+        fragments = new ArrayList<>();
+    }
+
+    private List<Integer> getChangedEntities() {
+        List<Integer> changedEntities = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            if (!entityKeys.get(i).equals(cachedKeys.get(i))) {
+                changedEntities.add(i);
+            }
+        }
+        return changedEntities;
+    }
+
+    /**
+     * Describes everything the client fragments of an entity are generated from. The key columns of the relations
+     * are part of the description, hence a change in the keys of a related entity changes the entity as well.
+     */
+    private static String describeEntity(Entity entity) {
+        StringBuilder description = new StringBuilder();
+        description.append(entity.getEntityName()).append('|').append(entity.getResourceName());
+        for (EntityField field : entity.getFields()) {
+            description.append('|').append(field.getFieldName()).append(':').append(field.getFieldType())
+                    .append(field.isArrayType() ? "[]" : "").append(field.isOptionalType() ? "?" : "");
+            Relation relation = field.getRelation();
+            if (relation != null) {
+                description.append('>').append(relation.getAssocEntity().getEntityName()).append(',')
+                        .append(relation.getRelationType().name()).append(',').append(relation.isOwner());
+                for (Relation.Key key : relation.getKeyColumns()) {
+                    description.append(',').append(key.getField()).append('=').append(key.getReference())
+                            .append(':').append(key.getType());
+                }
+                for (String reference : relation.getReferences()) {
+                    description.append(',').append(reference);
+                }
+            }
+        }
+        description.append("|keys");
+        for (EntityField key : entity.getKeys()) {
+            description.append('|').append(key.getFieldName());
+        }
+        return description.toString();
+    }
+
+    /**
+     * Finds the fragments of the entities in the given client source, in the order of the source. The fragments are
+     * the module members before and after the client object, the fields of the metadata record and of the client
+     * map of the init function, and the resource functions.
+     */
+    private static Optional<List<Fragment>> findFragments(String source, Module entityModule) {
+        List<Entity> entities = new ArrayList<>(entityModule.getEntityMap().values());
+        if (entities.isEmpty()) {
+            return Optional.empty();
+        }
+        ModulePartNode modulePartNode = SyntaxTree.from(TextDocuments.from(source)).rootNode();
+        List<Node> membersBeforeClient = new ArrayList<>();
+        List<Node> membersAfterClient = new ArrayList<>();
+        ClassDefinitionNode clientNode = null;
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (clientNode == null && member.kind() == SyntaxKind.CLASS_DEFINITION &&
+                    ((ClassDefinitionNode) member).className().text().equals(entityModule.getClientName())) {
+                clientNode = (ClassDefinitionNode) member;
+            } else if (clientNode == null) {
+                membersBeforeClient.add(member);
+            } else {
+                membersAfterClient.add(member);
+            }
+        }
+        if (clientNode == null) {
+            return Optional.empty();
+        }
+        List<Fragment> fragments = new ArrayList<>();
+        List<Node> resourceFunctions = new ArrayList<>();
+        int mappings = 0;
+        for (Node member : clientNode.members()) {
+            if (member.kind() == SyntaxKind.OBJECT_FIELD &&
+                    ((ObjectFieldNode) member).fieldName().text().equals(METADATA_FIELD)) {
+                Optional<ExpressionNode> metadata = ((ObjectFieldNode) member).expression();
+                if (!metadata.isPresent() || !addMappingFields(fragments, metadata.get(), entities)) {
+                    return Optional.empty();
+                }
+                mappings++;
+            } else if (member.kind() == SyntaxKind.OBJECT_METHOD_DEFINITION &&
+                    ((FunctionDefinitionNode) member).functionName().text().equals(INIT_FUNCTION) &&
+                    ((FunctionDefinitionNode) member).functionBody().kind() == SyntaxKind.FUNCTION_BODY_BLOCK) {
+                for (StatementNode statement :
+                        ((FunctionBodyBlockNode) ((FunctionDefinitionNode) member).functionBody()).statements()) {
+                    if (statement.kind() == SyntaxKind.ASSIGNMENT_STATEMENT) {
+                        ExpressionNode value = ((AssignmentStatementNode) statement).expression();
+                        if (value.kind() == SyntaxKind.MAPPING_CONSTRUCTOR) {
+                            if (!addMappingFields(fragments, value, entities)) {
+                                return Optional.empty();
+                            }
+                            mappings++;
+                        }
+                    }
+                }
+            } else if (member.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+                resourceFunctions.add(member);
+            }
+        }
+        if (mappings != 2 || !addMembers(fragments, membersBeforeClient, entities) ||
+                !addMembers(fragments, resourceFunctions, entities) ||
+                !addMembers(fragments, membersAfterClient, entities)) {
+            return Optional.empty();
+        }
+        fragments.sort(Comparator.comparingInt(fragment -> fragment.start));
+        return Optional.of(fragments);
+    }
+
+    private static boolean addMappingFields(List<Fragment> fragments, ExpressionNode expression,
+                                            List<Entity> entities) {
+        if (expression.kind() != SyntaxKind.MAPPING_CONSTRUCTOR) {
+            return false;
+        }
+        List<Node> fields = new ArrayList<>();
+        for (MappingFieldNode field : ((MappingConstructorExpressionNode) expression).fields()) {
+            fields.add(field);
+        }
+        return fields.size() == entities.size() && addMembers(fragments, fields, entities);
+    }
+
+    private static boolean addMembers(List<Fragment> fragments, List<Node> members, List<Entity> entities) {
+        for (Node member : members) {
+            int entity = getEntityIndex(member, entities);
+            if (entity < 0) {
+                return false;
+            }
+            fragments.add(new Fragment(entity, member.textRange().startOffset(), member.textRange().endOffset()));
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the entity a fragment is generated for, or -1 if the fragment is not generated for an
+     * entity.
+     */
+    private static int getEntityIndex(Node member, List<Entity> entities) {
+        String name;
+        switch (member.kind()) {
+            case CONST_DECLARATION:
+                name = ((ConstantDeclarationNode) member).initializer().toSourceCode();
+                break;
+            case SPECIFIC_FIELD:
+                name = ((SpecificFieldNode) member).fieldName().toSourceCode();
+                break;
+            case RESOURCE_ACCESSOR_DEFINITION:
+                NodeList<Node> resourcePath = ((FunctionDefinitionNode) member).relativeResourcePath();
+                if (resourcePath.isEmpty()) {
+                    return -1;
+                }
+                name = resourcePath.get(0).toSourceCode();
+                break;
+            default:
+                return -1;
+        }
+        name = stripQuotes(name.trim());
+        for (int i = 0; i < entities.size(); i++) {
+            if (stripQuotes(entities.get(i).getResourceName()).equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String stripQuotes(String name) {
+        if (name.length() > 1 && name.startsWith("\"") && name.endsWith("\"")) {
+            return name.substring(1, name.length() - 1);
+        }
+        return name.startsWith("'") ? name.substring(1) : name;
+    }
+
+    private static List<List<String>> groupFragments(String source, List<Fragment> fragments, int entityCount) {
+        List<List<String>> entityFragments = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            entityFragments.add(new ArrayList<>());
+        }
+        for (Fragment fragment : fragments) {
+            entityFragments.get(fragment.entity).add(source.substring(fragment.start, fragment.end));
+        }
+        return entityFragments;
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length > input.available()) {
+            throw new IOException("Invalid length of the fragment " + length);
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static class Fragment {
+
+        private final int entity;
+        private final int start;
+        private final int end;
+
+        Fragment(int entity, int start, int end) {
+            this.entity = entity;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
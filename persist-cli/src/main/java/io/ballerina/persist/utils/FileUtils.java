@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Utility methods to write the files generated by the persist tool.
+ *
+ * @since 0.1.0
+ */
+public class FileUtils {
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private FileUtils() {
+    }
+
+    /**
+     * Writes the given content to the file only if the content of the file is different. The content is written to
+     * a temporary file in the same directory, which is then moved over the target file, so that readers never see
+     * a partially written file.
+     * <p>
+     * If the path is a symbolic link, the file it points to is replaced and the link is kept. The temporary file gets
+     * the POSIX permissions of the replaced file before any content is written to it, so that files such as a
+     * Config.toml readable only by its owner stay that way.
+     *
+     * @return true if the file is written, false if the file already had the same content
+     */
+    public static boolean writeIfChanged(Path path, String content) throws IOException {
+        return writeIfChanged(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static boolean writeIfChanged(Path path, byte[] bytes) throws IOException {
+        if (Files.isRegularFile(path) && Files.size(path) == bytes.length &&
+                Arrays.equals(Files.readAllBytes(path), bytes)) {
+            return false;
+        }
+        Path targetPath = Files.exists(path) ? path.toRealPath() : path.toAbsolutePath();
+        Path parent = Objects.requireNonNull(targetPath.getParent());
+        Path tempFile = parent.resolve("." + targetPath.getFileName() + "." + UUID.randomUUID() +
+                TEMP_FILE_SUFFIX);
+        try {
+            Files.createFile(tempFile);
+            copyPermissions(targetPath, tempFile);
+            try (OutputStream outputStream = Files.newOutputStream(tempFile, WRITE)) {
+                outputStream.write(bytes);
+            }
+            try {
+                Files.move(tempFile, targetPath, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, targetPath, REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return true;
+    }
+
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (Files.exists(source) && Files.getFileAttributeView(source, PosixFileAttributeView.class) != null) {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.persist.BalException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+
+import static io.ballerina.persist.PersistToolsConstants.PERSIST_DIRECTORY;
+import static io.ballerina.projects.util.ProjectConstants.TARGET_DIR_NAME;
+
+/**
+ * Keeps track of the inputs used to generate the sources of each data model, so that unchanged models can be
+ * skipped by the `persist generate` command.
+ *
+ * @since 0.1.0
+ */
+public class GenerationManifest {
+
+    private static final String MANIFEST_FILE = "generate.manifest";
+    private static final String VERSION_PROPERTIES = "/version.properties";
+    private static final String VERSION_KEY = "version";
+    private static final String BUILD_HASH_KEY = "buildHash";
+    private static final Properties VERSION = loadVersion();
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final Path manifestPath;
+    private final Properties entries;
+    private boolean modified;
+
+    private GenerationManifest(Path manifestPath, Properties entries) {
+        this.manifestPath = manifestPath;
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the manifest kept inside the target directory of the given project. An empty manifest is returned if
+     * the manifest doesn't exist or cannot be read.
+     */
+    public static GenerationManifest load(Path projectPath) {
+        Path manifestPath = projectPath.toAbsolutePath().resolve(TARGET_DIR_NAME).resolve(PERSIST_DIRECTORY)
+                .resolve(MANIFEST_FILE);
+        Properties entries = new Properties();
+        if (Files.isRegularFile(manifestPath)) {
+            try (Reader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+                entries.load(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                entries.clear();
+            }
+        }
+        return new GenerationManifest(manifestPath, entries);
+    }
+
+    public boolean isUpToDate(String moduleName, String fingerprint) {
+        return fingerprint.equals(entries.getProperty(moduleName));
+    }
+
+    public void update(String moduleName, String fingerprint) {
+        entries.setProperty(moduleName, fingerprint);
+        modified = true;
+    }
+
+    public void remove(String moduleName) {
+        if (entries.remove(moduleName) != null) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Returns true if an entry is updated or removed after the manifest is loaded or last saved.
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Writes the manifest through a temporary file, so that an interrupted write never leaves a truncated manifest.
+     */
+    public void save() throws BalException {
+        StringWriter writer = new StringWriter();
+        try {
+            Path parent = manifestPath.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            entries.store(writer, null);
+            FileUtils.writeIfChanged(manifestPath, writer.toString());
+        } catch (IOException e) {
+            throw new BalException("Failed to update the generation manifest. " + e.getMessage());
+        }
+        modified = false;
+    }
+
+    /**
+     * Computes a fingerprint over the given generation inputs. The tool version and the hash of the sources the tool
+     * is built from are always part of the fingerprint, hence a change in the generators changes the fingerprint
+     * even if the tool version is the same.
+     */
+    public static String computeFingerprint(String... inputs) throws BalException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            update(digest, getToolVersion());
+            update(digest, VERSION.getProperty(BUILD_HASH_KEY, ""));
+            for (String input : inputs) {
+                update(digest, input);
+            }
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new BalException("Failed to compute the hash of the data model. " + e.getMessage());
+        }
+    }
+
+    private static void update(MessageDigest digest, String input) {
+        byte[] bytes = (input == null ? "" : input).getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    public static String getToolVersion() {
+        return VERSION.getProperty(VERSION_KEY, "");
+    }
+
+    private static Properties loadVersion() {
+        Properties properties = new Properties();
+        try (InputStream inputStream = GenerationManifest.class.getResourceAsStream(VERSION_PROPERTIES)) {
+            if (inputStream != null) {
+                properties.load(inputStream);
+            }
+        } catch (IOException e) {
+            properties.clear();
+        }
+        return properties;
+    }
+}
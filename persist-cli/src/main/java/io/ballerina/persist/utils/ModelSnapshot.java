@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.models.Entity;
+import io.ballerina.persist.models.EntityField;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.models.Relation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import static io.ballerina.persist.PersistToolsConstants.PERSIST_DIRECTORY;
+import static io.ballerina.projects.util.ProjectConstants.TARGET_DIR_NAME;
+
+/**
+ * Binary snapshot of a resolved data model, kept inside the target directory of the project. The snapshot is keyed
+ * by the fingerprint of the model definition file, so that the later commands can load the entities and their
+ * relations without parsing the model definition file and inferring the relations again.
+ *
+ * @since 0.1.0
+ */
+public class ModelSnapshot {
+
+    private static final int MAGIC = 0x50534E50;
+    private static final int FORMAT_VERSION = 1;
+    private static final String SNAPSHOT_FILE_EXTENSION = ".model";
+    private static final int ARRAY_TYPE = 1;
+    private static final int OPTIONAL_TYPE = 2;
+    private static final int HAS_RELATION = 4;
+
+    private ModelSnapshot() {
+    }
+
+    /**
+     * Computes the fingerprint of a model definition file. The snapshot format version and the tool version are
+     * part of the fingerprint, hence the snapshots written by other versions are never used.
+     */
+    public static String computeFingerprint(String modelSource) throws BalException {
+        return GenerationManifest.computeFingerprint(Integer.toString(FORMAT_VERSION), modelSource);
+    }
+
+    /**
+     * Loads the snapshot of the given data model. An empty value is returned if there is no snapshot with the given
+     * fingerprint or if the snapshot cannot be read.
+     */
+    public static Optional<Module> load(Path projectPath, String moduleName, String fingerprint) {
+        Path snapshotPath = getSnapshotPath(projectPath, moduleName);
+        if (!Files.isRegularFile(snapshotPath)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(
+                snapshotPath)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION ||
+                    !input.readUTF().equals(fingerprint)) {
+                return Optional.empty();
+            }
+            return Optional.of(readModule(input));
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the snapshot of the given data model. The snapshot is only a cache, hence a failure to write it is
+     * ignored.
+     */
+    public static void save(Path projectPath, Module entityModule, String fingerprint) {
+        Path snapshotPath = getSnapshotPath(projectPath, entityModule.getModuleName());
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (DataOutputStream output = new DataOutputStream(buffer)) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(fingerprint);
+                writeModule(output, entityModule);
+            }
+            Files.createDirectories(snapshotPath.getParent());
+            FileUtils.writeIfChanged(snapshotPath, buffer.toByteArray());
+        } catch (IOException e) {
+            // The model is resolved from the model definition file in the next command.
+        }
+    }
+
+    private static Path getSnapshotPath(Path projectPath, String moduleName) {
+        return projectPath.toAbsolutePath().resolve(TARGET_DIR_NAME).resolve(PERSIST_DIRECTORY)
+                .resolve(moduleName + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    private static void writeModule(DataOutputStream output, Module entityModule) throws IOException {
+        output.writeUTF(entityModule.getModuleName());
+        // The prefixes are sorted, so that the same model always results in the same snapshot.
+        TreeSet<String> importModulePrefixes = new TreeSet<>(entityModule.getImportModulePrefixes());
+        output.writeInt(importModulePrefixes.size());
+        for (String modulePrefix : importModulePrefixes) {
+            output.writeUTF(modulePrefix);
+        }
+        output.writeInt(entityModule.getEntityMap().size());
+        for (Entity entity : entityModule.getEntityMap().values()) {
+            output.writeUTF(entity.getEntityName());
+            List<EntityField> fields = entity.getFields();
+            output.writeInt(fields.size());
+            for (EntityField field : fields) {
+                output.writeUTF(field.getFieldName());
+                output.writeUTF(field.getFieldType());
+                output.writeByte((field.isArrayType() ? ARRAY_TYPE : 0) | (field.isOptionalType() ? OPTIONAL_TYPE : 0) |
+                        (field.getRelation() != null ? HAS_RELATION : 0));
+            }
+            output.writeInt(entity.getKeys().size());
+            for (EntityField key : entity.getKeys()) {
+                output.writeInt(fields.indexOf(key));
+            }
+        }
+        // The relations refer to the entities by name, hence they are written after all the entities.
+        for (Entity entity : entityModule.getEntityMap().values()) {
+            for (EntityField field : entity.getFields()) {
+                if (field.getRelation() != null) {
+                    writeRelation(output, field.getRelation());
+                }
+            }
+        }
+    }
+
+    private static void writeRelation(DataOutputStream output, Relation relation) throws IOException {
+        output.writeBoolean(relation.isOwner());
+        output.writeUTF(relation.getRelationType().name());
+        output.writeUTF(relation.getAssocEntity().getEntityName());
+        output.writeInt(relation.getKeyColumns().size());
+        for (Relation.Key key : relation.getKeyColumns()) {
+            output.writeUTF(key.getField());
+            output.writeUTF(key.getReference());
+            output.writeUTF(key.getType());
+        }
+        output.writeInt(relation.getReferences().size());
+        for (String reference : relation.getReferences()) {
+            output.writeUTF(reference);
+        }
+    }
+
+    private static Module readModule(DataInputStream input) throws IOException {
+        Module.Builder moduleBuilder = Module.newBuilder(input.readUTF());
+        int prefixCount = input.readInt();
+        for (int i = 0; i < prefixCount; i++) {
+            moduleBuilder.addImportModulePrefix(input.readUTF());
+        }
+        int entityCount = input.readInt();
+        List<EntityField> relationFields = new ArrayList<>();
+        for (int i = 0; i < entityCount; i++) {
+            Entity.Builder entityBuilder = Entity.newBuilder(input.readUTF());
+            int fieldCount = input.readInt();
+            List<EntityField> fields = new ArrayList<>(fieldCount);
+            for (int j = 0; j < fieldCount; j++) {
+                EntityField.Builder fieldBuilder = EntityField.newBuilder(input.readUTF());
+                fieldBuilder.setType(input.readUTF());
+                int flags = input.readByte();
+                fieldBuilder.setArrayType((flags & ARRAY_TYPE) != 0);
+                fieldBuilder.setOptionalType((flags & OPTIONAL_TYPE) != 0);
+                EntityField field = fieldBuilder.build();
+                if ((flags & HAS_RELATION) != 0) {
+                    relationFields.add(field);
+                }
+                fields.add(field);
+                entityBuilder.addField(field);
+            }
+            int keyCount = input.readInt();
+            List<EntityField> keys = new ArrayList<>(keyCount);
+            for (int j = 0; j < keyCount; j++) {
+                keys.add(fields.get(input.readInt()));
+            }
+            entityBuilder.setKeys(keys);
+            Entity entity = entityBuilder.build();
+            moduleBuilder.addEntity(entity.getEntityName(), entity);
+        }
+        Module entityModule = moduleBuilder.build();
+        for (EntityField field : relationFields) {
+            field.setRelation(readRelation(input, entityModule.getEntityMap()));
+        }
+        return entityModule;
+    }
+
+    private static Relation readRelation(DataInputStream input, Map<String, Entity> entityMap) throws IOException {
+        Relation.Builder relationBuilder = Relation.newBuilder();
+        relationBuilder.setOwner(input.readBoolean());
+        relationBuilder.setRelationType(Relation.RelationType.valueOf(input.readUTF()));
+        String assocEntityName = input.readUTF();
+        Entity assocEntity = entityMap.get(assocEntityName);
+        if (assocEntity == null) {
+            throw new IOException("Unknown associated entity " + assocEntityName);
+        }
+        relationBuilder.setAssocEntity(assocEntity);
+        int keyCount = input.readInt();
+        List<Relation.Key> keys = new ArrayList<>(keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            keys.add(new Relation.Key(input.readUTF(), input.readUTF(), input.readUTF()));
+        }
+        relationBuilder.setKeys(keys);
+        int referenceCount = input.readInt();
+        List<String> references = new ArrayList<>(referenceCount);
+        for (int i = 0; i < referenceCount; i++) {
+            references.add(input.readUTF());
+        }
+        relationBuilder.setReferences(references);
+        return relationBuilder.build();
+    }
+}
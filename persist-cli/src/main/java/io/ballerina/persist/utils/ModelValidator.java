@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.compiler.syntax.tree.ArrayTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.OptionalTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.RecordFieldNode;
+import io.ballerina.compiler.syntax.tree.RecordFieldWithDefaultValueNode;
+import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.compiler.syntax.tree.UnaryExpressionNode;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.LinePosition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.KEYWORD_BALLERINA;
+import static io.ballerina.persist.nodegenerator.BalSyntaxConstants.KEYWORD_PERSIST;
+
+/**
+ * Validates a model definition file against the rules of the persist data model, using only the syntax tree of the
+ * file. The validation covers the syntax errors, the imports, the shape of the entity records, the field types, the
+ * identity fields and the references to the other entities, which makes it much faster than the compilation of the
+ * model definition file. A model definition file with errors should still be compiled to report the diagnostics of
+ * the compiler.
+ * <p>
+ * The default values of the fields are validated only if they are literals. A model definition file with other
+ * default value expressions, or with module members other than the entity types, such as functions and constants,
+ * can't be validated on the syntax tree and requires the compilation.
+ *
+ * @since 0.1.0
+ */
+public class ModelValidator {
+
+    private static final String MODULE_TIME = "time";
+    private static final String IGNORED_PREFIX = "_";
+    private static final Set<String> SUPPORTED_TIME_TYPES = Set.of("Date", "TimeOfDay", "Civil", "Utc");
+
+    private final String fileName;
+    private final List<String> errors = new ArrayList<>();
+    private final Map<String, String> importedModules = new HashMap<>();
+    private final Set<String> entityNames = new HashSet<>();
+    private boolean compilationRequired;
+
+    private ModelValidator(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Validates the given model definition file.
+     */
+    public static ModelValidator validate(SyntaxTree syntaxTree, String fileName) {
+        ModelValidator validator = new ModelValidator(fileName);
+        validator.validate(syntaxTree);
+        return validator;
+    }
+
+    /**
+     * Returns the errors in the model definition file. The list is empty if no error is found on the syntax tree.
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns true if the model definition file has parts which can't be validated on the syntax tree, in which case
+     * the file should be compiled even if no error is found.
+     */
+    public boolean isCompilationRequired() {
+        return compilationRequired;
+    }
+
+    private void validate(SyntaxTree syntaxTree) {
+        for (Diagnostic diagnostic : syntaxTree.diagnostics()) {
+            if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
+                addError(diagnostic.location().lineRange().startLine(), diagnostic.message());
+            }
+        }
+        ModulePartNode rootNode = syntaxTree.rootNode();
+        validateImports(rootNode);
+
+        List<TypeDefinitionNode> typeDefinitions = new ArrayList<>();
+        for (ModuleMemberDeclarationNode member : rootNode.members()) {
+            if (member.kind() != SyntaxKind.TYPE_DEFINITION) {
+                compilationRequired = true;
+                continue;
+            }
+            TypeDefinitionNode typeDefinition = (TypeDefinitionNode) member;
+            String entityName = typeDefinition.typeName().text().trim();
+            if (!entityNames.add(entityName)) {
+                addError(typeDefinition.typeName(), String.format("redeclared symbol '%s'", entityName));
+            }
+            typeDefinitions.add(typeDefinition);
+        }
+        for (TypeDefinitionNode typeDefinition : typeDefinitions) {
+            validateEntity(typeDefinition);
+        }
+
+        Set<String> usedPrefixes = new HashSet<>();
+        rootNode.accept(new NodeVisitor() {
+            @Override
+            public void visit(QualifiedNameReferenceNode qualifiedNameReference) {
+                usedPrefixes.add(qualifiedNameReference.modulePrefix().text());
+            }
+        });
+        for (ImportDeclarationNode importNode : rootNode.imports()) {
+            String prefix = getPrefix(importNode);
+            if (!prefix.equals(IGNORED_PREFIX) && !usedPrefixes.contains(prefix)) {
+                addError(importNode, String.format("unused module prefix '%s'", prefix));
+            }
+        }
+    }
+
+    private void validateImports(ModulePartNode rootNode) {
+        boolean persistImported = false;
+        for (ImportDeclarationNode importNode : rootNode.imports()) {
+            String orgName = importNode.orgName().map(org -> org.orgName().text()).orElse("");
+            StringBuilder moduleName = new StringBuilder();
+            for (IdentifierToken namePart : importNode.moduleName()) {
+                if (moduleName.length() > 0) {
+                    moduleName.append('.');
+                }
+                moduleName.append(namePart.text());
+            }
+            if (orgName.equals(KEYWORD_BALLERINA) && moduleName.toString().equals(KEYWORD_PERSIST)) {
+                persistImported = true;
+            }
+            String prefix = getPrefix(importNode);
+            if (!prefix.equals(IGNORED_PREFIX) && importedModules.put(prefix, orgName + "/" + moduleName) != null) {
+                addError(importNode, String.format("redeclared import module prefix '%s'", prefix));
+            }
+        }
+        if (!persistImported) {
+            errors.add("No import for ballerina/persist found in the file. Please add the import and try again.");
+        }
+    }
+
+    private void validateEntity(TypeDefinitionNode typeDefinition) {
+        String entityName = typeDefinition.typeName().text().trim();
+        if (typeDefinition.typeDescriptor().kind() != SyntaxKind.RECORD_TYPE_DESC) {
+            addError(typeDefinition.typeName(), String.format("the entity '%s' should be a record type", entityName));
+            return;
+        }
+        RecordTypeDescriptorNode recordDesc = (RecordTypeDescriptorNode) typeDefinition.typeDescriptor();
+        if (recordDesc.bodyStartDelimiter().kind() != SyntaxKind.OPEN_BRACE_PIPE_TOKEN ||
+                recordDesc.recordRestDescriptor().isPresent()) {
+            addError(typeDefinition.typeName(), String.format("the entity '%s' should be a closed record",
+                    entityName));
+        }
+        Set<String> fieldNames = new HashSet<>();
+        int identityFields = 0;
+        for (Node field : recordDesc.fields()) {
+            Token fieldName;
+            Node typeName;
+            boolean readonly;
+            ExpressionNode defaultValue = null;
+            if (field.kind() == SyntaxKind.RECORD_FIELD) {
+                RecordFieldNode fieldNode = (RecordFieldNode) field;
+                fieldName = fieldNode.fieldName();
+                typeName = fieldNode.typeName();
+                readonly = fieldNode.readonlyKeyword().isPresent();
+            } else if (field.kind() == SyntaxKind.RECORD_FIELD_WITH_DEFAULT_VALUE) {
+                RecordFieldWithDefaultValueNode fieldNode = (RecordFieldWithDefaultValueNode) field;
+                fieldName = fieldNode.fieldName();
+                typeName = fieldNode.typeName();
+                readonly = fieldNode.readonlyKeyword().isPresent();
+                defaultValue = fieldNode.expression();
+            } else {
+                addError(field, String.format("unsupported field in the entity '%s'", entityName));
+                continue;
+            }
+            if (!fieldNames.add(fieldName.text().trim())) {
+                addError(fieldName, String.format("redeclared symbol '%s'", fieldName.text().trim()));
+            }
+            boolean relation = validateFieldType(typeName, fieldName.text().trim());
+            if (defaultValue != null) {
+                validateDefaultValue(typeName, defaultValue, fieldName.text().trim());
+            }
+            if (readonly) {
+                identityFields++;
+                if (relation) {
+                    addError(fieldName, String.format("the identity field '%s' should not be a relation",
+                            fieldName.text().trim()));
+                }
+            }
+        }
+        if (identityFields == 0) {
+            addError(typeDefinition.typeName(), String.format("the entity '%s' should have at least one identity " +
+                    "readonly field", entityName));
+        }
+    }
+
+    /**
+     * Validates the type of a field.
+     *
+     * @return true if the field refers to another entity
+     */
+    private boolean validateFieldType(Node typeName, String fieldName) {
+        switch (typeName.kind()) {
+            case INT_TYPE_DESC:
+            case BOOLEAN_TYPE_DESC:
+            case DECIMAL_TYPE_DESC:
+            case FLOAT_TYPE_DESC:
+            case STRING_TYPE_DESC:
+            case BYTE_TYPE_DESC:
+                return false;
+            case QUALIFIED_NAME_REFERENCE:
+                QualifiedNameReferenceNode qualifiedName = (QualifiedNameReferenceNode) typeName;
+                String modulePrefix = qualifiedName.modulePrefix().text();
+                String moduleName = importedModules.get(modulePrefix);
+                if (moduleName == null) {
+                    addError(typeName, String.format("undefined module '%s'", modulePrefix));
+                } else if (!moduleName.equals(KEYWORD_BALLERINA + "/" + MODULE_TIME) ||
+                        !SUPPORTED_TIME_TYPES.contains(qualifiedName.identifier().text())) {
+                    addUnsupportedTypeError(typeName, fieldName);
+                }
+                return false;
+            case SIMPLE_NAME_REFERENCE:
+                String referredEntity = ((SimpleNameReferenceNode) typeName).name().text().trim();
+                if (!entityNames.contains(referredEntity)) {
+                    addError(typeName, String.format("unknown type '%s'", referredEntity));
+                }
+                return true;
+            case OPTIONAL_TYPE_DESC:
+                Node optionalType = ((OptionalTypeDescriptorNode) typeName).typeDescriptor();
+                if (optionalType.kind() == SyntaxKind.OPTIONAL_TYPE_DESC ||
+                        optionalType.kind() == SyntaxKind.ARRAY_TYPE_DESC) {
+                    addUnsupportedTypeError(typeName, fieldName);
+                    return false;
+                }
+                return validateFieldType(optionalType, fieldName);
+            case ARRAY_TYPE_DESC:
+                Node memberType = ((ArrayTypeDescriptorNode) typeName).memberTypeDesc();
+                if (memberType.kind() == SyntaxKind.BYTE_TYPE_DESC) {
+                    return false;
+                } else if (memberType.kind() == SyntaxKind.SIMPLE_NAME_REFERENCE) {
+                    return validateFieldType(memberType, fieldName);
+                }
+                addUnsupportedTypeError(typeName, fieldName);
+                return false;
+            default:
+                addUnsupportedTypeError(typeName, fieldName);
+                return false;
+        }
+    }
+
+    /**
+     * Validates the default value of a field. Only the literals are validated against the type of the field, and the
+     * other expressions are left to the compilation.
+     */
+    private void validateDefaultValue(Node typeName, ExpressionNode defaultValue, String fieldName) {
+        SyntaxKind literalKind = getLiteralKind(defaultValue);
+        if (literalKind == null) {
+            compilationRequired = true;
+            return;
+        }
+        if (!isAssignable(typeName, literalKind, defaultValue)) {
+            addError(defaultValue, String.format("incompatible default value for the field '%s' of type '%s'",
+                    fieldName, typeName.toSourceCode().trim()));
+        }
+    }
+
+    /**
+     * Returns the kind of the literal token of a literal expression, or null if the expression is not a literal.
+     * The literal tokens of the numeric literals with a sign are returned as well.
+     */
+    private static SyntaxKind getLiteralKind(ExpressionNode expression) {
+        switch (expression.kind()) {
+            case NUMERIC_LITERAL:
+            case STRING_LITERAL:
+            case BOOLEAN_LITERAL:
+                return ((BasicLiteralNode) expression).literalToken().kind();
+            case NIL_LITERAL:
+            case NULL_LITERAL:
+                return expression.kind();
+            case UNARY_EXPRESSION:
+                UnaryExpressionNode unaryExpression = (UnaryExpressionNode) expression;
+                SyntaxKind operator = unaryExpression.unaryOperator().kind();
+                if ((operator == SyntaxKind.MINUS_TOKEN || operator == SyntaxKind.PLUS_TOKEN) &&
+                        unaryExpression.expression().kind() == SyntaxKind.NUMERIC_LITERAL) {
+                    return ((BasicLiteralNode) unaryExpression.expression()).literalToken().kind();
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isAssignable(Node typeName, SyntaxKind literalKind, ExpressionNode literal) {
+        boolean integer = literalKind == SyntaxKind.DECIMAL_INTEGER_LITERAL_TOKEN ||
+                literalKind == SyntaxKind.HEX_INTEGER_LITERAL_TOKEN;
+        boolean floatingPoint = literalKind == SyntaxKind.DECIMAL_FLOATING_POINT_LITERAL_TOKEN ||
+                literalKind == SyntaxKind.HEX_FLOATING_POINT_LITERAL_TOKEN;
+        String suffix = literal.toSourceCode().trim();
+        suffix = suffix.isEmpty() ? "" : suffix.substring(suffix.length() - 1).toLowerCase(Locale.ENGLISH);
+        switch (typeName.kind()) {
+            case INT_TYPE_DESC:
+                return integer;
+            case BYTE_TYPE_DESC:
+                return integer && literal.kind() == SyntaxKind.NUMERIC_LITERAL && isByteValue(literal, literalKind);
+            case FLOAT_TYPE_DESC:
+                return integer || (floatingPoint && !suffix.equals("d"));
+            case DECIMAL_TYPE_DESC:
+                return integer || (literalKind == SyntaxKind.DECIMAL_FLOATING_POINT_LITERAL_TOKEN &&
+                        !suffix.equals("f"));
+            case STRING_TYPE_DESC:
+                return literalKind == SyntaxKind.STRING_LITERAL_TOKEN;
+            case BOOLEAN_TYPE_DESC:
+                return literalKind == SyntaxKind.TRUE_KEYWORD || literalKind == SyntaxKind.FALSE_KEYWORD;
+            case OPTIONAL_TYPE_DESC:
+                return literalKind == SyntaxKind.NIL_LITERAL || isAssignable(
+                        ((OptionalTypeDescriptorNode) typeName).typeDescriptor(), literalKind, literal);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isByteValue(ExpressionNode literal, SyntaxKind literalKind) {
+        String text = literal.toSourceCode().trim();
+        try {
+            long value = literalKind == SyntaxKind.HEX_INTEGER_LITERAL_TOKEN ?
+                    Long.parseLong(text.substring(2), 16) : Long.parseLong(text);
+            return value >= 0 && value <= 255;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String getPrefix(ImportDeclarationNode importNode) {
+        if (importNode.prefix().isPresent()) {
+            return importNode.prefix().get().prefix().text();
+        }
+        IdentifierToken lastNamePart = importNode.moduleName().get(importNode.moduleName().size() - 1);
+        return lastNamePart.text();
+    }
+
+    private void addUnsupportedTypeError(Node typeName, String fieldName) {
+        addError(typeName, String.format("Unsupported data type found for the field `%s`", fieldName));
+    }
+
+    private void addError(Node node, String message) {
+        addError(node.lineRange().startLine(), message);
+    }
+
+    private void addError(LinePosition position, String message) {
+        errors.add(String.format("ERROR [%s:(%d:%d)] %s", fileName, position.line() + 1, position.offset() + 1,
+                message));
+    }
+}
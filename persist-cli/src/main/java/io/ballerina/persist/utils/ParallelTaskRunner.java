@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs a task for each of the given inputs on a bounded worker pool. With a single worker, the tasks run on the
+ * calling thread and print to the given stream directly. With more workers, the messages printed by each task are
+ * buffered and printed in the order of the inputs, so that the command output stays the same regardless of the
+ * number of workers.
+ * <p>
+ * The tasks of the persist commands share the {@link ProjectContext}, the {@link GenerationManifest} and the
+ * {@link PhaseProfiler} of the command. Those keep their state in concurrent collections, and each task writes only
+ * the generated sources and the caches of its own data model.
+ *
+ * @since 0.1.0
+ */
+public class ParallelTaskRunner {
+
+    private ParallelTaskRunner() {
+    }
+
+    /**
+     * Task executed for a single input.
+     *
+     * @param <T> type of the input
+     * @param <R> type of the result
+     */
+    @FunctionalInterface
+    public interface Task<T, R> {
+        R run(T input, PrintStream outStream);
+    }
+
+    /**
+     * Runs the task for each input, and passes the result of each input to the result handler on the calling thread,
+     * in the order of the inputs. The result of an input is handled as soon as the inputs before it are handled, and
+     * after the messages printed by its task.
+     */
+    public static <T, R> void run(List<T> inputs, int jobs, PrintStream outStream, Task<T, R> task,
+                                  BiConsumer<T, R> resultHandler) {
+        int poolSize = Math.min(jobs, inputs.size());
+        if (poolSize <= 1) {
+            for (T input : inputs) {
+                resultHandler.accept(input, task.run(input, outStream));
+            }
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try {
+            List<Future<BufferedResult<R>>> futures = new ArrayList<>(inputs.size());
+            for (T input : inputs) {
+                futures.add(executor.submit(() -> execute(input, task)));
+            }
+            for (int i = 0; i < inputs.size(); i++) {
+                BufferedResult<R> result = futures.get(i).get();
+                outStream.print(result.output);
+                resultHandler.accept(inputs.get(i), result.value);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the generation tasks to complete.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T, R> BufferedResult<R> execute(T input, Task<T, R> task) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        R value;
+        try (PrintStream outStream = new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+            value = task.run(input, outStream);
+        }
+        return new BufferedResult<>(value, buffer.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Result of a task along with the messages printed while executing it.
+     */
+    private static class BufferedResult<R> {
+        private final R value;
+        private final String output;
+
+        private BufferedResult(R value, String output) {
+            this.value = value;
+            this.output = output;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event of a phase of a persist tool command.
+ *
+ * @since 0.1.0
+ */
+@Name("io.ballerina.persist.Phase")
+@Label("Persist Tool Phase")
+@Category({"Ballerina", "Persist"})
+@Description("A phase of a persist tool command, such as loading the project or formatting the generated sources")
+@StackTrace(false)
+class PhaseEvent extends Event {
+
+    @Label("Command")
+    String command;
+
+    @Label("Model")
+    String model;
+
+    @Label("Phase")
+    String phase;
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Measures the phases of a persist tool command. Each phase is emitted as a JDK Flight Recorder event, which costs
+ * next to nothing when no recording is running. When the timings are recorded, they can be printed as a table at
+ * the end of the command. The phases may be measured concurrently from several threads.
+ *
+ * @since 0.1.0
+ */
+public class PhaseProfiler {
+
+    public static final String PROJECT_MODEL = "-";
+    public static final String LOAD_PROJECT = "loadProject";
+    public static final String LOAD_BUILD_PROJECT = "loadBuildProject";
+    public static final String LOAD_SNAPSHOT = "loadModelSnapshot";
+    public static final String VALIDATE_MODEL = "validateSchemaFile";
+    public static final String POPULATE_ENTITIES = "populateEntities";
+    public static final String INFER_RELATIONS = "inferRelationDetails";
+    public static final String BUILD_SYNTAX_TREE = "buildSyntaxTree";
+    public static final String FORMAT = "format";
+    public static final String SPLICE_CLIENT = "spliceClient";
+    public static final String WRITE_FILES = "writeFiles";
+    public static final String GENERATE_SQL_SCRIPT = "generateSqlScript";
+    public static final String LOAD_JDBC_DRIVER = "loadJdbcDriver";
+    public static final String EXECUTE_DDL = "executeDdl";
+
+    private static final String MODEL_HEADER = "Model";
+    private static final String PHASE_HEADER = "Phase";
+    private static final String TIME_HEADER = "Time (ms)";
+    private static final String TOTAL_PHASE = "total";
+
+    private final String command;
+    private final boolean recordTimings;
+    private final Queue<Timing> timings = new ConcurrentLinkedQueue<>();
+
+    public PhaseProfiler(String command, boolean recordTimings) {
+        this.command = command;
+        this.recordTimings = recordTimings;
+    }
+
+    /**
+     * Starts measuring a phase. The phase ends when the returned phase is closed.
+     */
+    public Phase start(String model, String phase) {
+        return new Phase(model, phase);
+    }
+
+    /**
+     * Prints the total time of each phase per model, in the order in which the phases were first started. The
+     * printed timings are cleared, so that the next call prints only the phases measured after this call.
+     */
+    public void printTimings(PrintStream outStream) {
+        if (!recordTimings || timings.isEmpty()) {
+            return;
+        }
+        Map<String, Map<String, Long>> modelTimings = new TreeMap<>((model1, model2) -> {
+            if (model1.equals(model2)) {
+                return 0;
+            } else if (model1.equals(PROJECT_MODEL)) {
+                return -1;
+            } else if (model2.equals(PROJECT_MODEL)) {
+                return 1;
+            }
+            return model1.compareTo(model2);
+        });
+        Timing timing;
+        while ((timing = timings.poll()) != null) {
+            modelTimings.computeIfAbsent(timing.model, model -> new LinkedHashMap<>())
+                    .merge(timing.phase, timing.nanos, Long::sum);
+        }
+
+        List<String[]> rows = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Long>> modelTiming : modelTimings.entrySet()) {
+            long total = 0;
+            for (Map.Entry<String, Long> phaseTiming : modelTiming.getValue().entrySet()) {
+                rows.add(new String[]{modelTiming.getKey(), phaseTiming.getKey(), toMillis(phaseTiming.getValue())});
+                total += phaseTiming.getValue();
+            }
+            rows.add(new String[]{modelTiming.getKey(), TOTAL_PHASE, toMillis(total)});
+        }
+        int modelWidth = MODEL_HEADER.length();
+        int phaseWidth = PHASE_HEADER.length();
+        int timeWidth = TIME_HEADER.length();
+        for (String[] row : rows) {
+            modelWidth = Math.max(modelWidth, row[0].length());
+            phaseWidth = Math.max(phaseWidth, row[1].length());
+            timeWidth = Math.max(timeWidth, row[2].length());
+        }
+        String rowFormat = "%-" + modelWidth + "s  %-" + phaseWidth + "s  %" + timeWidth + "s%n";
+        outStream.printf("Phase timings of the `%s` command:%n", command);
+        outStream.printf(rowFormat, MODEL_HEADER, PHASE_HEADER, TIME_HEADER);
+        for (String[] row : rows) {
+            outStream.printf(rowFormat, (Object[]) row);
+        }
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Phase being measured.
+     */
+    public class Phase implements AutoCloseable {
+
+        private final String model;
+        private final String phase;
+        private final PhaseEvent event;
+        private final long startTime;
+
+        private Phase(String model, String phase) {
+            this.model = model;
+            this.phase = phase;
+            this.event = new PhaseEvent();
+            this.event.begin();
+            this.startTime = recordTimings ? System.nanoTime() : 0;
+        }
+
+        @Override
+        public void close() {
+            if (recordTimings) {
+                timings.add(new Timing(model, phase, System.nanoTime() - startTime));
+            }
+            if (event.shouldCommit()) {
+                event.command = command;
+                event.model = model;
+                event.phase = phase;
+                event.commit();
+            }
+        }
+    }
+
+    private static class Timing {
+        private final String model;
+        private final String phase;
+        private final long nanos;
+
+        private Timing(String model, String phase, long nanos) {
+            this.model = model;
+            this.phase = phase;
+            this.nanos = nanos;
+        }
+    }
+}
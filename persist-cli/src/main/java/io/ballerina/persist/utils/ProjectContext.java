@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.persist.utils;
+
+import io.ballerina.persist.BalException;
+import io.ballerina.persist.models.Module;
+import io.ballerina.persist.nodegenerator.TomlSyntaxGenerator;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.directory.ProjectLoader;
+import io.ballerina.projects.directory.SingleFileProject;
+import io.ballerina.projects.util.ProjectUtils;
+import io.ballerina.toml.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.ballerina.persist.PersistToolsConstants.PERSIST_DIRECTORY;
+import static io.ballerina.projects.util.ProjectConstants.BALLERINA_TOML;
+
+/**
+ * State of a Ballerina project shared by the phases of a persist command. The Ballerina project, the Ballerina.toml
+ * file and the model definition files are loaded at most once per command, and reused by all the data models.
+ * <p>
+ * The project is detected and the package name is read from the Ballerina.toml file. The Ballerina project is loaded
+ * only when a phase needs it, such as resolving the database driver of the push command.
+ *
+ * @since 0.1.0
+ */
+public class ProjectContext {
+
+    private static final String MODEL_FILE_EXTENSION = ".bal";
+
+    private final Path projectPath;
+    private final PhaseProfiler profiler;
+    private final Map<Path, String> modelSources = new ConcurrentHashMap<>();
+    private final Map<Path, Module> models = new ConcurrentHashMap<>();
+    private final Map<Path, SingleFileProject> modelProjects = new ConcurrentHashMap<>();
+    private String packageName;
+    private Project project;
+    private BuildProject buildProject;
+    private SyntaxTree ballerinaToml;
+
+    private ProjectContext(Path projectPath, PhaseProfiler profiler) {
+        this.projectPath = projectPath;
+        this.profiler = profiler;
+    }
+
+    /**
+     * Loads the Ballerina project in the given path. The package name is read from the Ballerina.toml file if the
+     * path is the root of a Ballerina project with a valid package name. Otherwise, the project is loaded with the
+     * project loader, which also reports the paths that are not inside a Ballerina project.
+     *
+     * @throws io.ballerina.projects.ProjectException if the path is not inside a Ballerina project
+     */
+    public static ProjectContext load(Path projectPath, PhaseProfiler profiler) {
+        ProjectContext context = new ProjectContext(projectPath, profiler);
+        context.loadProject();
+        return context;
+    }
+
+    /**
+     * Wraps a Ballerina project which is already loaded, such as the project of an ongoing build, so that it is
+     * reused instead of loading the project again.
+     */
+    public static ProjectContext from(Project project, PhaseProfiler profiler) {
+        ProjectContext context = new ProjectContext(project.sourceRoot(), profiler);
+        context.packageName = project.currentPackage().packageName().value();
+        context.project = project;
+        return context;
+    }
+
+    private void loadProject() {
+        try (PhaseProfiler.Phase phase = profiler.start(PhaseProfiler.PROJECT_MODEL, PhaseProfiler.LOAD_PROJECT)) {
+            Path ballerinaTomlPath = projectPath.resolve(BALLERINA_TOML);
+            if (Files.isRegularFile(ballerinaTomlPath)) {
+                try {
+                    SyntaxTree tomlTree = SyntaxTree.from(TextDocuments.from(Files.readString(ballerinaTomlPath)));
+                    Optional<String> tomlPackageName = TomlSyntaxGenerator.readPackageName(tomlTree);
+                    if (tomlPackageName.isPresent() && ProjectUtils.validatePackageName(tomlPackageName.get())) {
+                        packageName = tomlPackageName.get();
+                        project = null;
+                        ballerinaToml = tomlTree;
+                        return;
+                    }
+                } catch (IOException e) {
+                    // The project loader reports the errors of the Ballerina.toml file.
+                }
+            }
+            Project loadedProject = ProjectLoader.loadProject(projectPath);
+            packageName = loadedProject.currentPackage().packageName().value();
+            project = loadedProject;
+            ballerinaToml = null;
+        }
+    }
+
+    public Path getProjectPath() {
+        return projectPath;
+    }
+
+    public Path getPersistDirectory() {
+        return projectPath.resolve(PERSIST_DIRECTORY);
+    }
+
+    public PhaseProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Returns the Ballerina project. The project is loaded on the first call, hence it should only be used by the
+     * phases which need the package resolution.
+     */
+    public synchronized BuildProject getBuildProject() {
+        if (buildProject == null) {
+            if (project instanceof BuildProject) {
+                buildProject = (BuildProject) project;
+            } else {
+                try (PhaseProfiler.Phase phase = profiler.start(PhaseProfiler.PROJECT_MODEL,
+                        PhaseProfiler.LOAD_BUILD_PROJECT)) {
+                    buildProject = BuildProject.load(projectPath.toAbsolutePath());
+                }
+            }
+        }
+        return buildProject;
+    }
+
+    public synchronized String getPackageName() {
+        return packageName;
+    }
+
+    public synchronized SyntaxTree getBallerinaToml() throws BalException {
+        if (ballerinaToml == null) {
+            try {
+                ballerinaToml = SyntaxTree.from(TextDocuments.from(Files.readString(projectPath.resolve(
+                        BALLERINA_TOML))));
+            } catch (IOException e) {
+                throw new BalException("Error while reading configurations. " + e.getMessage());
+            }
+        }
+        return ballerinaToml;
+    }
+
+    /**
+     * Returns the model definition files in the persist directory, sorted by the file name.
+     */
+    public List<Path> listModelFiles() throws IOException {
+        try (Stream<Path> stream = Files.list(getPersistDirectory())) {
+            return stream.filter(file -> !Files.isDirectory(file))
+                    .filter(ProjectContext::isModelFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    public static boolean isModelFile(Path file) {
+        return file.toString().toLowerCase(Locale.ENGLISH).endsWith(MODEL_FILE_EXTENSION);
+    }
+
+    public String getModelSource(Path modelFile) throws BalException {
+        Path key = modelFile.toAbsolutePath().normalize();
+        String modelSource = modelSources.get(key);
+        if (modelSource == null) {
+            try {
+                modelSource = Files.readString(modelFile);
+            } catch (IOException e) {
+                throw new BalException("Error while reading the model definition file. " + e.getMessage());
+            }
+            modelSources.put(key, modelSource);
+        }
+        return modelSource;
+    }
+
+    /**
+     * Returns the validated entities of the given model definition file.
+     */
+    public Module getEntities(Path modelFile) throws BalException {
+        Path key = modelFile.toAbsolutePath().normalize();
+        Module entityModule = models.get(key);
+        if (entityModule == null) {
+            entityModule = BalProjectUtils.loadEntities(this, modelFile, getModelSource(modelFile));
+            models.put(key, entityModule);
+        }
+        return entityModule;
+    }
+
+    /**
+     * Compiles the given source of the model definition file as a single file project. The project of each model
+     * definition file is kept when the context is refreshed, and only its document is updated, so that the model
+     * definition files compiled again in the watch mode reuse the dependencies resolved by the first compilation.
+     */
+    PackageCompilation compileModel(Path modelFile, String modelSource) {
+        Path key = modelFile.toAbsolutePath().normalize();
+        SingleFileProject modelProject = modelProjects.get(key);
+        if (modelProject == null) {
+            // The project is loaded outside the map, since loading it resolves the dependencies and would block the
+            // other models in the same bin of the map. A project loaded concurrently for the same file is dropped.
+            SingleFileProject loadedProject = SingleFileProject.load(key);
+            modelProject = modelProjects.putIfAbsent(key, loadedProject);
+            if (modelProject == null) {
+                modelProject = loadedProject;
+            }
+        }
+        io.ballerina.projects.Module module = modelProject.currentPackage().getDefaultModule();
+        DocumentId documentId = module.documentIds().iterator().next();
+        Document document = module.document(documentId);
+        return document.modify().withContent(modelSource).apply().module().packageInstance().getCompilation();
+    }
+
+    /**
+     * Discards the loaded Ballerina project, Ballerina.toml file and model definition files, and reads the package
+     * name again, so that the changes made to the files after they are loaded are visible to the next phases.
+     *
+     * @throws io.ballerina.projects.ProjectException if the path is no longer a valid Ballerina project
+     */
+    public synchronized void refresh() {
+        buildProject = null;
+        modelSources.clear();
+        models.clear();
+        loadProject();
+    }
+}
@@ -25,7 +25,6 @@ import io.ballerina.persist.models.Relation;
 
 import java.io.IOException;
 import java.io.PrintStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.MessageFormat;
@@ -72,9 +71,7 @@ public class SqlScriptGenerationUtils {
             sqlScript.append(script).append(NEW_LINE);
         }
         try {
-            Files.deleteIfExists(path);
-            Files.createFile(path);
-            Files.writeString(path, sqlScript);
+            FileUtils.writeIfChanged(path, sqlScript.toString());
         } catch (IOException e) {
             PrintStream errStream = System.err;
             errStream.println("Error while updating the SQL script file (persist_db_push.sql) in the project " +
@@ -26,4 +26,5 @@ module io.ballerina.persist {
     requires io.ballerina.parser;
     requires io.ballerina.formatter.core;
     requires java.sql;
+    requires jdk.jfr;
 }